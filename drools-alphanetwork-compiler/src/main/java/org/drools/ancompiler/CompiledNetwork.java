@@ -197,6 +197,11 @@ public abstract class CompiledNetwork implements ObjectSinkPropagator {
         originalSinkPropagator.changeSinkPartition(sink, oldPartition, newPartition, alphaNodeHashingThreshold, alphaNodeRangeIndexThreshold);
     }
 
+    @Override
+    public void descendantSinksChanged() {
+        originalSinkPropagator.descendantSinksChanged();
+    }
+
     @Override
     public BaseNode getMatchingNode(BaseNode candidate) {
         return originalSinkPropagator.getMatchingNode(candidate);
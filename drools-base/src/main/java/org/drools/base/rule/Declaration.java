@@ -229,6 +229,11 @@ public class Declaration implements Externalizable, AcceptsReadAccessor, TupleVa
         return getValue( valueResolver, tuple.get( this ) );
     }
 
+    @Override
+    public long getLongValue(BaseTuple tuple) {
+        return this.readAccessor.getLongValue( null, tuple.get( this ).getObject() );
+    }
+
     public Object getValue(ValueResolver valueResolver, FactHandle fh) {
         return getValue( valueResolver, fh.getObject() );
     }
@@ -40,6 +40,11 @@ public class RightTupleValueExtractor implements TupleValueExtractor {
         return extractor.getValue(valueResolver, tuple.getFactHandle().getObject());
     }
 
+    @Override
+    public long getLongValue(BaseTuple tuple) {
+        return extractor.getLongValue(null, tuple.getFactHandle().getObject());
+    }
+
     @Override
     public TupleValueExtractor clone() {
         return new RightTupleValueExtractor(extractor);
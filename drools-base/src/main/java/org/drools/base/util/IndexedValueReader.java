@@ -18,6 +18,7 @@
  */
 package org.drools.base.util;
 
+import org.drools.base.base.ValueType;
 import org.drools.base.reteoo.BaseTuple;
 import org.drools.base.rule.accessor.TupleValueExtractor;
 
@@ -78,4 +79,20 @@ public class IndexedValueReader implements Externalizable {
                         leftExtractor.getValue(tuple)) :
                 rightExtractor.getValue(tuple);
     }
+
+    /**
+     * Reads the indexed value as a primitive long, without boxing it. This can be used only when
+     * both the extractors read the same integer primitive type, so that no coercion is required.
+     */
+    public long indexedLongValueOf(BaseTuple tuple, boolean left) {
+        return left ? leftExtractor.getLongValue(tuple) : rightExtractor.getLongValue(tuple);
+    }
+
+    public boolean isPrimitiveLongIndexable() {
+        return !requiresCoercion && rightExtractor.getValueType().isIntegerNumber() && rightExtractor.getValueType().getClassType().isPrimitive();
+    }
+
+    public boolean isStringIndexable() {
+        return !requiresCoercion && rightExtractor.getValueType() == ValueType.STRING_TYPE;
+    }
 }
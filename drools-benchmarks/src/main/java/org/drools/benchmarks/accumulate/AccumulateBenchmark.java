@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.accumulate;
+
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.drools.benchmarks.domain.Facts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Accumulates the balances of the accounts either globally or grouped by customer.
+ * The grouped variant is written as an accumulate joined with its group key, which is
+ * what a groupBy is rewritten to, so it can be compiled by both the builders.
+ */
+public class AccumulateBenchmark extends AbstractBenchmark {
+
+    @Param({"sum", "average", "count", "min"})
+    private String function;
+
+    @Param({"false", "true"})
+    private boolean grouped;
+
+    @Param({"100", "1000"})
+    private int customersNr;
+
+    @Param({"10"})
+    private int accountsPerCustomer;
+
+    private List<Customer> customers;
+    private List<Account> accounts;
+
+    @Setup
+    public void setupFacts() {
+        customers = Facts.customers(customersNr);
+        accounts = Facts.accounts(customersNr, accountsPerCustomer);
+    }
+
+    @Override
+    protected String getDrl() {
+        String accumulateArg = function.equals("count") ? "" : "$b";
+        return "import " + Customer.class.getCanonicalName() + ";\n" +
+               "import " + Account.class.getCanonicalName() + ";\n" +
+               "rule Accumulate when\n" +
+               (grouped ? "  $c : Customer()\n" : "") +
+               "  accumulate( Account( " + (grouped ? "customerId == $c.id, " : "") + "$b : balance ); " +
+               "$r : " + function + "(" + accumulateArg + ") )\n" +
+               "then end\n";
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+        for (Customer customer : customers) {
+            kieSession.insert(customer);
+        }
+    }
+
+    @Benchmark
+    public int accumulate() {
+        for (Account account : accounts) {
+            kieSession.insert(account);
+        }
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.cep;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.StockTick;
+import org.kie.api.KieServices;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.time.SessionPseudoClock;
+import org.kie.internal.runtime.conf.TimingWheelOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inserts events expiring after one hour, so that all their expiration timers are pending
+ * at the same time, and then advances the pseudo clock to make them all expire, comparing
+ * the timer service based on a priority queue with the one based on a timing wheel.
+ * With 10M events it needs a heap of several GBs, e.g. -jvmArgs -Xmx16g.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExpirationBenchmark extends AbstractBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int eventsNr;
+
+    @Param({"false", "true"})
+    private boolean timingWheel;
+
+    private SessionPseudoClock clock;
+
+    @Override
+    protected String getDrl() {
+        return "import " + StockTick.class.getCanonicalName() + ";\n" +
+               "declare StockTick @role( event ) @expires( 1h ) end\n" +
+               "rule Tick when\n" +
+               "  StockTick( price > 10 )\n" +
+               "then end\n";
+    }
+
+    @Override
+    protected KieBaseOption[] getKieBaseOptions() {
+        return new KieBaseOption[] { EventProcessingOption.STREAM };
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ClockTypeOption.PSEUDO);
+        conf.setOption(timingWheel ? TimingWheelOption.YES : TimingWheelOption.NO);
+        kieSession = kieBase.newKieSession(conf, null);
+        clock = kieSession.getSessionClock();
+    }
+
+    @Benchmark
+    public long expire() {
+        for (int i = 0; i < eventsNr; i++) {
+            kieSession.insert(new StockTick("ACME", i % 1000));
+            // spreads the timers over 10M / 10 ms, less than the expiration
+            if (i % 10 == 0) {
+                clock.advanceTime(1, TimeUnit.MILLISECONDS);
+            }
+        }
+        kieSession.fireAllRules();
+        clock.advanceTime(2, TimeUnit.HOURS);
+        kieSession.fireAllRules();
+        return kieSession.getFactCount();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.cep;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.StockTick;
+import org.kie.api.KieServices;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.time.SessionPseudoClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Streams events into a session using the pseudo clock, advancing it at each insertion,
+ * so that the measured time includes both the window insertions and the event expirations.
+ */
+public class SlidingWindowBenchmark extends AbstractBenchmark {
+
+    private static final String[] SYMBOLS = { "ACME", "RHT", "IBM", "ASF" };
+
+    @Param({"time(1s)", "length(1000)"})
+    private String window;
+
+    @Param({"10000", "100000"})
+    private int eventsNr;
+
+    @Param({"100"})
+    private int fireEvery;
+
+    private SessionPseudoClock clock;
+
+    @Override
+    protected String getDrl() {
+        return "import " + StockTick.class.getCanonicalName() + ";\n" +
+               "declare StockTick @role( event ) end\n" +
+               "rule Window when\n" +
+               "  accumulate( StockTick( symbol == \"ACME\", $p : price ) over window:" + window + "; $avg : average($p) )\n" +
+               "then end\n";
+    }
+
+    @Override
+    protected KieBaseOption[] getKieBaseOptions() {
+        return new KieBaseOption[] { EventProcessingOption.STREAM };
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ClockTypeOption.PSEUDO);
+        kieSession = kieBase.newKieSession(conf, null);
+        clock = kieSession.getSessionClock();
+    }
+
+    @Benchmark
+    public long stream() {
+        long fired = 0;
+        for (int i = 0; i < eventsNr; i++) {
+            kieSession.insert(new StockTick(SYMBOLS[i % SYMBOLS.length], i % 1000));
+            clock.advanceTime(1, TimeUnit.MILLISECONDS);
+            if (i % fireEvery == 0) {
+                fired += kieSession.fireAllRules();
+            }
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.common;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.KieBase;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class of all the benchmarks: builds the kbase once per trial, for each of
+ * the {@link BuildType}s, and disposes after every invocation the session created
+ * by subclasses, if any, so that each measured operation starts from a fresh session.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class AbstractBenchmark {
+
+    @Param({"EXEC_MODEL", "MVEL"})
+    protected BuildType buildType;
+
+    protected KieBase kieBase;
+    protected KieSession kieSession;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        kieBase = KieBaseBuilder.build(buildType, getDrl(), getKieBaseOptions());
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeKieSession() {
+        if (kieSession != null) {
+            kieSession.dispose();
+            kieSession = null;
+        }
+    }
+
+    protected abstract String getDrl();
+
+    protected KieBaseOption[] getKieBaseOptions() {
+        return new KieBaseOption[0];
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic generators of the facts used by the benchmarks, so that runs
+ * are comparable across JVMs and engine versions.
+ */
+public final class Facts {
+
+    public static final String[] REGIONS = { "EMEA", "APAC", "NA", "LATAM" };
+
+    private Facts() { }
+
+    public static List<Customer> customers(int count) {
+        List<Customer> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            customers.add(new Customer(i, REGIONS[i % REGIONS.length], 18 + (i % 60)));
+        }
+        return customers;
+    }
+
+    public static List<Account> accounts(int customers, int accountsPerCustomer) {
+        List<Account> accounts = new ArrayList<>(customers * accountsPerCustomer);
+        long id = 0;
+        for (int i = 0; i < customers; i++) {
+            for (int j = 0; j < accountsPerCustomer; j++) {
+                accounts.add(new Account(id++, i, (id * 31) % 10_000));
+            }
+        }
+        return accounts;
+    }
+}
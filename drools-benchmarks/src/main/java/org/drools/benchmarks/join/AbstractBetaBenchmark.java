@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.join;
+
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.drools.benchmarks.domain.Facts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Inserts customers and their accounts and fires the rules, so that the measured time is
+ * dominated by the left and right propagations through the beta node under test.
+ */
+public abstract class AbstractBetaBenchmark extends AbstractBenchmark {
+
+    @Param({"1000", "10000"})
+    protected int customersNr;
+
+    @Param({"1", "10"})
+    protected int accountsPerCustomer;
+
+    private List<Customer> customers;
+    private List<Account> accounts;
+
+    @Setup
+    public void setupFacts() {
+        customers = Facts.customers(customersNr);
+        // customers with an odd id have no accounts, so that not and exists have both outcomes
+        accounts = Facts.accounts(customersNr, accountsPerCustomer).stream()
+                .filter(a -> a.getCustomerId() % 2 == 0)
+                .toList();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        for (Account account : accounts) {
+            kieSession.insert(account);
+        }
+        for (Customer customer : customers) {
+            kieSession.insert(customer);
+        }
+        return kieSession.fireAllRules();
+    }
+
+    protected String imports() {
+        return "import " + Customer.class.getCanonicalName() + ";\n" +
+               "import " + Account.class.getCanonicalName() + ";\n";
+    }
+}
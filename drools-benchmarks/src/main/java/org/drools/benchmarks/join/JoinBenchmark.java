@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.join;
+
+public class JoinBenchmark extends AbstractBetaBenchmark {
+
+    @Override
+    protected String getDrl() {
+        return imports() +
+               "rule Join when\n" +
+               "  $c : Customer( age > 20 )\n" +
+               "  $a : Account( customerId == $c.id )\n" +
+               "then end\n" +
+               "rule JoinNonIndexed when\n" +
+               "  $c : Customer( region == \"NA\" )\n" +
+               "  $a : Account( customerId == $c.id, balance > $c.age * 100 )\n" +
+               "then end\n";
+    }
+}
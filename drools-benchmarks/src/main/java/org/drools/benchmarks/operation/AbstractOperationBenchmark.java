@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.operation;
+
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.drools.benchmarks.domain.Facts;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Shared rules and facts of the benchmarks measuring the working memory operations:
+ * alpha constraints on both types and a join between them, so that each operation
+ * walks the alpha network and stages tuples in the beta memories.
+ */
+public abstract class AbstractOperationBenchmark extends AbstractBenchmark {
+
+    @Param({"1000", "10000"})
+    protected int factsNr;
+
+    protected List<Customer> customers;
+    protected List<Account> accounts;
+
+    @Setup
+    public void setupFacts() {
+        customers = Facts.customers(factsNr);
+        accounts = Facts.accounts(factsNr, 1);
+    }
+
+    @Override
+    protected String getDrl() {
+        return "import " + Customer.class.getCanonicalName() + ";\n" +
+               "import " + Account.class.getCanonicalName() + ";\n" +
+               "rule R1 when\n" +
+               "  $c : Customer( age > 30 )\n" +
+               "  $a : Account( customerId == $c.id, balance > 5000 )\n" +
+               "then end\n" +
+               "rule R2 when\n" +
+               "  $c : Customer( region == \"APAC\" )\n" +
+               "then end\n";
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.operation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+public class UpdateBenchmark extends AbstractOperationBenchmark {
+
+    private List<FactHandle> accountHandles;
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+        for (Customer customer : customers) {
+            kieSession.insert(customer);
+        }
+        accountHandles = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            accountHandles.add(kieSession.insert(account));
+        }
+        kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public void update() {
+        for (int i = 0; i < accountHandles.size(); i++) {
+            Account account = accounts.get(i);
+            account.setBalance(10_000 - account.getBalance());
+            kieSession.update(accountHandles.get(i), account, "balance");
+        }
+    }
+}
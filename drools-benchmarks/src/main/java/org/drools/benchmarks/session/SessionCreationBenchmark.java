@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.session;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class SessionCreationBenchmark extends AbstractBenchmark {
+
+    @Override
+    protected String getDrl() {
+        return "import " + Customer.class.getCanonicalName() + ";\n" +
+               "import " + Account.class.getCanonicalName() + ";\n" +
+               "rule R1 when\n" +
+               "  $c : Customer( age > 40 )\n" +
+               "  Account( customerId == $c.id, balance > 1000 )\n" +
+               "then end\n" +
+               "rule R2 when\n" +
+               "  $c : Customer( region == \"EMEA\" )\n" +
+               "  not Account( customerId == $c.id )\n" +
+               "then end\n";
+    }
+
+    @Benchmark
+    public KieSession newKieSession() {
+        kieSession = kieBase.newKieSession();
+        return kieSession;
+    }
+}
@@ -37,6 +37,7 @@ import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.ResultSeverity;
 import org.kie.internal.builder.conf.DefaultDialectOption;
 import org.kie.internal.builder.conf.DefaultPackageNameOption;
+import org.kie.internal.builder.conf.CompilationCacheDirOption;
 import org.kie.internal.builder.conf.DumpDirOption;
 import org.kie.internal.builder.conf.KBuilderSeverityOption;
 import org.kie.internal.builder.conf.KnowledgeBuilderOption;
@@ -88,6 +89,7 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
 
     private DefaultDialectOption              defaultDialect = DefaultDialectOption.get("java");
     private File                              dumpDirectory;
+    private File                              compilationCacheDirectory;
 
     private String                            defaultPackageName;
 
@@ -109,6 +111,8 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
 
         buildDumpDirectory();
 
+        buildCompilationCacheDirectory();
+
         buildSeverityMap();
 
         setProperty(DefaultPackageNameOption.PROPERTY_NAME,
@@ -142,6 +146,9 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
             } case DumpDirOption.PROPERTY_NAME: {
                 buildDumpDirectory(value);
                 break;
+            } case CompilationCacheDirOption.PROPERTY_NAME: {
+                buildCompilationCacheDirectory(value);
+                break;
             } case DefaultPackageNameOption.PROPERTY_NAME: {
                 setDefaultPackageName(value);
                 break;
@@ -166,6 +173,8 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
                 return getDefaultPackageName();
             } case DumpDirOption.PROPERTY_NAME: {
                 return this.dumpDirectory != null ? this.dumpDirectory.toString() : null;
+            } case CompilationCacheDirOption.PROPERTY_NAME: {
+                return this.compilationCacheDirectory != null ? this.compilationCacheDirectory.toString() : null;
             } default: {
                 if (name.startsWith(KBuilderSeverityOption.PROPERTY_NAME)) {
                     String key = name.substring(name.lastIndexOf('.') + 1);
@@ -248,6 +257,32 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
         this.dumpDirectory = dumpDir;
     }
 
+    private void buildCompilationCacheDirectory() {
+        String cacheStr = getProperties().getProperty(CompilationCacheDirOption.PROPERTY_NAME,
+                                                      null);
+        buildCompilationCacheDirectory(cacheStr);
+    }
+
+    private void buildCompilationCacheDirectory(String cacheStr) {
+        if (cacheStr != null && !cacheStr.trim().isEmpty()) {
+            setCompilationCacheDir(new File(cacheStr.trim()));
+        }
+    }
+
+    public File getCompilationCacheDir() {
+        return this.compilationCacheDirectory;
+    }
+
+    public void setCompilationCacheDir(File cacheDir) {
+        if (cacheDir != null) {
+            cacheDir.mkdirs();
+            if (!cacheDir.isDirectory() || !cacheDir.canWrite() || !cacheDir.canRead()) {
+                throw new RuntimeException("Drools compilation cache directory is not accessible: " + cacheDir.toString());
+            }
+        }
+        this.compilationCacheDirectory = cacheDir;
+    }
+
     public String getDefaultPackageName() {
         return defaultPackageName;
     }
@@ -265,6 +300,9 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
             case DumpDirOption.PROPERTY_NAME: {
                 return (T) DumpDirOption.get(this.dumpDirectory);
             }
+            case CompilationCacheDirOption.PROPERTY_NAME: {
+                return (T) CompilationCacheDirOption.get(this.compilationCacheDirectory);
+            }
             case DefaultPackageNameOption.PROPERTY_NAME: {
                 return (T) DefaultPackageNameOption.get(this.defaultPackageName);
             }
@@ -306,6 +344,10 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
                 this.dumpDirectory = ((DumpDirOption) option).getDirectory();
                 break;
             }
+            case CompilationCacheDirOption.PROPERTY_NAME: {
+                setCompilationCacheDir(((CompilationCacheDirOption) option).getDirectory());
+                break;
+            }
             case DefaultPackageNameOption.PROPERTY_NAME: {
                 setDefaultPackageName(((DefaultPackageNameOption) option).getPackageName());
                 break;
@@ -41,8 +41,10 @@ import org.kie.internal.builder.conf.ExternaliseCanonicalModelLambdaOption;
 import org.kie.internal.builder.conf.GroupDRLsInKieBasesByFolderOption;
 import org.kie.internal.builder.conf.KnowledgeBuilderOption;
 import org.kie.internal.builder.conf.LanguageLevelOption;
+import org.kie.internal.builder.conf.LazyConsequenceLoadingOption;
 import org.kie.internal.builder.conf.MultiValueKieBuilderOption;
 import org.kie.internal.builder.conf.ParallelLambdaExternalizationOption;
+import org.kie.internal.builder.conf.ParallelPackageBuildOption;
 import org.kie.internal.builder.conf.ParallelRulesBuildThresholdOption;
 import org.kie.internal.builder.conf.ProcessStringEscapesOption;
 import org.kie.internal.builder.conf.PropertySpecificOption;
@@ -68,6 +70,7 @@ import org.slf4j.LoggerFactory;
  * drools.dump.dir = <String>
  * drools.classLoaderCacheEnabled = true|false
  * drools.parallelRulesBuildThreshold = <int>
+ * drools.parallelPackageBuild = true|false
  *
  * default dialect is java.
  * Available preconfigured Accumulate functions are:
@@ -104,6 +107,8 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
 
     private boolean                           externaliseCanonicalModelLambda       = true;
     private boolean                           parallelLambdaExternalization         = true;
+    private boolean                           parallelPackageBuild                  = false;
+    private boolean                           lazyConsequenceLoading                = false;
 
     private AlphaNetworkCompilerOption        alphaNetworkCompilerOption            = AlphaNetworkCompilerOption.DISABLED;
 
@@ -165,6 +170,12 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
         setProperty(ParallelLambdaExternalizationOption.PROPERTY_NAME,
                     getPropertyValue(ParallelLambdaExternalizationOption.PROPERTY_NAME,"true"));
 
+        setProperty(ParallelPackageBuildOption.PROPERTY_NAME,
+                    getPropertyValue(ParallelPackageBuildOption.PROPERTY_NAME,"false"));
+
+        setProperty(LazyConsequenceLoadingOption.PROPERTY_NAME,
+                    getPropertyValue(LazyConsequenceLoadingOption.PROPERTY_NAME,"false"));
+
         setProperty(ReproducibleExecutableModelGenerationOption.PROPERTY_NAME,
                     getPropertyValue(ReproducibleExecutableModelGenerationOption.PROPERTY_NAME,"false"));
     }
@@ -211,6 +222,12 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
             } case ParallelLambdaExternalizationOption.PROPERTY_NAME: {
                 setParallelLambdaExternalization(Boolean.parseBoolean(value));
                 break;
+            } case ParallelPackageBuildOption.PROPERTY_NAME: {
+                setParallelPackageBuild(Boolean.parseBoolean(value));
+                break;
+            } case LazyConsequenceLoadingOption.PROPERTY_NAME: {
+                setLazyConsequenceLoading(Boolean.parseBoolean(value));
+                break;
             } case ReproducibleExecutableModelGenerationOption.PROPERTY_NAME: {
                 setReproducibleExecutableModelGeneration(Boolean.parseBoolean(value));
                 break;
@@ -252,6 +269,10 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
                 return String.valueOf(isExternaliseCanonicalModelLambda());
             } case ParallelLambdaExternalizationOption.PROPERTY_NAME: {
                 return String.valueOf(isParallelLambdaExternalization());
+            } case ParallelPackageBuildOption.PROPERTY_NAME: {
+                return String.valueOf(isParallelPackageBuild());
+            } case LazyConsequenceLoadingOption.PROPERTY_NAME: {
+                return String.valueOf(isLazyConsequenceLoading());
             } case ReproducibleExecutableModelGenerationOption.PROPERTY_NAME: {
                 return String.valueOf(isReproducibleExecutableModelGeneration());
             } default: {
@@ -422,6 +443,22 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
         this.parallelLambdaExternalization = parallelLambdaExternalization;
     }
 
+    public boolean isParallelPackageBuild() {
+        return parallelPackageBuild;
+    }
+
+    public void setParallelPackageBuild(boolean parallelPackageBuild) {
+        this.parallelPackageBuild = parallelPackageBuild;
+    }
+
+    public boolean isLazyConsequenceLoading() {
+        return lazyConsequenceLoading;
+    }
+
+    public void setLazyConsequenceLoading(boolean lazyConsequenceLoading) {
+        this.lazyConsequenceLoading = lazyConsequenceLoading;
+    }
+
     public boolean isReproducibleExecutableModelGeneration() {
         return reproducibleExecutableModelGeneration;
     }
@@ -462,6 +499,12 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
             case ParallelLambdaExternalizationOption.PROPERTY_NAME: {
                 return (T) (parallelLambdaExternalization ? ParallelLambdaExternalizationOption.ENABLED : ParallelLambdaExternalizationOption.DISABLED);
             }
+            case ParallelPackageBuildOption.PROPERTY_NAME: {
+                return (T) (parallelPackageBuild ? ParallelPackageBuildOption.ENABLED : ParallelPackageBuildOption.DISABLED);
+            }
+            case LazyConsequenceLoadingOption.PROPERTY_NAME: {
+                return (T) (lazyConsequenceLoading ? LazyConsequenceLoadingOption.ENABLED : LazyConsequenceLoadingOption.DISABLED);
+            }
             case ReproducibleExecutableModelGenerationOption.PROPERTY_NAME: {
                 return (T) (reproducibleExecutableModelGeneration ? ReproducibleExecutableModelGenerationOption.ENABLED : ReproducibleExecutableModelGenerationOption.DISABLED);
             }
@@ -545,6 +588,14 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
                 this.parallelLambdaExternalization = ((ParallelLambdaExternalizationOption) option).isLambdaExternalizationParallel();
                 break;
             }
+            case ParallelPackageBuildOption.PROPERTY_NAME: {
+                this.parallelPackageBuild = ((ParallelPackageBuildOption) option).isPackageBuildParallel();
+                break;
+            }
+            case LazyConsequenceLoadingOption.PROPERTY_NAME: {
+                this.lazyConsequenceLoading = ((LazyConsequenceLoadingOption) option).isConsequenceLoadingLazy();
+                break;
+            }
             case ReproducibleExecutableModelGenerationOption.PROPERTY_NAME: {
                 this.reproducibleExecutableModelGeneration = ((ReproducibleExecutableModelGenerationOption) option).isReproducibleExecutableModelGeneration();
                 break;
@@ -19,10 +19,13 @@
 package org.drools.compiler.builder.impl;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.drools.compiler.builder.impl.resources.ResourceHandler;
 import org.drools.compiler.lang.descr.CompositePackageDescr;
@@ -32,15 +35,18 @@ import org.kie.api.builder.ReleaseId;
 import org.kie.api.io.Resource;
 import org.kie.api.io.ResourceType;
 import org.kie.internal.builder.KnowledgeBuilderResult;
+import org.kie.internal.builder.conf.ParallelPackageBuildOption;
 
 public class PackageDescrBuilder {
     private final BuildResultCollector buildResultCollector;
     private ResourceHandlerManager handlerManager;
     private RuntimeException buildException;
+    private final boolean parallelParsing;
 
     public PackageDescrBuilder(KnowledgeBuilderConfigurationImpl configuration, ReleaseId releaseId, Supplier<DefaultExpander> dslExpander) {
         this.buildResultCollector = new BuildResultCollectorImpl();
         this.handlerManager = new ResourceHandlerManager(configuration,releaseId,dslExpander);
+        this.parallelParsing = configuration.getOption(ParallelPackageBuildOption.KEY).isPackageBuildParallel();
     }
 
     public Collection<CompositePackageDescr> build(Map<ResourceType, List<CompositeKnowledgeBuilderImpl.ResourceDescr>> resourcesByType) {
@@ -68,6 +74,10 @@ public class PackageDescrBuilder {
             Map<ResourceType, List<CompositeKnowledgeBuilderImpl.ResourceDescr>> resourcesByType) {
         List<CompositeKnowledgeBuilderImpl.ResourceDescr> resourceDescrs = resourcesByType.remove(resourceType);
         if (resourceDescrs != null) {
+            if (parallelParsing && resourceDescrs.size() > 1 && mapper.newConcurrentHandler() != null) {
+                buildResourceInParallel(packages, mapper, resourceDescrs);
+                return;
+            }
             for (CompositeKnowledgeBuilderImpl.ResourceDescr resourceDescr : resourceDescrs) {
                 try {
                     PackageDescr packageDescr = mapper.process(resourceDescr.resource, resourceDescr.configuration);
@@ -86,6 +96,58 @@ public class PackageDescrBuilder {
         }
     }
 
+    private void buildResourceInParallel(
+            Map<String, CompositePackageDescr> packages, ResourceHandler mapper,
+            List<CompositeKnowledgeBuilderImpl.ResourceDescr> resourceDescrs) {
+        List<ParsedResource> parsedResources;
+        try {
+            parsedResources = KnowledgeBuilderImpl.ForkJoinPoolHolder.COMPILER_POOL.submit(() ->
+                    resourceDescrs.stream().parallel()
+                            .map(resourceDescr -> ParsedResource.parse(mapper.newConcurrentHandler(), resourceDescr))
+                            .collect(Collectors.toList())
+            ).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Resources parsing failed or interrupted", e);
+        }
+
+        // the package descrs are registered in the order of their resources, as when they are parsed sequentially
+        for (int i = 0; i < parsedResources.size(); i++) {
+            ParsedResource parsedResource = parsedResources.get(i);
+            if (parsedResource.exception != null) {
+                if (buildException == null) {
+                    buildException = parsedResource.exception instanceof RuntimeException ?
+                            (RuntimeException) parsedResource.exception :
+                            new RuntimeException( parsedResource.exception );
+                }
+            } else {
+                parsedResource.results.forEach(buildResultCollector::addBuilderResult);
+                CompositeKnowledgeBuilderImpl.ResourceDescr resourceDescr = resourceDescrs.get(i);
+                registerPackageDescr(resourceDescr, packages, resourceDescr.resource, parsedResource.packageDescr);
+            }
+        }
+    }
+
+    private static class ParsedResource {
+        private final PackageDescr packageDescr;
+        private final Collection<KnowledgeBuilderResult> results;
+        private final Exception exception;
+
+        private ParsedResource(PackageDescr packageDescr, Collection<KnowledgeBuilderResult> results, Exception exception) {
+            this.packageDescr = packageDescr;
+            this.results = results;
+            this.exception = exception;
+        }
+
+        private static ParsedResource parse(ResourceHandler handler, CompositeKnowledgeBuilderImpl.ResourceDescr resourceDescr) {
+            try {
+                PackageDescr packageDescr = handler.process(resourceDescr.resource, resourceDescr.configuration);
+                return new ParsedResource(packageDescr, handler.getResults(), null);
+            } catch (Exception e) {
+                return new ParsedResource(null, Collections.emptyList(), e);
+            }
+        }
+    }
+
 
     private void registerPackageDescr(
             CompositeKnowledgeBuilderImpl.ResourceDescr resourceDescr, Map<String, CompositePackageDescr> packages, Resource resource, PackageDescr packageDescr) {
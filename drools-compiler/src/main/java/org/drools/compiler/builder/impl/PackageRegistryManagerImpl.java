@@ -41,6 +41,7 @@ import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.KnowledgeBuilderResult;
 import org.kie.internal.builder.conf.DefaultDialectOption;
 import org.kie.internal.builder.conf.DefaultPackageNameOption;
+import org.kie.internal.builder.conf.ParallelPackageBuildOption;
 
 import static org.drools.util.StringUtils.isEmpty;
 
@@ -195,8 +196,25 @@ public class PackageRegistryManagerImpl implements PackageRegistryManager, Packa
 
     @Override
     public void compileAll() {
-        for (PackageRegistry pkgRegistry : this.pkgRegistryMap.values()) {
-            pkgRegistry.compileAll();
+        if (this.pkgRegistryMap.size() > 1 && this.configuration.getOption(ParallelPackageBuildOption.KEY).isPackageBuildParallel()) {
+            // each package compiles its own generated classes against the shared root class loader, so they can overlap
+            try {
+                KnowledgeBuilderImpl.ForkJoinPoolHolder.COMPILER_POOL.submit(() ->
+                        this.pkgRegistryMap.values().stream().parallel().forEach(PackageRegistry::compileAll)
+                ).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Packages compilation interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new RuntimeException("Packages compilation failed", e.getCause());
+            }
+        } else {
+            for (PackageRegistry pkgRegistry : this.pkgRegistryMap.values()) {
+                pkgRegistry.compileAll();
+            }
         }
     }
 
@@ -45,6 +45,11 @@ public class DrlResourceHandler extends ResourceHandler {
             || type ==  ResourceType.TDRL;
     }
 
+    @Override
+    public ResourceHandler newConcurrentHandler() {
+        return new DrlResourceHandler(this.configuration);
+    }
+
     public PackageDescr process(Resource resource, ResourceConfiguration resourceConfig) throws DroolsParserException, IOException {
         PackageDescr pkg;
         boolean hasErrors = false;
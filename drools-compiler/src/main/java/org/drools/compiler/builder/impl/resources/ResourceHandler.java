@@ -69,6 +69,14 @@ public abstract class ResourceHandler {
 
     public abstract boolean handles(ResourceType type);
 
+    /**
+     * Returns a new handler, configured as this one, that can process a resource concurrently with the other
+     * handlers of the same kind, or null if the resources of this kind have to be processed sequentially.
+     */
+    public ResourceHandler newConcurrentHandler() {
+        return null;
+    }
+
     public Collection<KnowledgeBuilderResult> getResults(){
         return this.results;
     }
@@ -520,12 +520,8 @@ public class MemoryFileSystem
                     continue;
                 }
                 // entry.getSize() is not accurate according to documentation, so have to read bytes until -1 is found
-                ByteArrayOutputStream content = new ByteArrayOutputStream();
-                int b;
-                while( (b = zipFile.read()) != -1 ) {
-                    content.write( b );
-                }
-                mfs.write( entry.getName(), content.toByteArray(), true );
+                // reading through a buffer, since every single byte read goes through the Inflater
+                mfs.write( entry.getName(), IoUtils.readBytesFromInputStream( zipFile, false ), true );
             }
         } catch ( IOException e ) {
             throw new RuntimeException( e );
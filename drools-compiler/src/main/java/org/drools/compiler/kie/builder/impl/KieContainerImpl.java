@@ -544,14 +544,17 @@ public class KieContainerImpl
             return null;
         }
         InternalKnowledgeBase kBase = (InternalKnowledgeBase) getKieBaseFromKieSessionModel(kSessionModel);
-        return kBase == null ? null : new StatefulSessionPool(kBase, initialSize, () -> {
-            SessionConfiguration sessConf = conf != null ? conf.as(SessionConfiguration.KEY) : kBase.getSessionConfiguration().as(SessionConfiguration.KEY);
+        if ( kBase == null ) {
+            return null;
+        }
+        SessionConfiguration sessConf = conf != null ? conf.as(SessionConfiguration.KEY) : kBase.getSessionConfiguration().as(SessionConfiguration.KEY);
+        return new StatefulSessionPool(kBase, initialSize, () -> {
             StatefulKnowledgeSessionImpl kSession = stateless ?
                     ((StatefulKnowledgeSessionImpl) RuntimeComponentFactory.get().createStatefulSession(kBase, env, sessConf, false)).setStateless( true ) :
                     (StatefulKnowledgeSessionImpl) kBase.newKieSession( sessConf, env );
             registerNewKieSession( kSessionModel, kBase, kSession );
             return kSession;
-        });
+        }, sessConf.isAsyncSessionReset());
     }
 
     private KieSessionModel findKieSessionModel(boolean stateless) {
@@ -43,8 +43,10 @@ import org.kie.api.conf.SequentialOption;
 import org.kie.api.conf.SessionsPoolOption;
 import org.kie.api.conf.SingleValueKieBaseOption;
 import org.kie.api.runtime.rule.ConsequenceExceptionHandler;
+import org.kie.internal.conf.AlphaNodeAdaptiveIndexingOption;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
 import org.kie.internal.conf.AlphaThresholdOption;
+import org.kie.internal.conf.CompactRightBetaMemoryOption;
 import org.kie.internal.conf.CompositeConfiguration;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
@@ -86,11 +88,13 @@ import org.slf4j.LoggerFactory;
  * drools.shareBetaNodes = &lt;true|false&gt;
  * drools.alphaNodeHashingThreshold = &lt;1...n&gt;
  * drools.alphaNodeRangeIndexThreshold = &lt;1...n&gt;
+ * drools.alphaNodeAdaptiveIndexing = &lt;true|false&gt;
  * drools.betaNodeRangeIndexEnabled = &lt;true|false&gt;
  * drools.sessionPool = &lt;1...n&gt;
  * drools.compositeKeyDepth = &lt;1..3&gt;
  * drools.indexLeftBetaMemory = &lt;true/false&gt;
  * drools.indexRightBetaMemory = &lt;true/false&gt;
+ * drools.compactRightBetaMemory = &lt;true/false&gt;
  * drools.equalityBehavior = &lt;identity|equality&gt;
  * drools.conflictResolver = &lt;qualified class name&gt;
  * drools.consequenceExceptionHandler = &lt;qualified class name&gt;
@@ -130,10 +134,12 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
     private int             jittingThreshold;
     private int             alphaNodeHashingThreshold;
     private int             alphaNodeRangeIndexThreshold;
+    private boolean         alphaNodeAdaptiveIndexing;
     private boolean         betaNodeRangeIndexEnabled;
     private int             compositeKeyDepth;
     private boolean         indexLeftBetaMemory;
     private boolean         indexRightBetaMemory;
+    private boolean         compactRightBetaMemory;
     private AssertBehaviour assertBehaviour;
     private String          consequenceExceptionHandler;
     private String          ruleBaseUpdateHandler;
@@ -183,6 +189,8 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
 
         setAlphaNodeRangeIndexThreshold(Integer.parseInt(getPropertyValue(AlphaRangeIndexThresholdOption.PROPERTY_NAME, "" + AlphaRangeIndexThresholdOption.DEFAULT_VALUE)));
 
+        setAlphaNodeAdaptiveIndexing(Boolean.parseBoolean(getPropertyValue(AlphaNodeAdaptiveIndexingOption.PROPERTY_NAME, "false")));
+
         setBetaNodeRangeIndexEnabled(Boolean.parseBoolean(getPropertyValue(BetaRangeIndexOption.PROPERTY_NAME, "false")));
 
         setSessionPoolSize(Integer.parseInt(getPropertyValue( SessionsPoolOption.PROPERTY_NAME, "-1")));
@@ -193,6 +201,8 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
 
         setIndexRightBetaMemory(Boolean.parseBoolean(getPropertyValue(IndexRightBetaMemoryOption.PROPERTY_NAME, "true")));
 
+        setCompactRightBetaMemory(Boolean.parseBoolean(getPropertyValue(CompactRightBetaMemoryOption.PROPERTY_NAME, "false")));
+
         setIndexPrecedenceOption(IndexPrecedenceOption.determineIndexPrecedence(getPropertyValue(IndexPrecedenceOption.PROPERTY_NAME, "equality")));
 
         setAssertBehaviour(AssertBehaviour.determineAssertBehaviour(getPropertyValue(EqualityBehaviorOption.PROPERTY_NAME, "identity")));
@@ -242,6 +252,8 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         out.writeObject(eventProcessingMode);
         out.writeBoolean(declarativeAgenda);
         out.writeInt(sessionPoolSize);
+        out.writeBoolean(compactRightBetaMemory);
+        out.writeBoolean(alphaNodeAdaptiveIndexing);
     }
 
     public void readExternal(ObjectInput in) throws IOException,
@@ -271,6 +283,8 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         eventProcessingMode = (EventProcessingOption) in.readObject();
         declarativeAgenda = in.readBoolean();
         sessionPoolSize = in.readInt();
+        compactRightBetaMemory = in.readBoolean();
+        alphaNodeAdaptiveIndexing = in.readBoolean();
     }
 
     @SuppressWarnings("unchecked")
@@ -291,6 +305,9 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case IndexRightBetaMemoryOption.PROPERTY_NAME: {
                 return (T) (this.indexRightBetaMemory ? IndexRightBetaMemoryOption.YES : IndexRightBetaMemoryOption.NO);
             }
+            case CompactRightBetaMemoryOption.PROPERTY_NAME: {
+                return (T) (this.compactRightBetaMemory ? CompactRightBetaMemoryOption.YES : CompactRightBetaMemoryOption.NO);
+            }
             case IndexLeftBetaMemoryOption.PROPERTY_NAME: {
                 return (T) (this.indexLeftBetaMemory ? IndexLeftBetaMemoryOption.YES : IndexLeftBetaMemoryOption.NO);
             }
@@ -312,6 +329,9 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case AlphaRangeIndexThresholdOption.PROPERTY_NAME: {
                 return (T) AlphaRangeIndexThresholdOption.get(alphaNodeRangeIndexThreshold);
             }
+            case AlphaNodeAdaptiveIndexingOption.PROPERTY_NAME: {
+                return (T) (this.alphaNodeAdaptiveIndexing ? AlphaNodeAdaptiveIndexingOption.YES : AlphaNodeAdaptiveIndexingOption.NO);
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 return (T) (this.betaNodeRangeIndexEnabled ? BetaRangeIndexOption.ENABLED : BetaRangeIndexOption.DISABLED);
             }
@@ -377,6 +397,10 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setIndexRightBetaMemory(((IndexRightBetaMemoryOption) option).isIndexRightBetaMemory());
                 break;
             }
+            case CompactRightBetaMemoryOption.PROPERTY_NAME: {
+                setCompactRightBetaMemory(((CompactRightBetaMemoryOption) option).isCompactRightBetaMemory());
+                break;
+            }
             case IndexPrecedenceOption.PROPERTY_NAME: {
                 setIndexPrecedenceOption((IndexPrecedenceOption) option);
                 break;
@@ -401,6 +425,10 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setAlphaNodeRangeIndexThreshold( ( (AlphaRangeIndexThresholdOption) option ).getThreshold());
                 break;
             }
+            case AlphaNodeAdaptiveIndexingOption.PROPERTY_NAME: {
+                setAlphaNodeAdaptiveIndexing(((AlphaNodeAdaptiveIndexingOption) option).isAlphaNodeAdaptiveIndexing());
+                break;
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 setBetaNodeRangeIndexEnabled( ( (BetaRangeIndexOption) option ).isBetaRangeIndexEnabled());
                 break;
@@ -476,6 +504,10 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setAlphaNodeRangeIndexThreshold(StringUtils.isEmpty(value) ? AlphaRangeIndexThresholdOption.DEFAULT_VALUE : Integer.parseInt(value));
                 break;
             }
+            case AlphaNodeAdaptiveIndexingOption.PROPERTY_NAME: {
+                setAlphaNodeAdaptiveIndexing(StringUtils.isEmpty(value) ? false : Boolean.valueOf(value));
+                break;
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 setBetaNodeRangeIndexEnabled(StringUtils.isEmpty(value) ? false : Boolean.valueOf(value));
                 break;
@@ -496,6 +528,10 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setIndexRightBetaMemory(StringUtils.isEmpty(value) ? true : Boolean.valueOf(value));
                 break;
             }
+            case CompactRightBetaMemoryOption.PROPERTY_NAME: {
+                setCompactRightBetaMemory(StringUtils.isEmpty(value) ? false : Boolean.valueOf(value));
+                break;
+            }
             case IndexPrecedenceOption.PROPERTY_NAME: {
                 setIndexPrecedenceOption(StringUtils.isEmpty(value) ? IndexPrecedenceOption.EQUALITY_PRIORITY : IndexPrecedenceOption.determineIndexPrecedence(value));
                 break;
@@ -562,6 +598,9 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case AlphaRangeIndexThresholdOption.PROPERTY_NAME: {
                 return Integer.toString(getAlphaNodeRangeIndexThreshold());
             }
+            case AlphaNodeAdaptiveIndexingOption.PROPERTY_NAME: {
+                return Boolean.toString(isAlphaNodeAdaptiveIndexing());
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 return Boolean.toString(isBetaNodeRangeIndexEnabled());
             }
@@ -577,6 +616,9 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case IndexRightBetaMemoryOption.PROPERTY_NAME: {
                 return Boolean.toString(isIndexRightBetaMemory());
             }
+            case CompactRightBetaMemoryOption.PROPERTY_NAME: {
+                return Boolean.toString(isCompactRightBetaMemory());
+            }
             case IndexPrecedenceOption.PROPERTY_NAME: {
                 return getIndexPrecedenceOption().getValue();
             }
@@ -677,6 +719,15 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         this.alphaNodeRangeIndexThreshold = alphaNodeRangeIndexThreshold;
     }
 
+    public boolean isAlphaNodeAdaptiveIndexing() {
+        return this.alphaNodeAdaptiveIndexing;
+    }
+
+    public void setAlphaNodeAdaptiveIndexing(final boolean alphaNodeAdaptiveIndexing) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.alphaNodeAdaptiveIndexing = alphaNodeAdaptiveIndexing;
+    }
+
     public boolean isBetaNodeRangeIndexEnabled() {
         return this.betaNodeRangeIndexEnabled;
     }
@@ -752,6 +803,15 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         this.indexRightBetaMemory = indexRightBetaMemory;
     }
 
+    public boolean isCompactRightBetaMemory() {
+        return this.compactRightBetaMemory;
+    }
+
+    public void setCompactRightBetaMemory(final boolean compactRightBetaMemory) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.compactRightBetaMemory = compactRightBetaMemory;
+    }
+
     public IndexPrecedenceOption getIndexPrecedenceOption() {
         return this.indexPrecedenceOption;
     }
@@ -42,6 +42,8 @@ import org.kie.internal.conf.CompositeConfiguration;
 import org.kie.internal.conf.InternalPropertiesConfiguration;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.LockFreePropagationOption;
+import org.kie.internal.runtime.conf.ParallelWarmUpOption;
 
 public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption, SingleValueKieSessionOption, MultiValueKieSessionOption> implements KieSessionConfiguration, InternalPropertiesConfiguration, Externalizable {
 
@@ -53,6 +55,10 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
 
     private boolean                        threadSafe;
 
+    private boolean                        lockFreePropagation;
+
+    private boolean                        parallelWarmUp;
+
     private boolean                        accumulateNullPropagation;
 
     private ForceEagerActivationFilter     forceEagerActivationFilter;
@@ -90,6 +96,10 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
 
         setThreadSafe(Boolean.parseBoolean(getPropertyValue(ThreadSafeOption.PROPERTY_NAME, "true")));
 
+        setLockFreePropagation(Boolean.parseBoolean(getPropertyValue(LockFreePropagationOption.PROPERTY_NAME, "false")));
+
+        setParallelWarmUp(Boolean.parseBoolean(getPropertyValue(ParallelWarmUpOption.PROPERTY_NAME, "false")));
+
         setAccumulateNullPropagation(Boolean.parseBoolean(getPropertyValue(AccumulateNullPropagationOption.PROPERTY_NAME, "false")));
 
         setForceEagerActivationFilter(ForceEagerActivationOption.resolve( getPropertyValue( ForceEagerActivationOption.PROPERTY_NAME, "false" ) ).getFilter());
@@ -119,6 +129,24 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
         return this.threadSafe;
     }
 
+    public void setLockFreePropagation(boolean lockFreePropagation) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.lockFreePropagation = lockFreePropagation;
+    }
+
+    public boolean isLockFreePropagation() {
+        return this.lockFreePropagation;
+    }
+
+    public void setParallelWarmUp(boolean parallelWarmUp) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.parallelWarmUp = parallelWarmUp;
+    }
+
+    public boolean isParallelWarmUp() {
+        return this.parallelWarmUp;
+    }
+
     public void setAccumulateNullPropagation(boolean accumulateNullPropagation) {
         checkCanChange(); // throws an exception if a change isn't possible;
         this.accumulateNullPropagation = accumulateNullPropagation;
@@ -175,6 +203,14 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 setThreadSafe(((ThreadSafeOption) option).isThreadSafe());
                 break;
             }
+            case LockFreePropagationOption.PROPERTY_NAME: {
+                setLockFreePropagation(((LockFreePropagationOption) option).isLockFree());
+                break;
+            }
+            case ParallelWarmUpOption.PROPERTY_NAME: {
+                setParallelWarmUp(((ParallelWarmUpOption) option).isParallelWarmUp());
+                break;
+            }
             case AccumulateNullPropagationOption.PROPERTY_NAME: {
                 setAccumulateNullPropagation(((AccumulateNullPropagationOption) option).isAccumulateNullPropagation());
                 break;
@@ -209,6 +245,12 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
             case ThreadSafeOption.PROPERTY_NAME: {
                 return (T) (isThreadSafe() ? ThreadSafeOption.YES : ThreadSafeOption.NO);
             }
+            case LockFreePropagationOption.PROPERTY_NAME: {
+                return (T) (isLockFreePropagation() ? LockFreePropagationOption.YES : LockFreePropagationOption.NO);
+            }
+            case ParallelWarmUpOption.PROPERTY_NAME: {
+                return (T) (isParallelWarmUp() ? ParallelWarmUpOption.YES : ParallelWarmUpOption.NO);
+            }
             case AccumulateNullPropagationOption.PROPERTY_NAME: {
                 return (T) (isAccumulateNullPropagation() ? AccumulateNullPropagationOption.YES : AccumulateNullPropagationOption.NO);
             }
@@ -243,6 +285,14 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 setThreadSafe(StringUtils.isEmpty(value) || Boolean.parseBoolean(value));
                 break;
             }
+            case LockFreePropagationOption.PROPERTY_NAME: {
+                setLockFreePropagation(!StringUtils.isEmpty(value) && Boolean.parseBoolean(value));
+                break;
+            }
+            case ParallelWarmUpOption.PROPERTY_NAME: {
+                setParallelWarmUp(!StringUtils.isEmpty(value) && Boolean.parseBoolean(value));
+                break;
+            }
             case AccumulateNullPropagationOption.PROPERTY_NAME: {
                 setAccumulateNullPropagation(!StringUtils.isEmpty(value) && Boolean.parseBoolean(value));
                 break;
@@ -278,6 +328,10 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 return Boolean.toString(isDirectFiring());
             } case ThreadSafeOption.PROPERTY_NAME: {
                 return Boolean.toString(isThreadSafe());
+            } case LockFreePropagationOption.PROPERTY_NAME: {
+                return Boolean.toString(isLockFreePropagation());
+            } case ParallelWarmUpOption.PROPERTY_NAME: {
+                return Boolean.toString(isParallelWarmUp());
             } case AccumulateNullPropagationOption.PROPERTY_NAME: {
                 return Boolean.toString(isAccumulateNullPropagation());
             } case QueryListenerOption.PROPERTY_NAME: {
@@ -43,6 +43,9 @@ import org.kie.api.runtime.conf.PersistedSessionOption;
 import org.kie.api.runtime.conf.SingleValueKieSessionOption;
 import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.internal.conf.CompositeConfiguration;
+import org.kie.internal.runtime.conf.AsyncSessionResetOption;
+import org.kie.internal.runtime.conf.ConcurrentObjectStoreOption;
+import org.kie.internal.runtime.conf.TimingWheelOption;
 
 public class SessionConfiguration extends BaseConfiguration<KieSessionOption, SingleValueKieSessionOption, MultiValueKieSessionOption> implements KieSessionConfiguration, Externalizable {
 
@@ -56,6 +59,12 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
 
     private TimerJobFactoryType            timerJobFactoryType;
 
+    private boolean                        timingWheel;
+
+    private boolean                        concurrentObjectStore;
+
+    private boolean                        asyncSessionReset;
+
     private PersistedSessionOption persistedSessionOption;
 
     private ExecutableRunner runner;
@@ -65,6 +74,9 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
         out.writeBoolean( keepReference );
         out.writeObject(clockType);
         out.writeObject( timerJobFactoryType );
+        out.writeBoolean( timingWheel );
+        out.writeBoolean( concurrentObjectStore );
+        out.writeBoolean( asyncSessionReset );
     }
 
     @SuppressWarnings("unchecked")
@@ -83,6 +95,9 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
                 throw e;
             }
         }
+        timingWheel = in.readBoolean();
+        concurrentObjectStore = in.readBoolean();
+        asyncSessionReset = in.readBoolean();
     }
 
 
@@ -98,6 +113,12 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
 
 
         setTimerJobFactoryType(TimerJobFactoryType.resolveTimerJobFactoryType( getPropertyValue( TimerJobFactoryOption.PROPERTY_NAME, TimerJobFactoryType.THREAD_SAFE_TRACKABLE.getId() ) ));
+
+        setTimingWheel(Boolean.parseBoolean(getPropertyValue(TimingWheelOption.PROPERTY_NAME, "false")));
+
+        setConcurrentObjectStore(Boolean.parseBoolean(getPropertyValue(ConcurrentObjectStoreOption.PROPERTY_NAME, "false")));
+
+        setAsyncSessionReset(Boolean.parseBoolean(getPropertyValue(AsyncSessionResetOption.PROPERTY_NAME, "false")));
     }
 
 
@@ -111,6 +132,18 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
                 setTimerJobFactoryType(TimerJobFactoryType.resolveTimerJobFactoryType(((TimerJobFactoryOption) option).getTimerJobType()));
                 break;
             }
+            case TimingWheelOption.PROPERTY_NAME: {
+                setTimingWheel(((TimingWheelOption) option).isTimingWheel());
+                break;
+            }
+            case ConcurrentObjectStoreOption.PROPERTY_NAME: {
+                setConcurrentObjectStore(((ConcurrentObjectStoreOption) option).isConcurrentObjectStore());
+                break;
+            }
+            case AsyncSessionResetOption.PROPERTY_NAME: {
+                setAsyncSessionReset(((AsyncSessionResetOption) option).isAsyncSessionReset());
+                break;
+            }
             case KeepReferenceOption.PROPERTY_NAME: {
                 setKeepReference(((KeepReferenceOption)option).isKeepReference());
                 break;
@@ -133,6 +166,15 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
             case TimerJobFactoryOption.PROPERTY_NAME: {
                 return (T) TimerJobFactoryOption.get( getTimerJobFactoryType().toExternalForm() );
             }
+            case TimingWheelOption.PROPERTY_NAME: {
+                return (T) (isTimingWheel() ? TimingWheelOption.YES : TimingWheelOption.NO);
+            }
+            case ConcurrentObjectStoreOption.PROPERTY_NAME: {
+                return (T) (isConcurrentObjectStore() ? ConcurrentObjectStoreOption.YES : ConcurrentObjectStoreOption.NO);
+            }
+            case AsyncSessionResetOption.PROPERTY_NAME: {
+                return (T) (isAsyncSessionReset() ? AsyncSessionResetOption.YES : AsyncSessionResetOption.NO);
+            }
             case KeepReferenceOption.PROPERTY_NAME: {
                 return (T) (isKeepReference() ? KeepReferenceOption.YES : KeepReferenceOption.NO);
             }
@@ -164,6 +206,18 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
             case TimerJobFactoryOption.PROPERTY_NAME: {
                 setTimerJobFactoryType(TimerJobFactoryType.resolveTimerJobFactoryType(StringUtils.isEmpty(value) ? "default" : value));
                 break;
+            }
+            case TimingWheelOption.PROPERTY_NAME: {
+                setTimingWheel(StringUtils.isEmpty(value) ? false : Boolean.parseBoolean(value));
+                break;
+            }
+            case ConcurrentObjectStoreOption.PROPERTY_NAME: {
+                setConcurrentObjectStore(StringUtils.isEmpty(value) ? false : Boolean.parseBoolean(value));
+                break;
+            }
+            case AsyncSessionResetOption.PROPERTY_NAME: {
+                setAsyncSessionReset(StringUtils.isEmpty(value) ? false : Boolean.parseBoolean(value));
+                break;
             } default : {
                 return false;
             }
@@ -180,6 +234,15 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
             case TimerJobFactoryOption.PROPERTY_NAME: {
                 return getTimerJobFactoryType().toExternalForm();
             }
+            case TimingWheelOption.PROPERTY_NAME: {
+                return Boolean.toString(isTimingWheel());
+            }
+            case ConcurrentObjectStoreOption.PROPERTY_NAME: {
+                return Boolean.toString(isConcurrentObjectStore());
+            }
+            case AsyncSessionResetOption.PROPERTY_NAME: {
+                return Boolean.toString(isAsyncSessionReset());
+            }
         }
         return null;
     }
@@ -235,6 +298,33 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
         this.timerJobFactoryType = timerJobFactoryType;
     }
 
+    public boolean isTimingWheel() {
+        return timingWheel;
+    }
+
+    public void setTimingWheel(boolean timingWheel) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.timingWheel = timingWheel;
+    }
+
+    public boolean isConcurrentObjectStore() {
+        return concurrentObjectStore;
+    }
+
+    public void setConcurrentObjectStore(boolean concurrentObjectStore) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.concurrentObjectStore = concurrentObjectStore;
+    }
+
+    public boolean isAsyncSessionReset() {
+        return asyncSessionReset;
+    }
+
+    public void setAsyncSessionReset(boolean asyncSessionReset) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.asyncSessionReset = asyncSessionReset;
+    }
+
     public final TimerJobFactoryManager getTimerJobFactoryManager() {
         return getTimerJobFactoryType().createInstance();
     }
@@ -276,7 +366,7 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
     }
 
     public TimerService createTimerService() {
-        TimerService service = getClockType().createInstance();
+        TimerService service = isTimingWheel() ? getClockType().createTimingWheelInstance() : getClockType().createInstance();
         service.setTimerJobFactoryManager(getTimerJobFactoryManager());
         return service;
     }
@@ -294,13 +384,19 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
 
 
         return getClockType() == that.getClockType() &&
-                getTimerJobFactoryType() == that.getTimerJobFactoryType();
+                getTimerJobFactoryType() == that.getTimerJobFactoryType() &&
+                isTimingWheel() == that.isTimingWheel() &&
+                isConcurrentObjectStore() == that.isConcurrentObjectStore() &&
+                isAsyncSessionReset() == that.isAsyncSessionReset();
     }
 
     @Override
     public final int hashCode() {
         int result = getClockType().hashCode();
         result = 31 * result + getTimerJobFactoryType().hashCode();
+        result = 31 * result + (isTimingWheel() ? 1 : 0);
+        result = 31 * result + (isConcurrentObjectStore() ? 1 : 0);
+        result = 31 * result + (isAsyncSessionReset() ? 1 : 0);
         return result;
     }
 }
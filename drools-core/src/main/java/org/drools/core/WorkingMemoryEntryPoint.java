@@ -18,6 +18,8 @@
  */
 package org.drools.core;
 
+import java.util.Map;
+
 import org.drools.base.definitions.rule.impl.RuleImpl;
 import org.drools.base.rule.EntryPointId;
 import org.drools.core.common.ObjectStore;
@@ -25,6 +27,7 @@ import org.drools.core.common.ObjectTypeConfigurationRegistry;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.impl.InternalRuleBase;
 import org.drools.core.reteoo.EntryPointNode;
+import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.reteoo.TerminalNode;
 import org.drools.core.rule.accessor.FactHandleFactory;
 import org.drools.core.rule.consequence.InternalMatch;
@@ -62,6 +65,14 @@ public interface WorkingMemoryEntryPoint extends EntryPoint {
 
     ObjectTypeConfigurationRegistry getObjectTypeConfigurationRegistry();
 
+    /**
+     * Returns the last batch of expirations scheduled for each ObjectTypeNode of this entry point,
+     * or null if this entry point doesn't coalesce the expirations of its events.
+     */
+    default Map<ObjectTypeNode, ObjectTypeNode.ExpireBatchJobContext> getExpireBatches() {
+        return null;
+    }
+
     InternalRuleBase getKnowledgeBase();
 
     void delete(FactHandle factHandle,
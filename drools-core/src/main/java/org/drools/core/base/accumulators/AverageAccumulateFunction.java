@@ -26,7 +26,7 @@ import java.io.ObjectOutput;
 /**
  * An implementation of an accumulator capable of calculating average values
  */
-public class AverageAccumulateFunction extends AbstractAccumulateFunction<AverageAccumulateFunction.AverageData> {
+public class AverageAccumulateFunction extends AbstractAccumulateFunction<AverageAccumulateFunction.AverageData> implements PrimitiveAccumulateFunction<AverageAccumulateFunction.AverageData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
@@ -80,6 +80,24 @@ public class AverageAccumulateFunction extends AbstractAccumulateFunction<Averag
         }
     }
 
+    public boolean supportsPrimitive(Class<?> type) {
+        return true;
+    }
+
+    public Object accumulateLong(AverageData data,
+                                 long value) {
+        data.count++;
+        data.total += value;
+        return value;
+    }
+
+    public Object accumulateDouble(AverageData data,
+                                   double value) {
+        data.count++;
+        data.total += value;
+        return value;
+    }
+
     /* (non-Javadoc)
      * @see org.kie.base.accumulators.AccumulateFunction#reverse(java.lang.Object, java.lang.Object)
      */
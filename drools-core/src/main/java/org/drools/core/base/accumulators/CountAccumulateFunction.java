@@ -26,7 +26,7 @@ import java.io.ObjectOutput;
 /**
  * An implementation of an accumulator capable of counting occurences
  */
-public class CountAccumulateFunction extends AbstractAccumulateFunction<CountAccumulateFunction.CountData> {
+public class CountAccumulateFunction extends AbstractAccumulateFunction<CountAccumulateFunction.CountData> implements PrimitiveAccumulateFunction<CountAccumulateFunction.CountData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
@@ -77,6 +77,22 @@ public class CountAccumulateFunction extends AbstractAccumulateFunction<CountAcc
         data.count++;
     }
 
+    public boolean supportsPrimitive(Class<?> type) {
+        return true;
+    }
+
+    public Object accumulateLong(CountData data,
+                                 long value) {
+        data.count++;
+        return value;
+    }
+
+    public Object accumulateDouble(CountData data,
+                                   double value) {
+        data.count++;
+        return value;
+    }
+
     /* (non-Javadoc)
      * @see org.kie.base.accumulators.AccumulateFunction#reverse(java.lang.Object, java.lang.Object)
      */
@@ -23,7 +23,7 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
-public class IntegerSumAccumulateFunction extends AbstractAccumulateFunction<IntegerSumAccumulateFunction.SumData> {
+public class IntegerSumAccumulateFunction extends AbstractAccumulateFunction<IntegerSumAccumulateFunction.SumData> implements PrimitiveAccumulateFunction<IntegerSumAccumulateFunction.SumData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException { }
 
@@ -57,6 +57,16 @@ public class IntegerSumAccumulateFunction extends AbstractAccumulateFunction<Int
         }
     }
 
+    public boolean supportsPrimitive(Class<?> type) {
+        return type == int.class;
+    }
+
+    public Object accumulateLong(SumData data, long value) {
+        int intValue = (int) value;
+        data.total += intValue;
+        return intValue;
+    }
+
     public void reverse(SumData data, Object value) {
         if (value != null) {
             data.total -= ( (Integer) value );
@@ -46,6 +46,7 @@ public class JavaAccumulatorFunctionExecutor
 
     private ReturnValueExpression expression;
     private org.kie.api.runtime.rule.AccumulateFunction    function;
+    private int                   primitiveDeclarationIndex = -1;
 
     public JavaAccumulatorFunctionExecutor() {
 
@@ -60,6 +61,7 @@ public class JavaAccumulatorFunctionExecutor
                                             ClassNotFoundException {
         expression = (ReturnValueExpression) in.readObject();
         function = (org.kie.api.runtime.rule.AccumulateFunction) in.readObject();
+        primitiveDeclarationIndex = in.readInt();
     }
 
     public void writeExternal(ObjectOutput out) throws IOException {
@@ -69,6 +71,7 @@ public class JavaAccumulatorFunctionExecutor
             out.writeObject( this.expression );
         }
         out.writeObject( function );
+        out.writeInt( primitiveDeclarationIndex );
     }
 
     /* (non-Javadoc)
@@ -99,6 +102,12 @@ public class JavaAccumulatorFunctionExecutor
                            Declaration[] declarations,
                            Declaration[] innerDeclarations,
                            ValueResolver valueResolver) {
+        if ( primitiveDeclarationIndex >= 0 ) {
+            return accumulatePrimitive( (Serializable) context,
+                                        innerDeclarations[primitiveDeclarationIndex],
+                                        handle.getObject(),
+                                        valueResolver );
+        }
         try {
             Object value = this.expression.evaluate( handle,
                                                      leftTuple,
@@ -112,6 +121,26 @@ public class JavaAccumulatorFunctionExecutor
         }
     }
 
+    /**
+     * Reads the accumulated value through the primitive methods of the declaration's accessor,
+     * avoiding the evaluation of the compiled expression. The returned value is the one kept on
+     * the match to reverse it, boxed by the function to the type its reverse expects.
+     */
+    private Object accumulatePrimitive(Serializable context,
+                                       Declaration declaration,
+                                       Object object,
+                                       ValueResolver valueResolver) {
+        PrimitiveAccumulateFunction primitiveFunction = (PrimitiveAccumulateFunction) this.function;
+        Class<?> type = declaration.getDeclarationClass();
+        if ( type == int.class ) {
+            return primitiveFunction.accumulateLong( context, declaration.getIntValue( valueResolver, object ) );
+        }
+        if ( type == long.class ) {
+            return primitiveFunction.accumulateLong( context, declaration.getLongValue( valueResolver, object ) );
+        }
+        return primitiveFunction.accumulateDouble( context, declaration.getDoubleValue( valueResolver, object ) );
+    }
+
     public boolean tryReverse(Object workingMemoryContext,
                               Object context,
                               BaseTuple leftTuple,
@@ -154,6 +183,20 @@ public class JavaAccumulatorFunctionExecutor
         this.expression = expression;
     }
 
+    public int getPrimitiveDeclarationIndex() {
+        return primitiveDeclarationIndex;
+    }
+
+    /**
+     * Makes this executor read the accumulated value directly from the inner declaration at the
+     * given index, when the function is a {@link PrimitiveAccumulateFunction}. The declaration must
+     * be of type int, long or double and {@link PrimitiveAccumulateFunction#supportsPrimitive(Class)}
+     * must accept it. A negative index disables the primitive fast path.
+     */
+    public void setPrimitiveDeclarationIndex(int primitiveDeclarationIndex) {
+        this.primitiveDeclarationIndex = function instanceof PrimitiveAccumulateFunction ? primitiveDeclarationIndex : -1;
+    }
+
     public Object createWorkingMemoryContext() {
         // no working memory context needed
         return null;
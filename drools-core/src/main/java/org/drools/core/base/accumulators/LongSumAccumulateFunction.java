@@ -23,7 +23,7 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
-public class LongSumAccumulateFunction extends AbstractAccumulateFunction<LongSumAccumulateFunction.SumData> {
+public class LongSumAccumulateFunction extends AbstractAccumulateFunction<LongSumAccumulateFunction.SumData> implements PrimitiveAccumulateFunction<LongSumAccumulateFunction.SumData> {
 
     public void readExternal(ObjectInput in ) throws IOException, ClassNotFoundException { }
 
@@ -57,6 +57,15 @@ public class LongSumAccumulateFunction extends AbstractAccumulateFunction<LongSu
         }
     }
 
+    public boolean supportsPrimitive(Class<?> type) {
+        return type == int.class || type == long.class;
+    }
+
+    public Object accumulateLong(SumData data, long value) {
+        data.total += value;
+        return value;
+    }
+
     public void reverse(SumData data, Object value) {
         if (value != null) {
             data.total -= ( (Long) value );
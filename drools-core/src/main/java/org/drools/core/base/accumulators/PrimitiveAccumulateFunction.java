@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.base.accumulators;
+
+import java.io.Serializable;
+
+import org.kie.api.runtime.rule.AccumulateFunction;
+
+/**
+ * An accumulate function that can be fed directly with primitive values, allowing the
+ * accumulator to read them through the primitive methods of a ReadAccessor instead of
+ * evaluating a boxed expression for each accumulated fact.
+ */
+public interface PrimitiveAccumulateFunction<C extends Serializable> extends AccumulateFunction<C> {
+
+    /**
+     * Returns true if the values of the given primitive type, int, long or double, can be accumulated
+     * by this function without any loss, so that they can be passed to it without boxing.
+     */
+    boolean supportsPrimitive(Class<?> type);
+
+    /**
+     * Accumulates an int or long value, returning it boxed to the type expected by {@link #reverse(Serializable, Object)}
+     */
+    Object accumulateLong(C context, long value);
+
+    /**
+     * Accumulates a double value, returning it boxed to the type expected by {@link #reverse(Serializable, Object)}.
+     * By default it is boxed and passed to {@link #accumulate(Serializable, Object)}, which is what the functions
+     * not supporting double values, as told by {@link #supportsPrimitive(Class)}, rely on.
+     */
+    default Object accumulateDouble(C context, double value) {
+        Object boxed = value;
+        accumulate(context, boxed);
+        return boxed;
+    }
+}
@@ -26,7 +26,7 @@ import java.io.ObjectOutput;
 /**
  * An implementation of an accumulator capable of calculating sum of values
  */
-public class SumAccumulateFunction extends AbstractAccumulateFunction<SumAccumulateFunction.SumData> {
+public class SumAccumulateFunction extends AbstractAccumulateFunction<SumAccumulateFunction.SumData> implements PrimitiveAccumulateFunction<SumAccumulateFunction.SumData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException { }
 
@@ -64,6 +64,22 @@ public class SumAccumulateFunction extends AbstractAccumulateFunction<SumAccumul
         data.total += ((Number) value).doubleValue();
     }
 
+    public boolean supportsPrimitive(Class<?> type) {
+        return true;
+    }
+
+    public Object accumulateLong(SumData data,
+                                 long value) {
+        data.total += value;
+        return value;
+    }
+
+    public Object accumulateDouble(SumData data,
+                                   double value) {
+        data.total += value;
+        return value;
+    }
+
     public void reverse(SumData data,
                         Object value) {
         data.total -= ((Number) value).doubleValue();
@@ -22,40 +22,57 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
-import java.util.ArrayList;
+import java.io.Serializable;
+import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
 
 import org.drools.base.factmodel.traits.CoreWrapper;
 import org.kie.api.runtime.ClassObjectFilter;
 import org.kie.api.runtime.ObjectFilter;
 
+/**
+ * An object store partitioned by class. When created as concurrent all its maps are concurrent ones, so that
+ * other threads can iterate the stored objects and fact handles, without any locking, while the engine
+ * keeps modifying them. Those iterations are weakly consistent: they never fail and return each fact at most
+ * once, including all the ones that have been in the store for the whole iteration.
+ */
 public class ClassAwareObjectStore implements Externalizable, ObjectStore {
 
     private Lock lock;
 
-    private Map<String, SingleClassStore> storesMap = new HashMap<>();
+    private Map<String, SingleClassStore> storesMap;
     private List<ConcreteClassStore> concreteStores = new CopyOnWriteArrayList<>();
 
     private FactHandleMap equalityMap;
 
     private boolean isEqualityBehaviour;
 
-    private int size;
+    private boolean concurrent;
+
+    private volatile int size;
 
     public ClassAwareObjectStore() { }
 
     public ClassAwareObjectStore( boolean isEqualityBehaviour, Lock lock ) {
+        this( isEqualityBehaviour, lock, false );
+    }
+
+    public ClassAwareObjectStore( boolean isEqualityBehaviour, Lock lock, boolean concurrent ) {
         this.lock = lock;
         this.isEqualityBehaviour = isEqualityBehaviour;
+        this.concurrent = concurrent;
+        this.storesMap = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
         if (isEqualityBehaviour) {
-            this.equalityMap = new FactHandleMap(false);
+            this.equalityMap = new FactHandleMap(false, concurrent);
         }
     }
 
@@ -67,6 +84,7 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
         out.writeInt(size);
         out.writeBoolean(isEqualityBehaviour);
         out.writeObject(lock);
+        out.writeBoolean(concurrent);
     }
 
     @Override
@@ -77,6 +95,11 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
         size = in.readInt();
         isEqualityBehaviour = in.readBoolean();
         lock = (Lock)in.readObject();
+        concurrent = in.readBoolean();
+    }
+
+    public boolean isConcurrent() {
+        return concurrent;
     }
 
     @Override
@@ -244,8 +267,14 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
     public SingleClassStore getOrCreateClassStore(Class<?> clazz) {
         SingleClassStore store = storesMap.get(clazz.getName());
         if (store == null) {
-            store = createClassStoreAndAddConcreteSubStores(clazz);
-            storesMap.put(clazz.getName(), store);
+            // the class stores are linked to each other, so a store created by a reader thread must not interleave with the engine
+            synchronized (this) {
+                store = storesMap.get(clazz.getName());
+                if (store == null) {
+                    store = createClassStoreAndAddConcreteSubStores(clazz);
+                    storesMap.put(clazz.getName(), store);
+                }
+            }
         }
         return store;
     }
@@ -258,9 +287,10 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
         SingleClassStore existingStore = getOrCreateClassStore(clazz);
         if (existingStore.isConcrete()) {
             return (ConcreteClassStore) existingStore;
-        } else {
+        }
+        synchronized (this) {
             // The existing store was abstract so has to be converted in a concrete one
-            return makeStoreConcrete(existingStore);
+            return existingStore.isConcrete() ? (ConcreteClassStore) existingStore : makeStoreConcrete(existingStore);
         }
     }
 
@@ -278,7 +308,7 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
     }
 
     private SingleClassStore createClassStoreAndAddConcreteSubStores(Class<?> clazz) {
-        SingleClassStore newStore = isEqualityBehaviour ? new ConcreteEqualityClassStore(clazz, equalityMap) : new ConcreteIdentityClassStore(clazz);
+        SingleClassStore newStore = isEqualityBehaviour ? new ConcreteEqualityClassStore(clazz, equalityMap, concurrent) : new ConcreteIdentityClassStore(clazz, concurrent);
         for (SingleClassStore classStore : storesMap.values()) {
             if (classStore.isConcrete() && clazz.isAssignableFrom(classStore.getStoredClass())) {
                 newStore.addConcreteStore(((ConcreteClassStore) classStore));
@@ -305,12 +335,14 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
 
     private abstract static class AbstractClassStore implements SingleClassStore {
         private Class<?> storedClass;
-        private List<ConcreteClassStore> concreteStores = new ArrayList<>();
+        private List<ConcreteClassStore> concreteStores = new CopyOnWriteArrayList<>();
+        protected boolean concurrent;
 
         public AbstractClassStore() { }
 
-        private AbstractClassStore(Class<?> storedClass) {
+        private AbstractClassStore(Class<?> storedClass, boolean concurrent) {
             this.storedClass = storedClass;
+            this.concurrent = concurrent;
         }
 
         public void addConcreteStore(ConcreteClassStore store) {
@@ -334,12 +366,14 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(storedClass);
             out.writeObject(concreteStores);
+            out.writeBoolean(concurrent);
         }
 
         @Override
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
             storedClass = (Class<?>)in.readObject();
             concreteStores = (List<ConcreteClassStore>)in.readObject();
+            concurrent = in.readBoolean();
         }
 
         @Override
@@ -359,21 +393,21 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
 
     private static class ConcreteIdentityClassStore extends AbstractClassStore implements ConcreteClassStore {
 
-        private FactHandleMap identityMap;
+        private volatile FactHandleMap identityMap;
 
-        private FactHandleMap negMap;
+        private volatile FactHandleMap negMap;
 
         public ConcreteIdentityClassStore() { }
 
-        public ConcreteIdentityClassStore(Class<?> storedClass) {
-            super(storedClass);
+        public ConcreteIdentityClassStore(Class<?> storedClass, boolean concurrent) {
+            super(storedClass, concurrent);
         }
 
         @Override
         public boolean addHandle(InternalFactHandle handle, Object object) {
             if ( handle.isNegated() ) {
                 if (negMap == null) {
-                    negMap = new FactHandleMap(true);
+                    negMap = new FactHandleMap(true, concurrent);
                 }
                 negMap.put(object, handle);
                 return false;
@@ -385,7 +419,7 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
         public InternalFactHandle removeHandle(InternalFactHandle handle) {
             if ( handle.isNegated() ) {
                 if (negMap == null) {
-                    negMap = new FactHandleMap(true);
+                    negMap = new FactHandleMap(true, concurrent);
                 }
                 negMap.remove(handle);
                 return null;
@@ -429,7 +463,7 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
 
         @Override
         public ConcreteClassStore makeConcrete() {
-            identityMap = new FactHandleMap(true);
+            identityMap = new FactHandleMap(true, concurrent);
             return this;
         }
     }
@@ -440,8 +474,8 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
 
         public ConcreteEqualityClassStore() { }
 
-        public ConcreteEqualityClassStore(Class<?> storedClass, FactHandleMap equalityMap) {
-            super(storedClass);
+        public ConcreteEqualityClassStore(Class<?> storedClass, FactHandleMap equalityMap, boolean concurrent) {
+            super(storedClass, concurrent);
             this.equalityMap = equalityMap;
         }
 
@@ -601,30 +635,62 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
 
     private static class FactHandleMap implements Externalizable {
         private Map<Object, InternalFactHandle> facts;
+        // the equality map of a non concurrent store, used instead of the facts one
+        private FactHandleEqualityTable equalityTable;
+        // lazily built when the store isn't concurrent. A concurrent store keeps it up to date from the start, because
+        // a reader thread building it could miss the handles that the engine puts in the meantime
         private Map<Long, InternalFactHandle> factsById;
+        private boolean identity;
+        private boolean concurrent;
 
         public FactHandleMap() { }
 
-        public FactHandleMap(boolean identity) {
-            facts = identity ? new IdentityHashMap<>() : new HashMap<>();
+        public FactHandleMap(boolean identity, boolean concurrent) {
+            this.identity = identity;
+            this.concurrent = concurrent;
+            if (concurrent) {
+                // there is no concurrent identity map, so in identity mode the keys get wrapped in an IdentityKey
+                facts = new ConcurrentHashMap<>();
+                factsById = new ConcurrentHashMap<>();
+            } else if (identity) {
+                facts = new IdentityHashMap<>();
+            } else {
+                equalityTable = new FactHandleEqualityTable();
+            }
         }
 
         @Override
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(facts);
+            out.writeObject(equalityTable);
+            out.writeBoolean(identity);
+            out.writeBoolean(concurrent);
         }
 
         @Override
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
             facts = (Map<Object, InternalFactHandle>) in.readObject();
+            equalityTable = (FactHandleEqualityTable) in.readObject();
+            identity = in.readBoolean();
+            concurrent = in.readBoolean();
+            if (concurrent) {
+                factsById = new ConcurrentHashMap<>();
+                for (InternalFactHandle fh : getFacts()) {
+                    factsById.put(fh.getId(), fh);
+                }
+            }
+        }
+
+        private Object key(Object obj) {
+            return concurrent && identity ? new IdentityKey(obj) : obj;
         }
 
         public InternalFactHandle get(Object obj) {
-            return facts.get(obj);
+            return equalityTable != null ? equalityTable.get(obj) : facts.get(key(obj));
         }
 
         public InternalFactHandle put(Object obj, InternalFactHandle fh) {
-            InternalFactHandle existing = facts.put(obj, fh);
+            InternalFactHandle existing = equalityTable != null ? equalityTable.put(obj, fh) : facts.put(key(obj), fh);
             if (factsById != null) {
                 factsById.put(fh.getId(), fh);
             }
@@ -632,11 +698,11 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
         }
 
         public InternalFactHandle get(InternalFactHandle fh) {
-            return fh.isDisconnected() ? factsIndexedById().get(fh.getId()) : facts.get(fh.getObject());
+            return fh.isDisconnected() ? factsIndexedById().get(fh.getId()) : get(fh.getObject());
         }
 
         public InternalFactHandle remove(InternalFactHandle fh) {
-            InternalFactHandle retrieved = facts.remove(fh.getObject());
+            InternalFactHandle retrieved = equalityTable != null ? equalityTable.remove(fh) : facts.remove(key(fh.getObject()));
             if (factsById != null) {
                 factsById.remove(fh.getId());
             }
@@ -645,25 +711,83 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
 
         private Map<Long, InternalFactHandle> factsIndexedById() {
             if (factsById == null) {
-                factsById = new HashMap<>();
-                for (InternalFactHandle fh : facts.values()) {
-                    factsById.put(fh.getId(), fh);
+                Map<Long, InternalFactHandle> byId = new HashMap<>();
+                for (InternalFactHandle fh : getFacts()) {
+                    byId.put(fh.getId(), fh);
                 }
+                factsById = byId;
             }
             return factsById;
         }
 
         public Collection<Object> getObjects() {
-            return facts.keySet();
+            if (equalityTable != null) {
+                return objectsView(equalityTable.values(), InternalFactHandle::getObject);
+            }
+            if (!(concurrent && identity)) {
+                return facts.keySet();
+            }
+            return objectsView(facts.keySet(), key -> ((IdentityKey) key).object);
+        }
+
+        private static <K> Collection<Object> objectsView(Collection<K> keys, Function<K, Object> toObject) {
+            return new AbstractCollection<>() {
+                @Override
+                public Iterator<Object> iterator() {
+                    Iterator<K> it = keys.iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+
+                        @Override
+                        public Object next() {
+                            return toObject.apply(it.next());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return keys.size();
+                }
+            };
         }
 
         public Collection<InternalFactHandle> getFacts() {
-            return facts.values();
+            return equalityTable != null ? equalityTable.values() : facts.values();
         }
 
         public void clear() {
-            facts.clear();
-            factsById = null;
+            if (equalityTable != null) {
+                equalityTable.clear();
+            } else {
+                facts.clear();
+            }
+            if (concurrent) {
+                factsById.clear();
+            } else {
+                factsById = null;
+            }
+        }
+    }
+
+    private static class IdentityKey implements Serializable {
+        private final Object object;
+
+        private IdentityKey(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey && ((IdentityKey) other).object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
         }
     }
 }
@@ -18,9 +18,13 @@
  */
 package org.drools.core.common;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.drools.base.rule.EntryPointId;
 import org.drools.base.time.JobHandle;
 import org.drools.core.WorkingMemoryEntryPoint;
+import org.drools.core.reteoo.ObjectTypeNode.ExpireBatchJobContext;
 import org.drools.core.time.TimerService;
 import org.drools.core.time.impl.DefaultJobHandle;
 import org.drools.core.util.LinkedList;
@@ -42,6 +46,8 @@ public class DefaultEventHandle extends DefaultFactHandle implements EventHandle
 
     private final transient LinkedList<DefaultJobHandle> jobs = new LinkedList<>();
 
+    private transient List<ExpireBatchJobContext> expireBatches;
+
     public DefaultEventHandle() {
         super();
         this.startTimestamp = 0;
@@ -279,6 +285,27 @@ public class DefaultEventHandle extends DefaultFactHandle implements EventHandle
         }
     }
 
+    public void addExpireBatch(ExpireBatchJobContext expireBatch) {
+        synchronized (jobs) {
+            if (expireBatches == null) {
+                expireBatches = new ArrayList<>(1);
+            }
+            expireBatches.add(expireBatch);
+        }
+    }
+
+    public boolean isExpireBatchPending(ExpireBatchJobContext expireBatch) {
+        synchronized (jobs) {
+            return expireBatches != null && expireBatches.contains(expireBatch);
+        }
+    }
+
+    public boolean removeExpireBatch(ExpireBatchJobContext expireBatch) {
+        synchronized (jobs) {
+            return expireBatches != null && expireBatches.remove(expireBatch);
+        }
+    }
+
     public void unscheduleAllJobs(ReteEvaluator reteEvaluator) {
         if (!jobs.isEmpty()) {
             synchronized (jobs) {
@@ -289,5 +316,18 @@ public class DefaultEventHandle extends DefaultFactHandle implements EventHandle
                 }
             }
         }
+        if (expireBatches != null) {
+            List<ExpireBatchJobContext> batches;
+            synchronized (jobs) {
+                batches = expireBatches;
+                expireBatches = null;
+            }
+            // the batches are notified outside the lock, since they call back this handle while holding their own
+            if (batches != null) {
+                for (ExpireBatchJobContext batch : batches) {
+                    batch.cancel();
+                }
+            }
+        }
     }
 }
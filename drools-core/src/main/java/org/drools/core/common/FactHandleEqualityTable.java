@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The fact handles of an equality based object store, indexed by the equality of their objects.
+ * It is an open addressing table with linear probing, keeping the fact handles and the hash codes
+ * of their objects in two parallel arrays, so that it doesn't allocate anything per stored fact.
+ * The hash code is the one cached by the fact handle, so a fact modified in place is still
+ * found, and then removed, through the hash code it had when it was stored. The objects' equals
+ * method is only invoked when their hash codes match and they are not the same instance.
+ */
+public class FactHandleEqualityTable implements Externalizable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private InternalFactHandle[] handles;
+    private int[] hashes;
+    private int size;
+
+    public FactHandleEqualityTable() {
+        this( DEFAULT_CAPACITY );
+    }
+
+    public FactHandleEqualityTable(int initialCapacity) {
+        int capacity = Integer.highestOneBit( Math.max( initialCapacity, 2 ) - 1 ) << 1;
+        this.handles = new InternalFactHandle[capacity];
+        this.hashes = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public InternalFactHandle get(Object object) {
+        int hash = object.hashCode();
+        int mask = handles.length - 1;
+        for (int i = index( hash, mask ); handles[i] != null; i = (i + 1) & mask) {
+            if ( hashes[i] == hash && isEqual( object, handles[i].getObject() ) ) {
+                return handles[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores the given fact handle, replacing and returning the one of an equal object if present.
+     */
+    public InternalFactHandle put(Object object, InternalFactHandle handle) {
+        int hash = handle.getObject() == object ? handle.getObjectHashCode() : object.hashCode();
+        int mask = handles.length - 1;
+        int i = index( hash, mask );
+        for (; handles[i] != null; i = (i + 1) & mask) {
+            if ( hashes[i] == hash && isEqual( object, handles[i].getObject() ) ) {
+                InternalFactHandle existing = handles[i];
+                handles[i] = handle;
+                return existing;
+            }
+        }
+        handles[i] = handle;
+        hashes[i] = hash;
+        if ( ++size > handles.length >> 1 ) {
+            resize( handles.length << 1 );
+        }
+        return null;
+    }
+
+    /**
+     * Removes the given fact handle or, when it isn't stored, the one of an object equal to its own.
+     */
+    public InternalFactHandle remove(InternalFactHandle handle) {
+        int slot = find( handle );
+        if ( slot < 0 ) {
+            return null;
+        }
+        InternalFactHandle removed = handles[slot];
+        delete( slot );
+        return removed;
+    }
+
+    public void clear() {
+        Arrays.fill( handles, null );
+        size = 0;
+    }
+
+    public Collection<InternalFactHandle> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<InternalFactHandle> iterator() {
+                return new HandlesIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int find(InternalFactHandle handle) {
+        int hash = handle.getObjectHashCode();
+        int mask = handles.length - 1;
+        int equalSlot = -1;
+        for (int i = index( hash, mask ); handles[i] != null; i = (i + 1) & mask) {
+            if ( handles[i] == handle ) {
+                return i;
+            }
+            if ( equalSlot < 0 && hashes[i] == hash && isEqual( handle.getObject(), handles[i].getObject() ) ) {
+                equalSlot = i;
+            }
+        }
+        if ( equalSlot >= 0 ) {
+            return equalSlot;
+        }
+        // the hash code cached by the handle can be stale only when the fact has been modified in place without being updated
+        for (int i = 0; i < handles.length; i++) {
+            if ( handles[i] == handle ) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void delete(int slot) {
+        int mask = handles.length - 1;
+        int hole = slot;
+        // shift back the following entries of the same probe sequence, so that no tombstone is needed
+        for (int i = (hole + 1) & mask; handles[i] != null; i = (i + 1) & mask) {
+            int home = index( hashes[i], mask );
+            boolean movable = hole <= i ? (home <= hole || home > i) : (home <= hole && home > i);
+            if ( movable ) {
+                handles[hole] = handles[i];
+                hashes[hole] = hashes[i];
+                hole = i;
+            }
+        }
+        handles[hole] = null;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        InternalFactHandle[] oldHandles = handles;
+        int[] oldHashes = hashes;
+        handles = new InternalFactHandle[capacity];
+        hashes = new int[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldHandles.length; j++) {
+            if ( oldHandles[j] != null ) {
+                int i = index( oldHashes[j], mask );
+                while ( handles[i] != null ) {
+                    i = (i + 1) & mask;
+                }
+                handles[i] = oldHandles[j];
+                hashes[i] = oldHashes[j];
+            }
+        }
+    }
+
+    private static int index(int hash, int mask) {
+        int h = hash * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static boolean isEqual(Object object, Object stored) {
+        return object == stored || object.equals( stored );
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt( size );
+        for (int i = 0; i < handles.length; i++) {
+            if ( handles[i] != null ) {
+                out.writeObject( handles[i] );
+                out.writeInt( hashes[i] );
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int storedSize = in.readInt();
+        int capacity = DEFAULT_CAPACITY;
+        while ( capacity >> 1 < storedSize ) {
+            capacity <<= 1;
+        }
+        handles = new InternalFactHandle[capacity];
+        hashes = new int[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < storedSize; j++) {
+            InternalFactHandle handle = (InternalFactHandle) in.readObject();
+            int hash = in.readInt();
+            int i = index( hash, mask );
+            while ( handles[i] != null ) {
+                i = (i + 1) & mask;
+            }
+            handles[i] = handle;
+            hashes[i] = hash;
+        }
+        size = storedSize;
+    }
+
+    private class HandlesIterator implements Iterator<InternalFactHandle> {
+        private int next = advance( 0 );
+
+        private int advance(int from) {
+            int i = from;
+            while ( i < handles.length && handles[i] == null ) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < handles.length;
+        }
+
+        @Override
+        public InternalFactHandle next() {
+            if ( !hasNext() ) {
+                throw new NoSuchElementException();
+            }
+            InternalFactHandle handle = handles[next];
+            next = advance( next + 1 );
+            return handle;
+        }
+    }
+}
@@ -42,6 +42,14 @@ public class ExecutorProviderImpl implements KieExecutors {
 
     public static final String THREAD_FACTORY_PROPERTY = "drools.threadFactory";
 
+    /**
+     * Value of the {@link #THREAD_FACTORY_PROPERTY} making all the executors use virtual threads. In this case
+     * the default executor creates a new virtual thread for each task, so that for instance many sessions can
+     * fireUntilHalt on it, possibly using a lock-free propagation list that doesn't pin the carrier thread while parked.
+     * This requires a JVM supporting virtual threads.
+     */
+    public static final String VIRTUAL_THREAD_FACTORY = "virtual";
+
     private static class ExecutorHolder {
         private static final ExecutorService executor;
         private static final ThreadFactory threadFactory;
@@ -49,8 +57,11 @@ public class ExecutorProviderImpl implements KieExecutors {
         static {
             String threadFactoryClass = getConfig( THREAD_FACTORY_PROPERTY );
 
+            boolean virtualThreads = VIRTUAL_THREAD_FACTORY.equals( threadFactoryClass );
             if ( threadFactoryClass == null ) {
                 threadFactory = new DaemonThreadFactory();
+            } else if ( virtualThreads ) {
+                threadFactory = VirtualThreads.newThreadFactory();
             } else {
                 try {
                     threadFactory = (ThreadFactory) Class.forName( threadFactoryClass ).newInstance();
@@ -73,6 +84,11 @@ public class ExecutorProviderImpl implements KieExecutors {
                 }
             }
 
+            if (newExecutor == null && virtualThreads) {
+                // virtual threads are cheap and must not be pooled
+                newExecutor = VirtualThreads.newThreadPerTaskExecutor( threadFactory );
+            }
+
             if (newExecutor == null) {
                 newExecutor = new ThreadPoolExecutor( Pool.SIZE, Pool.SIZE,
                                                       60L, TimeUnit.SECONDS,
@@ -104,6 +120,29 @@ public class ExecutorProviderImpl implements KieExecutors {
         return new ExecutorCompletionService<>(getExecutor());
     }
 
+    private static class VirtualThreads {
+
+        // virtual threads are looked up reflectively, because this module still has to run on JVMs not supporting them
+        static ThreadFactory newThreadFactory() {
+            try {
+                Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+                Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+                builder = builderClass.getMethod( "name", String.class, long.class ).invoke( builder, "drools-virtual-worker-", 1L );
+                return (ThreadFactory) builderClass.getMethod( "factory" ).invoke( builder );
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException( "Unable to create virtual threads, they are not supported by this JVM", e );
+            }
+        }
+
+        static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+            try {
+                return (ExecutorService) Executors.class.getMethod( "newThreadPerTaskExecutor", ThreadFactory.class ).invoke( null, threadFactory );
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException( "Unable to create a thread per task executor, it is not supported by this JVM", e );
+            }
+        }
+    }
+
     public static class DaemonThreadFactory implements ThreadFactory {
         private static final AtomicInteger threadCount = new AtomicInteger();
 
@@ -30,4 +30,6 @@ public interface GroupEvaluator {
     void resetKnowledgeHelper();
 
     void haltEvaluation();
+
+    default void reset() { }
 }
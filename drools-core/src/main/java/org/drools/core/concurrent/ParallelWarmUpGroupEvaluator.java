@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.base.definitions.rule.impl.RuleImpl;
+import org.drools.base.reteoo.NodeTypeEnums;
+import org.drools.core.common.ActivationsManager;
+import org.drools.core.common.InternalAgendaGroup;
+import org.drools.core.phreak.RuleAgendaItem;
+import org.drools.core.reteoo.BetaNode;
+import org.drools.core.reteoo.LeftTupleNode;
+import org.drools.core.reteoo.PathMemory;
+import org.drools.core.reteoo.SegmentMemory;
+
+import static org.drools.base.common.PartitionsManager.MIN_PARALLEL_THRESHOLD;
+import static org.drools.base.common.PartitionsManager.doOnForkJoinPool;
+
+/**
+ * Evaluates in parallel the network of the dirty RuleAgendaItems the first time that an agenda group with enough
+ * of them is evaluated, typically after the session has been populated with a bulk load. Differently from the {@link ParallelGroupEvaluator}
+ * it doesn't require a partitioned kbase: the items are grouped at runtime so that items sharing a segment memory,
+ * and then any node memory, are always evaluated by the same thread. Rules that cannot be safely evaluated outside
+ * of the engine thread (activation groups, auto focus, queries, timers, async nodes and subnetworks) are left to the
+ * normal sequential evaluation.
+ */
+public class ParallelWarmUpGroupEvaluator extends AbstractGroupEvaluator {
+
+    private boolean warmedUp;
+
+    public ParallelWarmUpGroupEvaluator(ActivationsManager activationsManager) {
+        super(activationsManager);
+    }
+
+    @Override
+    protected void startEvaluation(InternalAgendaGroup group) {
+        super.startEvaluation(group);
+        if (!warmedUp) {
+            warmedUp = parallelWarmUp(group);
+        }
+    }
+
+    @Override
+    public void reset() {
+        warmedUp = false;
+    }
+
+    private boolean parallelWarmUp(InternalAgendaGroup group) {
+        Collection<RuleAgendaItem> activations = group.getActivations();
+        if (activations.size() < MIN_PARALLEL_THRESHOLD) {
+            // avoid parallel evaluation if there aren't enough activations, the bulk of the work is still to come
+            return false;
+        }
+
+        Collection<List<RuleAgendaItem>> independentItems = groupByIndependentSegments(activations);
+        if (independentItems.size() < MIN_PARALLEL_THRESHOLD) {
+            // ... or independent groups of items
+            return true;
+        }
+
+        // As for the ParallelGroupEvaluator this only resets the dirty flag of the evaluated items, so the following
+        // AbstractGroupEvaluator#evaluateAndFire loop will find them already evaluated and will directly fire them.
+        doOnForkJoinPool(() ->
+                independentItems.parallelStream()
+                        .forEach( items -> items
+                                .forEach( item -> item.getRuleExecutor().evaluateNetworkIfDirty(activationsManager) ) )
+        );
+        return true;
+    }
+
+    private static Collection<List<RuleAgendaItem>> groupByIndependentSegments(Collection<RuleAgendaItem> activations) {
+        List<RuleAgendaItem> items = new ArrayList<>();
+        List<SegmentMemory[]> itemsSegments = new ArrayList<>();
+        for (RuleAgendaItem item : activations) {
+            if (item.getRuleExecutor().isDirty() && canBeEvaluatedInParallel(item)) {
+                items.add(item);
+                itemsSegments.add(item.getRuleExecutor().getPathMemory().getSegmentMemories());
+            }
+        }
+
+        // union-find over the items: 2 items end up in the same group if they (transitively) share a segment memory
+        int[] parents = new int[items.size()];
+        Map<SegmentMemory, Integer> segmentOwners = new IdentityHashMap<>();
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+            for (SegmentMemory smem : itemsSegments.get(i)) {
+                Integer owner = segmentOwners.putIfAbsent(smem, i);
+                if (owner != null) {
+                    parents[find(parents, i)] = find(parents, owner);
+                }
+            }
+        }
+
+        Map<Integer, List<RuleAgendaItem>> groups = new HashMap<>();
+        for (int i = 0; i < parents.length; i++) {
+            groups.computeIfAbsent(find(parents, i), k -> new ArrayList<>()).add(items.get(i));
+        }
+        return groups.values();
+    }
+
+    private static int find(int[] parents, int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
+    private static boolean canBeEvaluatedInParallel(RuleAgendaItem item) {
+        RuleImpl rule = item.getRule();
+        if (rule.getActivationGroup() != null || rule.getAutoFocus() || !rule.getDependingQueries().isEmpty()) {
+            return false;
+        }
+
+        PathMemory pmem = item.getRuleExecutor().getPathMemory();
+        for (SegmentMemory smem : pmem.getSegmentMemories()) {
+            if (smem == null) {
+                // not fully initialized or pure alpha path
+                return false;
+            }
+        }
+
+        for (LeftTupleNode node : pmem.getPathEndNode().getPathNodes()) {
+            switch (node.getType()) {
+                case NodeTypeEnums.QueryElementNode:
+                case NodeTypeEnums.TimerConditionNode:
+                case NodeTypeEnums.AsyncSendNode:
+                case NodeTypeEnums.AsyncReceiveNode:
+                    return false;
+            }
+            if (NodeTypeEnums.isBetaNode(node) && ((BetaNode) node).isRightInputIsRiaNode()) {
+                // the segments of the subnetwork are not part of this path and could be shared with other rules
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -46,4 +46,16 @@ public class RuleEventListenerSupport extends AbstractEventSupport<RuleEventList
             notifyAllListeners( match, (l, m) ->l.onUpdateMatch( m ) );
         }
     }
+
+    public void onBeforeFireAllRules() {
+        if ( hasListeners() ) {
+            notifyAllListeners( null, (l, m) -> l.onBeforeFireAllRules() );
+        }
+    }
+
+    public void onAfterFireAllRules(int firedMatches) {
+        if ( hasListeners() ) {
+            notifyAllListeners( firedMatches, (l, f) -> l.onAfterFireAllRules( f ) );
+        }
+    }
 }
@@ -102,6 +102,21 @@ public interface InternalRuleBase extends RuleBase {
 
     void executeQueuedActions();
 
+    /**
+     * Applies a change to the network shared by the sessions of this rule base once none of them is
+     * evaluating it, queuing it until then when needed.
+     */
+    void enqueueModification(Runnable modification);
+
+    /**
+     * Returns true if this rule base keeps track of its sessions, so that {@link #enqueueModification(Runnable)}
+     * can defer a modification until none of them is evaluating the network. A rule base that doesn't,
+     * can only serialize it with the other modifications.
+     */
+    default boolean isSessionsAware() {
+        return false;
+    }
+
     ReteooBuilder getReteooBuilder();
 
     void registerAddedEntryNodeCache(EntryPointNode node);
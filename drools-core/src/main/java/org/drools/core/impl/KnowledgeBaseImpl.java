@@ -1185,6 +1185,17 @@ public class KnowledgeBaseImpl implements InternalRuleBase {
         }
     }
 
+    @Override
+    public void enqueueModification(Runnable modification) {
+        // this rule base doesn't track its sessions, so the modification is only serialized with the other ones
+        kBaseInternal_writeLock();
+        try {
+            modification.run();
+        } finally {
+            kBaseInternal_writeUnlock();
+        }
+    }
+
     private void addReloadDialectDatas( DialectRuntimeRegistry registry ) {
         this.reloadPackageCompilationData.offer( registry );
     }
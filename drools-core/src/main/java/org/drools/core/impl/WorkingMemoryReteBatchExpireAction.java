@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.impl;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.reteoo.ObjectTypeNode.ExpireBatchJobContext;
+
+/**
+ * Expires together all the events of a batch that are due at the same timestamp, walking
+ * the ones that have not been retracted in the meanwhile with a single propagation.
+ */
+public class WorkingMemoryReteBatchExpireAction extends PropagationEntry.AbstractPropagationEntry {
+
+    private final ExpireBatchJobContext expireBatch;
+
+    public WorkingMemoryReteBatchExpireAction(ExpireBatchJobContext expireBatch) {
+        this.expireBatch = expireBatch;
+    }
+
+    public ExpireBatchJobContext getExpireBatch() {
+        return expireBatch;
+    }
+
+    @Override
+    public void internalExecute(ReteEvaluator reteEvaluator) {
+        for (WorkingMemoryReteExpireAction expireAction : expireBatch.drainExpireActions()) {
+            if (expireAction.getFactHandle().removeExpireBatch(expireBatch)) {
+                expireAction.internalExecute(reteEvaluator);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Expiration batch at " + expireBatch.getTimestamp() + " for " + expireBatch.getObjectTypeNode();
+    }
+}
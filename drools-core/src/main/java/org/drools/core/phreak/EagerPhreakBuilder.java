@@ -26,6 +26,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.drools.base.common.NetworkNode;
@@ -75,6 +80,7 @@ import org.drools.core.reteoo.TupleImpl;
 import org.drools.core.reteoo.TupleMemory;
 import org.drools.core.reteoo.WindowNode;
 import org.drools.core.util.FastIterator;
+import org.kie.internal.concurrent.ExecutorProviderFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -105,7 +111,7 @@ public class EagerPhreakBuilder implements PhreakBuilder {
             BuildtimeSegmentUtilities.createPathProtoMemories(tn, null, kBase);
 
             // rule added with no sharing, so populate it's lian
-            wms.forEach(wm -> Add.insertLiaFacts(tn.getPathNodes()[0], wm, visited, false));
+            forEachSession(wms, wm -> Add.insertLiaFacts(tn.getPathNodes()[0], wm, visited, false));
         } else {
             List<Pair> exclBranchRoots = getExclusiveBranchRoots(tn);
 
@@ -117,14 +123,61 @@ public class EagerPhreakBuilder implements PhreakBuilder {
             exclBranchRoots.forEach(pair -> processLeftTuples(pair.parent, true, tn, wms));
         }
 
-        for (InternalWorkingMemory wm : wms) {
+        forEachSession(wms, wm -> {
             Add.addExistingSegmentMemories(Arrays.asList(tn.getPathEndNodes()), wm);
             Add.insertFacts(tn, wm, visited, false);
-        }
+        });
 
         smemsToNotify.forEach(pair -> pair.sm.notifyRuleLinkSegment(pair.wm));
     }
 
+    /**
+     * Runs the given action on all the sessions. The network changes are applied while all the sessions are locked,
+     * but then the memories of each session are independent from the ones of the others, so their population with,
+     * or cleanup from, the existing facts can run in parallel, shortening the time during which all sessions are stalled.
+     * This is opt-in, see {@link PhreakBuilder#isParallelSessionsUpdate()} for the threading contract.
+     */
+    private static void forEachSession(Collection<InternalWorkingMemory> wms, Consumer<InternalWorkingMemory> action) {
+        if (wms.size() < 2 || !PhreakBuilder.isParallelSessionsUpdate()) {
+            wms.forEach(action);
+            return;
+        }
+
+        List<InternalWorkingMemory> sessions = new ArrayList<>(wms);
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(sessions.size());
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < sessions.size(); i = next.getAndIncrement()) {
+                try {
+                    action.accept(sessions.get(i));
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+
+        // the current thread also takes part, so that this completes even if no thread of the executor is available
+        Executor executor = ExecutorProviderFactory.getExecutorProvider().getExecutor();
+        int helpers = Math.min(sessions.size(), Runtime.getRuntime().availableProcessors()) - 1;
+        for (int i = 0; i < helpers; i++) {
+            executor.execute(worker);
+        }
+        worker.run();
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
     /**
      * This method is called before the rule nodes are removed from the network.
      * For remove tuples are processed before the segments and pmems have been adjusted
@@ -143,13 +196,13 @@ public class EagerPhreakBuilder implements PhreakBuilder {
 
         List<Pair> exclBranchRoots = getExclusiveBranchRoots(tn);
 
-        for (InternalWorkingMemory wm : wms) {
+        forEachSession(wms, wm -> {
             PathMemory pmem = (PathMemory) wm.getNodeMemories().peekNodeMemory(tn);
             if (pmem != null) {
                 List<LeftTupleNode> splits = exclBranchRoots.stream().map( pair -> pair.parent).filter(Objects::nonNull).collect(Collectors.toList());
                 LazyPhreakBuilder.flushStagedTuples(tn, pmem, splits, wm);
             }
-        }
+        });
 
         if (exclBranchRoots.isEmpty()) {
             LeftTupleNode lian = tn.getPathNodes()[0];
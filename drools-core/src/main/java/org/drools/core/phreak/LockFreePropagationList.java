@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.drools.core.common.ReteEvaluator;
+
+/**
+ * A multi-producer single-consumer PropagationList where the threads adding entries never block each other.
+ * The producers push the entries on a lock-free stack, while the engine thread, which is the only consumer,
+ * atomically detaches the whole stack and reverses it, so the entries are flushed in the same order
+ * they have been added by each producer, as it happens with the {@link SynchronizedPropagationList}.
+ * When firing until halt the engine thread parks without holding any monitor, so that it doesn't pin
+ * its carrier thread when it is a virtual one.
+ */
+public class LockFreePropagationList implements PropagationList {
+
+    private final ReteEvaluator reteEvaluator;
+
+    private final AtomicReference<PropagationEntry> top = new AtomicReference<>();
+
+    private volatile boolean disposed = false;
+
+    private volatile boolean hasEntriesDeferringExpiration = false;
+
+    private volatile boolean firingUntilHalt = false;
+
+    private volatile Thread waitingOnRest;
+
+    public LockFreePropagationList(ReteEvaluator reteEvaluator) {
+        this.reteEvaluator = reteEvaluator;
+    }
+
+    @Override
+    public void addEntry(final PropagationEntry entry) {
+        if (entry.requiresImmediateFlushing()) {
+            if (entry.isCalledFromRHS()) {
+                entry.execute(reteEvaluator);
+            } else {
+                reteEvaluator.getActivationsManager().executeTask( new ExecutableEntry() {
+                    @Override
+                    public void execute() {
+                        if (entry instanceof PhreakTimerNode.TimerAction) {
+                            ( (PhreakTimerNode.TimerAction) entry ).execute( reteEvaluator, true );
+                        } else {
+                            entry.execute( reteEvaluator );
+                        }
+                    }
+
+                    @Override
+                    public void enqueue() {
+                        internalAddEntry( entry );
+                    }
+                } );
+            }
+        } else {
+            internalAddEntry( entry );
+        }
+    }
+
+    void internalAddEntry( PropagationEntry entry ) {
+        PropagationEntry current;
+        do {
+            current = top.get();
+            entry.setNext( current );
+        } while ( !top.compareAndSet( current, entry ) );
+
+        if (entry.defersExpiration()) {
+            hasEntriesDeferringExpiration = true;
+        }
+
+        // only the producer finding the list empty has to wake up the engine, otherwise the engine
+        // has not taken the previous entries yet and will find this one together with them
+        if (current == null && firingUntilHalt) {
+            notifyWaitOnRest();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+
+    @Override
+    public void flush() {
+        flush( takeAll() );
+    }
+
+    @Override
+    public void flush(PropagationEntry currentHead) {
+        for (PropagationEntry entry = currentHead; !disposed && entry != null; entry = entry.getNext()) {
+            entry.execute(reteEvaluator);
+        }
+    }
+
+    @Override
+    public boolean hasEntriesDeferringExpiration() {
+        return hasEntriesDeferringExpiration;
+    }
+
+    @Override
+    public PropagationEntry takeAll() {
+        // reset the flag before detaching the stack: an entry added in the meanwhile can only make it
+        // conservatively true, while doing it after could hide an entry that is still in the stack
+        hasEntriesDeferringExpiration = false;
+        return reverse( top.getAndSet( null ) );
+    }
+
+    private static PropagationEntry reverse( PropagationEntry entry ) {
+        PropagationEntry previous = null;
+        while (entry != null) {
+            PropagationEntry next = entry.getNext();
+            entry.setNext( previous );
+            previous = entry;
+            entry = next;
+        }
+        return previous;
+    }
+
+    @Override
+    public void reset() {
+        top.set( null );
+        disposed = false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    @Override
+    public void waitOnRest() {
+        waitingOnRest = Thread.currentThread();
+        try {
+            if (isEmpty()) {
+                park();
+            }
+        } finally {
+            waitingOnRest = null;
+        }
+    }
+
+    @Override
+    public PropagationEntry takeAllOrWaitOnRest( Supplier<PropagationEntry> takeAll, BooleanSupplier canWait ) {
+        // the waiting thread is published before looking for entries, so a producer either adds an entry
+        // that is taken here or finds the thread to be unparked and no wake up can be lost
+        waitingOnRest = Thread.currentThread();
+        try {
+            PropagationEntry head = takeAll.get();
+            if (head == null && canWait.getAsBoolean()) {
+                park();
+                head = takeAll.get();
+            }
+            return head;
+        } finally {
+            waitingOnRest = null;
+        }
+    }
+
+    private void park() {
+        LockSupport.park( this );
+        // as for an interrupted wait, the interruption only wakes up the engine
+        Thread.interrupted();
+    }
+
+    @Override
+    public void notifyWaitOnRest() {
+        Thread waiting = waitingOnRest;
+        if (waiting != null) {
+            LockSupport.unpark( waiting );
+        }
+    }
+
+    @Override
+    public Iterator<PropagationEntry> iterator() {
+        // the entries in the stack are never modified until they are taken, so it is safe to read them
+        List<PropagationEntry> entries = new ArrayList<>();
+        for (PropagationEntry entry = top.get(); entry != null; entry = entry.getNext()) {
+            entries.add( entry );
+        }
+        Collections.reverse( entries );
+        return entries.iterator();
+    }
+
+    @Override
+    public void onEngineInactive() { }
+
+    @Override
+    public void setFiringUntilHalt( boolean firingUntilHalt ) {
+        this.firingUntilHalt = firingUntilHalt;
+    }
+}
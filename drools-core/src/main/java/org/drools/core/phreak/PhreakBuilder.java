@@ -36,11 +36,26 @@ public interface PhreakBuilder {
         return Holder.EAGER_SEGMENT_CREATION;
     }
 
+    /**
+     * Whether the memories of the sessions of a kbase are updated in parallel after a rule is added or removed.
+     * Disabled by default, it can be enabled with drools.parallelSessionsUpdate=true.
+     * <p>
+     * When enabled, the update of each session runs on a thread of the kie executor, concurrently with the
+     * updates of the other sessions, rather than on the thread adding or removing the rule. That update evaluates
+     * the network, so user code such as accumulate functions, from sources and agenda or working memory listeners
+     * can be invoked off the caller's thread and concurrently across sessions. It is then up to the application to
+     * make any such code, and any listener instance registered on more than one session, thread-safe.
+     */
+    static boolean isParallelSessionsUpdate() {
+        return Holder.PARALLEL_SESSIONS_UPDATE;
+    }
+
     void addRule(TerminalNode tn, Collection<InternalWorkingMemory> wms, InternalRuleBase kBase);
     void removeRule(TerminalNode tn, Collection<InternalWorkingMemory> wms, InternalRuleBase kBase);
 
     class Holder {
         private static final boolean EAGER_SEGMENT_CREATION = Boolean.parseBoolean(getConfig("drools.useEagerSegmentCreation", "true"));
+        private static final boolean PARALLEL_SESSIONS_UPDATE = Boolean.parseBoolean(getConfig("drools.parallelSessionsUpdate", "false"));
         private static final PhreakBuilder PHREAK_BUILDER = EAGER_SEGMENT_CREATION ? new EagerPhreakBuilder() : new LazyPhreakBuilder();
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.phreak;
+
+import org.drools.core.reteoo.PathMemory;
+import org.kie.api.internal.utils.KieService;
+
+/**
+ * Receives the linking, unlinking and evaluation events of the lazy Phreak network, so that the rules whose
+ * segments keep linking and unlinking can be found. It is disabled unless an implementation is found on the
+ * classpath and it reports to be enabled, in which case the engine invokes it on the path memory of every
+ * rule and subnetwork.
+ */
+public interface PhreakNetworkProfiler extends KieService {
+
+    boolean isEnabled();
+
+    void segmentLinked(PathMemory pmem);
+
+    void segmentUnlinked(PathMemory pmem);
+
+    void ruleLinked(PathMemory pmem);
+
+    void ruleUnlinked(PathMemory pmem, long linkedTimeInNanos);
+
+    void networkEvaluated(PathMemory pmem, int evaluatedSegments, int stagedTuples, long elapsedTimeInNanos);
+
+    void tuplesPropagated(PathMemory pmem, int propagatedTuples);
+
+    class Factory {
+
+        private static class LazyHolder {
+
+            private static final PhreakNetworkProfiler INSTANCE = createInstance();
+
+            private static PhreakNetworkProfiler createInstance() {
+                PhreakNetworkProfiler profiler = KieService.load(PhreakNetworkProfiler.class);
+                return profiler != null && profiler.isEnabled() ? profiler : null;
+            }
+        }
+
+        /**
+         * Returns the profiler in use or null when profiling is disabled.
+         */
+        public static PhreakNetworkProfiler get() {
+            return LazyHolder.INSTANCE;
+        }
+
+        private Factory() {}
+    }
+}
@@ -22,6 +22,9 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
 import org.drools.base.reteoo.NodeTypeEnums;
@@ -208,6 +211,7 @@ public interface PropagationEntry {
 
     class Insert extends AbstractPropagationEntry implements Externalizable {
         private static final ObjectTypeNode.ExpireJob job = new ObjectTypeNode.ExpireJob();
+        private static final ObjectTypeNode.ExpireBatchJob batchJob = new ObjectTypeNode.ExpireBatchJob();
 
         private InternalFactHandle handle;
         private PropagationContext context;
@@ -277,10 +281,16 @@ public interface PropagationEntry {
             DefaultEventHandle eventFactHandle = (DefaultEventHandle) handle;
             long nextTimestamp = getNextTimestamp( insertionTime, expirationOffset, eventFactHandle );
 
-            WorkingMemoryReteExpireAction action = new WorkingMemoryReteExpireAction((DefaultEventHandle) handle, otn );
             if (nextTimestamp <= reteEvaluator.getTimerService().getCurrentTime()) {
-                reteEvaluator.addPropagation( action );
+                reteEvaluator.addPropagation( new WorkingMemoryReteExpireAction( eventFactHandle, otn ) );
+                return;
+            }
+
+            Map<ObjectTypeNode, ObjectTypeNode.ExpireBatchJobContext> expireBatches = handle.getEntryPoint(reteEvaluator).getExpireBatches();
+            if (expireBatches != null) {
+                scheduleBatchedExpiration( reteEvaluator, eventFactHandle, otn, nextTimestamp, expireBatches );
             } else {
+                WorkingMemoryReteExpireAction action = new WorkingMemoryReteExpireAction( eventFactHandle, otn );
                 JobContext jobctx = new ObjectTypeNode.ExpireJobContext( action, reteEvaluator );
                 DefaultJobHandle jobHandle = (DefaultJobHandle) reteEvaluator.getTimerService()
                                                                              .scheduleJob( job, jobctx, PointInTimeTrigger.createPointInTimeTrigger( nextTimestamp, null ) );
@@ -289,6 +299,21 @@ public interface PropagationEntry {
             }
         }
 
+        private static void scheduleBatchedExpiration( ReteEvaluator reteEvaluator, DefaultEventHandle eventFactHandle, ObjectTypeNode otn, long nextTimestamp,
+                                                       Map<ObjectTypeNode, ObjectTypeNode.ExpireBatchJobContext> expireBatches ) {
+            synchronized (expireBatches) {
+                ObjectTypeNode.ExpireBatchJobContext expireBatch = expireBatches.get( otn );
+                if ( expireBatch != null && expireBatch.getTimestamp() == nextTimestamp && expireBatch.add( eventFactHandle ) ) {
+                    return;
+                }
+                expireBatch = new ObjectTypeNode.ExpireBatchJobContext( otn, nextTimestamp, reteEvaluator );
+                expireBatch.add( eventFactHandle );
+                expireBatch.setJobHandle( reteEvaluator.getTimerService()
+                                                       .scheduleJob( batchJob, expireBatch, PointInTimeTrigger.createPointInTimeTrigger( nextTimestamp, null ) ) );
+                expireBatches.put( otn, expireBatch );
+            }
+        }
+
         private static long getNextTimestamp( long insertionTime, long expirationOffset, DefaultEventHandle eventFactHandle) {
             long effectiveEnd = eventFactHandle.getEndTimestamp() + expirationOffset;
             return Math.max( insertionTime, effectiveEnd >= 0 ? effectiveEnd : Long.MAX_VALUE );
@@ -319,6 +344,76 @@ public interface PropagationEntry {
         }
     }
 
+    class InsertAll extends AbstractPropagationEntry implements Externalizable {
+        private ObjectTypeConf objectTypeConf;
+        private List<InternalFactHandle> handles = new ArrayList<>();
+        private List<PropagationContext> contexts = new ArrayList<>();
+
+        public InsertAll() { }
+
+        public InsertAll( ObjectTypeConf objectTypeConf ) {
+            this.objectTypeConf = objectTypeConf;
+        }
+
+        public void add( InternalFactHandle handle, PropagationContext context ) {
+            handles.add( handle );
+            contexts.add( context );
+        }
+
+        public List<InternalFactHandle> getHandles() {
+            return handles;
+        }
+
+        public List<PropagationContext> getContexts() {
+            return contexts;
+        }
+
+        public void internalExecute(ReteEvaluator reteEvaluator ) {
+            int size = handles.size();
+            if (objectTypeConf == null) {
+                // it can be null after deserialization
+                InternalFactHandle first = handles.get(0);
+                objectTypeConf = first.getEntryPoint(reteEvaluator).getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf(first.getEntryPointId(), first.getObject());
+            }
+            // all the facts share the same ObjectTypeConf, so each ObjectTypeNode is visited once
+            // and stages the whole batch into its segment memories before moving to the next one
+            for ( ObjectTypeNode otn : objectTypeConf.getObjectTypeNodes() ) {
+                for (int i = 0; i < size; i++) {
+                    otn.propagateAssert( handles.get(i), contexts.get(i), reteEvaluator );
+                }
+            }
+            if ( !reteEvaluator.getKnowledgeBase().getKieBaseConfiguration().isMutabilityEnabled() ) {
+                for (int i = 0; i < size; i++) {
+                    InternalFactHandle handle = handles.get(i);
+                    if ( !handle.hasMatches() ) {
+                        handle.setDisconnected(true);
+                        handle.getEntryPoint(reteEvaluator).getObjectStore().removeHandle( handle );
+                    }
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Insert of " + handles.size() + " facts" + (objectTypeConf != null ? " of type " + objectTypeConf.getTypeName() : "");
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject(next);
+            out.writeObject(handles);
+            out.writeObject(contexts);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            this.next = (PropagationEntry) in.readObject();
+            this.handles = (List<InternalFactHandle>) in.readObject();
+            this.contexts = (List<PropagationContext>) in.readObject();
+        }
+    }
+
     class Update extends AbstractPropagationEntry implements Externalizable {
         private InternalFactHandle handle;
         private PropagationContext context;
@@ -19,6 +19,8 @@
 package org.drools.core.phreak;
 
 import java.util.Iterator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 public interface PropagationList {
     void addEntry(PropagationEntry propagationEntry);
@@ -38,6 +40,22 @@ public interface PropagationList {
 
     void waitOnRest();
 
+    /**
+     * Takes the pending entries with the given supplier or, when there are none and the given condition holds,
+     * puts the engine thread at rest until a new entry is added or {@link #notifyWaitOnRest()} is invoked.
+     */
+    default PropagationEntry takeAllOrWaitOnRest( Supplier<PropagationEntry> takeAll, BooleanSupplier canWait ) {
+        // this must use the same sync target as takeAll, to ensure this entire block is atomic, up to the point of wait
+        synchronized (this) {
+            PropagationEntry head = takeAll.get();
+            if (head == null && canWait.getAsBoolean()) {
+                waitOnRest();
+                head = takeAll.get();
+            }
+            return head;
+        }
+    }
+
     void notifyWaitOnRest();
 
     void onEngineInactive();
@@ -102,6 +102,8 @@ public class RuleNetworkEvaluator {
     private static final PhreakRuleTerminalNode pRtNode     = PhreakNetworkNodeFactory.Factory.get().createPhreakRuleTerminalNode();
     private static final PhreakQueryTerminalNode pQtNode     = PhreakNetworkNodeFactory.Factory.get().createPhreakQueryTerminalNode();
 
+    private static final PhreakNetworkProfiler profiler = PhreakNetworkProfiler.Factory.get();
+
     private static int cycle = 0;
 
 
@@ -112,6 +114,46 @@ public class RuleNetworkEvaluator {
     }
 
     public void evaluateNetwork(PathMemory pmem, RuleExecutor executor, ActivationsManager activationsManager) {
+        if (profiler != null) {
+            profileEvaluateNetwork(pmem, executor, activationsManager);
+        } else {
+            doEvaluateNetwork(pmem, executor, activationsManager);
+        }
+    }
+
+    private void profileEvaluateNetwork(PathMemory pmem, RuleExecutor executor, ActivationsManager activationsManager) {
+        int evaluatedSegments = 0;
+        int stagedTuples = 0;
+        SegmentMemory[] smems = pmem.getSegmentMemories();
+        if (smems != null) {
+            for (SegmentMemory smem : smems) {
+                if (smem != null && (smem.getDirtyNodeMask() != 0 || !smem.getStagedLeftTuples().isEmpty())) {
+                    evaluatedSegments++;
+                    stagedTuples += countTuples(smem.getStagedLeftTuples());
+                }
+            }
+        }
+
+        long start = System.nanoTime();
+        doEvaluateNetwork(pmem, executor, activationsManager);
+        profiler.networkEvaluated(pmem, evaluatedSegments, stagedTuples, System.nanoTime() - start);
+    }
+
+    private static int countTuples(TupleSets tupleSets) {
+        int count = 0;
+        for (TupleImpl tuple = tupleSets.getInsertFirst(); tuple != null; tuple = tuple.getStagedNext()) {
+            count++;
+        }
+        for (TupleImpl tuple = tupleSets.getUpdateFirst(); tuple != null; tuple = tuple.getStagedNext()) {
+            count++;
+        }
+        for (TupleImpl tuple = tupleSets.getDeleteFirst(); tuple != null; tuple = tuple.getStagedNext()) {
+            count++;
+        }
+        return count;
+    }
+
+    private void doEvaluateNetwork(PathMemory pmem, RuleExecutor executor, ActivationsManager activationsManager) {
         SegmentMemory[] smems = pmem.getSegmentMemories();
 
 
@@ -329,6 +371,10 @@ public class RuleNetworkEvaluator {
                 }
             }
 
+            if (profiler != null && NodeTypeEnums.isEndNode(node)) {
+                profiler.tuplesPropagated(pmem, countTuples(srcTuples));
+            }
+
             boolean terminalNode = true;
             switch (node.getType()) {
                 case NodeTypeEnums.RuleTerminalNode:
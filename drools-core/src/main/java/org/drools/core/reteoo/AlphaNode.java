@@ -107,6 +107,27 @@ public class AlphaNode extends ObjectSource
         this.source.addObjectSink(this);
     }
 
+    @Override
+    public void addObjectSink(final ObjectSink objectSink) {
+        super.addObjectSink(objectSink);
+        notifyDescendantSinksChanged();
+    }
+
+    @Override
+    public void removeObjectSink(final ObjectSink objectSink) {
+        super.removeObjectSink(objectSink);
+        notifyDescendantSinksChanged();
+    }
+
+    private void notifyDescendantSinksChanged() {
+        // the propagators above may hash the chains of alpha nodes ending with this one
+        ObjectSource ancestor = this.source;
+        while (ancestor != null) {
+            ancestor.getObjectSinkPropagator().descendantSinksChanged();
+            ancestor = ancestor.getType() == NodeTypeEnums.AlphaNode ? ancestor.source : null;
+        }
+    }
+
     @Override
     public void setPartitionId(BuildContext context, RuleBasePartitionId partitionId) {
         if (this.partitionId != null && this.partitionId != partitionId) {
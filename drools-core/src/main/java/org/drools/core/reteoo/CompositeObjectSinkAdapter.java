@@ -42,6 +42,9 @@ import org.drools.core.common.BaseNode;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.PropagationContext;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.common.UpdateContext;
+import org.drools.core.impl.InternalRuleBase;
+import org.drools.core.util.index.AlphaCompositeHashIndex;
 import org.drools.core.util.index.AlphaRangeIndex;
 
 import static org.drools.base.util.index.IndexUtil.isBigDecimalEqualityConstraint;
@@ -57,6 +60,15 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     private static final long serialVersionUID = 510L;
 
+    /** The number of propagations sampled before deciding how to reorganize the sinks when adaptive indexing is enabled */
+    static final int ADAPTIVE_INDEXING_SAMPLE_SIZE = 1024;
+
+    /** The minimum number of alpha nodes on the same field that is worth indexing when adaptive indexing is enabled */
+    static final int ADAPTIVE_INDEXING_MIN_SINKS = 2;
+
+    /** The highest ratio of matching range constraints for which a range index is cheaper than evaluating them */
+    static final double ADAPTIVE_RANGE_INDEX_MAX_SELECTIVITY = 0.5;
+
     private List<ObjectSinkNode>        otherSinks;
     private List<AlphaNode>        hashableSinks;
     private List<AlphaNode>        rangeIndexableSinks = null;
@@ -74,6 +86,14 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     private Map<NetworkNode, NetworkNode> sinksMap;
 
+    // the propagations sampled for the adaptive indexing since the last network change, -1 when not sampling.
+    // It is shared by all the sessions of the kbase and updated without synchronization, so it is only approximate
+    private transient int sampledPropagations;
+
+    // the composite hash indexes depend also on the sinks of the hashed alpha nodes, so they are lazily rebuilt
+    // on the first propagation after any change of this adapter or of the alpha nodes below it
+    private transient volatile boolean compositeHashIndexesUpToDate;
+
     public CompositeObjectSinkAdapter() {
         this( 3, 3 );
     }
@@ -134,6 +154,8 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     public ObjectSinkPropagator addObjectSink(ObjectSink sink, int alphaNodeHashingThreshold, int alphaNodeRangeIndexThreshold) {
         this.sinks = null; // dirty it, so it'll rebuild on next get
+        this.sampledPropagations = 0;
+        this.compositeHashIndexesUpToDate = false;
         if (this.sinksMap != null) {
             this.sinksMap.put( sink, sink );
         }
@@ -148,7 +170,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
                 //DROOLS-678 : prevent null values from being hashed as 0s
                 final FieldValue value = ((IndexableConstraint)alphaNode.getConstraint()).getField();
-                if ( fieldIndex.getCount() >= this.alphaNodeHashingThreshold && this.alphaNodeHashingThreshold != 0 && ! value.isNull() ) {
+                if ( ( fieldIndex.isHashed() || fieldIndex.getCount() >= this.alphaNodeHashingThreshold && this.alphaNodeHashingThreshold != 0 ) && ! value.isNull() ) {
                     if ( !fieldIndex.isHashed() ) {
                         hashSinks( fieldIndex );
                     }
@@ -174,7 +196,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                 final int index = ReadAccessor.getIndex();
                 final FieldIndex fieldIndex = registerFieldIndexForRange(index, ReadAccessor);
                 final FieldValue value = indexableConstraint.getField();
-                if (fieldIndex.getCount() >= this.alphaNodeRangeIndexThreshold && this.alphaNodeRangeIndexThreshold != 0 && !value.isNull()) {
+                if ((fieldIndex.isRangeIndexed() || fieldIndex.getCount() >= this.alphaNodeRangeIndexThreshold && this.alphaNodeRangeIndexThreshold != 0) && !value.isNull()) {
                     if (!fieldIndex.isRangeIndexed()) {
                         rangeIndexSinks(fieldIndex);
                     }
@@ -197,7 +219,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         return this;
     }
 
-    static ReadAccessor getHashableAccessor(AlphaNode alphaNode) {
+    public static ReadAccessor getHashableAccessor(AlphaNode alphaNode) {
         AlphaNodeFieldConstraint fieldConstraint = alphaNode.getConstraint();
         if ( fieldConstraint instanceof IndexableConstraint ) {
             IndexableConstraint indexableConstraint = (IndexableConstraint) fieldConstraint;
@@ -218,6 +240,8 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     public ObjectSinkPropagator removeObjectSink(final ObjectSink sink) {
         this.sinks = null; // dirty it, so it'll rebuild on next get
+        this.sampledPropagations = 0;
+        this.compositeHashIndexesUpToDate = false;
         if (this.sinksMap != null) {
             this.sinksMap.remove( sink );
         }
@@ -540,19 +564,26 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
     public void propagateAssertObject(final InternalFactHandle factHandle,
                                       final PropagationContext context,
                                       final ReteEvaluator reteEvaluator) {
+        if ( this.sampledPropagations >= 0 ) {
+            samplePropagation( factHandle, reteEvaluator );
+        }
+
         final Object object = factHandle.getObject();
 
         // Iterates the FieldIndex collection, which tells you if particularly field is hashed or not
         // if the field is hashed then it builds the hashkey to return the correct sink for the current objects slot's
         // value, one object may have multiple fields indexed.
         if ( this.hashedFieldIndexes != null ) {
+            if ( !this.compositeHashIndexesUpToDate ) {
+                updateCompositeHashIndexes();
+            }
             // Iterate the FieldIndexes to see if any are hashed
             for ( FieldIndex fieldIndex : this.hashedFieldIndexes ) {
                 if ( !fieldIndex.isHashed() ) {
                     continue;
                 }
                 // this field is hashed so set the existing hashKey and see if there is a sink for it
-                final AlphaNode sink = this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+                final AlphaNode sink = findHashedSink( fieldIndex, object );
                 if ( sink != null ) {
                     // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
                     sink.getObjectSinkPropagator().propagateAssertObject( factHandle, context, reteEvaluator );
@@ -609,19 +640,26 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                                       final ModifyPreviousTuples modifyPreviousTuples,
                                       final PropagationContext context,
                                       final ReteEvaluator reteEvaluator) {
+        if ( this.sampledPropagations >= 0 ) {
+            samplePropagation( factHandle, reteEvaluator );
+        }
+
         final Object object = factHandle.getObject();
 
         // Iterates the FieldIndex collection, which tells you if particularly field is hashed or not
         // if the field is hashed then it builds the hashkey to return the correct sink for the current objects slot's
         // value, one object may have multiple fields indexed.
         if ( this.hashedFieldIndexes != null ) {
+            if ( !this.compositeHashIndexesUpToDate ) {
+                updateCompositeHashIndexes();
+            }
             // Iterate the FieldIndexes to see if any are hashed
             for ( FieldIndex fieldIndex : this.hashedFieldIndexes ) {
                 if ( !fieldIndex.isHashed() ) {
                     continue;
                 }
                 // this field is hashed so set the existing hashKey and see if there is a sink for it
-                final AlphaNode sink = this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+                final AlphaNode sink = findHashedSink( fieldIndex, object );
                 if ( sink != null ) {
                     // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
                     sink.getObjectSinkPropagator().propagateModifyObject( factHandle, modifyPreviousTuples, context, reteEvaluator );
@@ -736,6 +774,139 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         }
     }
 
+    private AlphaNode findHashedSink(FieldIndex fieldIndex, Object object) {
+        // a composite index resolves with one lookup also the chain of alpha nodes below the hashed one
+        final AlphaCompositeHashIndex compositeHashIndex = fieldIndex.getCompositeHashIndex();
+        return compositeHashIndex != null ? compositeHashIndex.get( object ) : this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+    }
+
+    private synchronized void updateCompositeHashIndexes() {
+        if ( this.compositeHashIndexesUpToDate ) {
+            return;
+        }
+        for ( FieldIndex fieldIndex : this.hashedFieldIndexes ) {
+            AlphaCompositeHashIndex compositeHashIndex = null;
+            if ( fieldIndex.isHashed() ) {
+                final List<AlphaNode> hashedSinks = new ArrayList<>();
+                for ( Map.Entry<HashKey, AlphaNode> entry : this.hashedSinkMap.entrySet() ) {
+                    if ( entry.getKey().getIndex() == fieldIndex.getIndex() ) {
+                        hashedSinks.add( entry.getValue() );
+                    }
+                }
+                compositeHashIndex = AlphaCompositeHashIndex.create( fieldIndex, hashedSinks );
+            }
+            fieldIndex.setCompositeHashIndex( compositeHashIndex );
+        }
+        this.compositeHashIndexesUpToDate = true;
+    }
+
+    @Override
+    public void descendantSinksChanged() {
+        this.compositeHashIndexesUpToDate = false;
+    }
+
+    /**
+     * Collects the statistics used by the adaptive indexing: how many facts reach this adapter and, for the
+     * range constraints that are still evaluated one by one, how many of them are matched. Once enough
+     * propagations have been sampled the sinks reorganization is handed to the kbase, which applies it when
+     * none of its sessions is evaluating the network.
+     */
+    private void samplePropagation(InternalFactHandle factHandle, ReteEvaluator reteEvaluator) {
+        // the adapter doesn't know its kbase, so the option is checked on the first propagation after a network change
+        if ( this.sampledPropagations == 0 && !isAdaptiveIndexingEnabled( reteEvaluator ) ) {
+            this.sampledPropagations = -1;
+            return;
+        }
+
+        if ( this.rangeIndexableSinks != null ) {
+            for ( AlphaNode sink : this.rangeIndexableSinks ) {
+                final FieldIndex fieldIndex = findFieldIndexForRange( ((IndexableConstraint) sink.getConstraint()).getFieldExtractor().getIndex() );
+                fieldIndex.sample( sink.getConstraint().isAllowed( factHandle, reteEvaluator ) );
+            }
+        }
+
+        if ( ++this.sampledPropagations >= ADAPTIVE_INDEXING_SAMPLE_SIZE ) {
+            this.sampledPropagations = -1;
+            if ( hasAdaptiveIndexingCandidates() ) {
+                reteEvaluator.getKnowledgeBase().enqueueModification( this::adaptIndexing );
+            }
+        }
+    }
+
+    private static boolean isAdaptiveIndexingEnabled(ReteEvaluator reteEvaluator) {
+        if ( reteEvaluator == null ) {
+            return false;
+        }
+        InternalRuleBase kBase = reteEvaluator.getKnowledgeBase();
+        // a kbase that doesn't track its sessions, like the one of the rule units, can't wait until none of them
+        // is propagating through this adapter, so reorganizing it would race with the other threads using it
+        return kBase.getRuleBaseConfiguration().isAlphaNodeAdaptiveIndexing() && kBase.isSessionsAware();
+    }
+
+    private boolean hasAdaptiveIndexingCandidates() {
+        if ( this.hashedFieldIndexes != null ) {
+            for ( FieldIndex fieldIndex : this.hashedFieldIndexes ) {
+                if ( isAdaptiveHashingCandidate( fieldIndex ) ) {
+                    return true;
+                }
+            }
+        }
+        if ( this.rangeIndexedFieldIndexes != null ) {
+            for ( FieldIndex fieldIndex : this.rangeIndexedFieldIndexes ) {
+                if ( isAdaptiveRangeIndexingCandidate( fieldIndex ) ) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isAdaptiveHashingCandidate(FieldIndex fieldIndex) {
+        // the equality constraints on the same field have different values, so at most one of them matches a fact:
+        // once the adapter is proven hot, a lookup is always cheaper than testing them all
+        return !fieldIndex.isHashed() && this.alphaNodeHashingThreshold != 0 && fieldIndex.getCount() >= ADAPTIVE_INDEXING_MIN_SINKS;
+    }
+
+    private boolean isAdaptiveRangeIndexingCandidate(FieldIndex fieldIndex) {
+        // when most of the range constraints match, walking the index doesn't save any evaluation, so keep them linear
+        return !fieldIndex.isRangeIndexed() && this.alphaNodeRangeIndexThreshold != 0 && fieldIndex.getCount() >= ADAPTIVE_INDEXING_MIN_SINKS &&
+               fieldIndex.getSampledEvaluations() > 0 && fieldIndex.getSampledSelectivity() <= ADAPTIVE_RANGE_INDEX_MAX_SELECTIVITY;
+    }
+
+    /**
+     * Hashes or range indexes the sinks selected by the sampled statistics. It changes the network shared by
+     * all the sessions of the kbase, so it must only run through {@link org.drools.core.impl.InternalRuleBase#enqueueModification(Runnable)}.
+     */
+    void adaptIndexing() {
+        boolean reorganized = false;
+
+        if ( this.hashedFieldIndexes != null ) {
+            for ( FieldIndex fieldIndex : this.hashedFieldIndexes ) {
+                if ( isAdaptiveHashingCandidate( fieldIndex ) ) {
+                    hashSinks( fieldIndex );
+                    reorganized = true;
+                }
+            }
+        }
+
+        if ( this.rangeIndexedFieldIndexes != null ) {
+            for ( FieldIndex fieldIndex : this.rangeIndexedFieldIndexes ) {
+                if ( isAdaptiveRangeIndexingCandidate( fieldIndex ) ) {
+                    rangeIndexSinks( fieldIndex );
+                    reorganized = true;
+                }
+                fieldIndex.resetSamples();
+            }
+        }
+
+        if ( reorganized ) {
+            this.sinks = null; // dirty it, so it'll rebuild on next get
+            this.compositeHashIndexesUpToDate = false;
+            // the propagation order changed, so the ObjectTypeNode has to recalculate the ids of its tuple sinks
+            (( BaseNode ) getSinks()[0]).getObjectTypeNode().networkUpdated( new UpdateContext() );
+        }
+    }
+
     /**
      * This is a Hook method for subclasses to override. Please keep it protected unless you know
      * what you are doing.
@@ -1010,6 +1181,12 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         private boolean              hashed;
         private boolean              rangeIndexed;
 
+        // runtime statistics for the adaptive indexing, they are not serialized
+        private transient int        sampledEvaluations;
+        private transient int        sampledMatches;
+
+        private transient AlphaCompositeHashIndex compositeHashIndex;
+
         public FieldIndex() {
         }
 
@@ -1071,5 +1248,33 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         public void decreaseCounter() {
             this.count--;
         }
+
+        public int getSampledEvaluations() {
+            return this.sampledEvaluations;
+        }
+
+        public double getSampledSelectivity() {
+            return this.sampledEvaluations == 0 ? 0 : (double) this.sampledMatches / this.sampledEvaluations;
+        }
+
+        void sample(final boolean matched) {
+            this.sampledEvaluations++;
+            if ( matched ) {
+                this.sampledMatches++;
+            }
+        }
+
+        public AlphaCompositeHashIndex getCompositeHashIndex() {
+            return this.compositeHashIndex;
+        }
+
+        void setCompositeHashIndex(final AlphaCompositeHashIndex compositeHashIndex) {
+            this.compositeHashIndex = compositeHashIndex;
+        }
+
+        void resetSamples() {
+            this.sampledEvaluations = 0;
+            this.sampledMatches = 0;
+        }
     }
 }
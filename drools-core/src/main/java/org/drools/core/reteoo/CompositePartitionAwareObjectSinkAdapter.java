@@ -109,6 +109,13 @@ public class CompositePartitionAwareObjectSinkAdapter implements ObjectSinkPropa
         partitionedPropagators[newP] = partitionedPropagators[newP].addObjectSink( sink, alphaNodeHashingThreshold, alphaNodeRangeIndexThreshold );
     }
 
+    @Override
+    public void descendantSinksChanged() {
+        for ( ObjectSinkPropagator partitionedPropagator : partitionedPropagators ) {
+            partitionedPropagator.descendantSinksChanged();
+        }
+    }
+
     @Override
     public void propagateAssertObject( InternalFactHandle factHandle, PropagationContext context, ReteEvaluator reteEvaluator ) {
         ActivationsManager compositeAgenda = reteEvaluator.getActivationsManager();
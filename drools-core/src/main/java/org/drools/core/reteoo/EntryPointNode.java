@@ -204,6 +204,19 @@ public class EntryPointNode extends ObjectSource implements ObjectSink {
         }
     }
 
+    public void assertObjects(final PropagationEntry.InsertAll inserts,
+                              final ReteEvaluator reteEvaluator) {
+        if ( log.isTraceEnabled() ) {
+            log.trace("Insert {} facts", inserts.getHandles().size());
+        }
+
+        if ( parallelExecution || !reteEvaluator.isThreadSafe() ) {
+            inserts.internalExecute( reteEvaluator );
+        } else {
+            reteEvaluator.addPropagation( inserts );
+        }
+    }
+
 
     public void modifyObject(final InternalFactHandle handle,
                              final PropagationContext pctx,
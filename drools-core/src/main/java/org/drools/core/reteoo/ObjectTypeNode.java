@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -36,6 +37,7 @@ import org.drools.base.reteoo.NodeTypeEnums;
 import org.drools.base.rule.EntryPointId;
 import org.drools.base.rule.Pattern;
 import org.drools.base.time.JobHandle;
+import org.drools.core.common.DefaultEventHandle;
 import org.drools.core.common.DefaultFactHandle;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
@@ -44,6 +46,7 @@ import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.SuperCacheFixer;
 import org.drools.core.common.UpdateContext;
 import org.drools.core.impl.InternalRuleBase;
+import org.drools.core.impl.WorkingMemoryReteBatchExpireAction;
 import org.drools.core.impl.WorkingMemoryReteExpireAction;
 import org.drools.core.reteoo.builder.BuildContext;
 import org.drools.core.time.Job;
@@ -512,6 +515,126 @@ public class ObjectTypeNode extends ObjectSource implements ObjectSink {
         }
     }
 
+    public static class ExpireBatchJob
+            implements
+            Job, Serializable {
+
+        @Override
+        public void execute(JobContext ctx) {
+            ExpireBatchJobContext context = (ExpireBatchJobContext) ctx;
+            if (context.close()) {
+                context.reteEvaluator.addPropagation(new WorkingMemoryReteBatchExpireAction(context));
+            }
+        }
+    }
+
+    /**
+     * Coalesces the expirations of all the events, flowing through the same ObjectTypeNode,
+     * that are due at the same timestamp, so that a single timer job is scheduled for all of them.
+     * The batch stays open, accepting further expirations, until its job is fired or all its
+     * events have been retracted.
+     */
+    public static class ExpireBatchJobContext
+            implements
+            JobContext {
+        private final ObjectTypeNode otn;
+        private final long timestamp;
+        private final transient ReteEvaluator reteEvaluator;
+        private List<WorkingMemoryReteExpireAction> expireActions = new ArrayList<>();
+        private int pending;
+        private boolean closed;
+        private JobHandle handle;
+
+        public ExpireBatchJobContext(ObjectTypeNode otn, long timestamp, ReteEvaluator reteEvaluator) {
+            this.otn = otn;
+            this.timestamp = timestamp;
+            this.reteEvaluator = reteEvaluator;
+        }
+
+        @Override
+        public JobHandle getJobHandle() {
+            return this.handle;
+        }
+
+        @Override
+        public void setJobHandle(JobHandle jobHandle) {
+            this.handle = jobHandle;
+        }
+
+        public ObjectTypeNode getObjectTypeNode() {
+            return otn;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public ReteEvaluator getReteEvaluator() {
+            return reteEvaluator;
+        }
+
+        /**
+         * Adds the expiration of the given event to this batch, returning false
+         * if the batch has already been closed and cannot accept it anymore.
+         */
+        public synchronized boolean add(DefaultEventHandle eventHandle) {
+            if (closed) {
+                return false;
+            }
+            expireActions.add(new WorkingMemoryReteExpireAction(eventHandle, otn));
+            eventHandle.addExpireBatch(this);
+            pending++;
+            return true;
+        }
+
+        /**
+         * Called when one of the events of this batch has been retracted before its expiration:
+         * when none of them is still pending the timer job is no longer necessary and gets removed.
+         */
+        public synchronized void cancel() {
+            if (--pending == 0 && !closed) {
+                closed = true;
+                expireActions = Collections.emptyList();
+                reteEvaluator.getTimerService().removeJob(handle);
+            }
+        }
+
+        synchronized boolean close() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+
+        public synchronized boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * Returns the expirations of the events of this batch that have not been retracted yet.
+         */
+        public synchronized List<WorkingMemoryReteExpireAction> getPendingExpireActions() {
+            List<WorkingMemoryReteExpireAction> actions = new ArrayList<>(pending);
+            for (WorkingMemoryReteExpireAction action : expireActions) {
+                if (action.getFactHandle().isExpireBatchPending(this)) {
+                    actions.add(action);
+                }
+            }
+            return actions;
+        }
+
+        /**
+         * Removes and returns all the expirations of this batch when its job has been fired.
+         */
+        public synchronized List<WorkingMemoryReteExpireAction> drainExpireActions() {
+            List<WorkingMemoryReteExpireAction> actions = expireActions;
+            expireActions = Collections.emptyList();
+            pending = 0;
+            return actions;
+        }
+    }
+
     @Override
     public void byPassModifyToBetaNode(InternalFactHandle factHandle,
                                        ModifyPreviousTuples modifyPreviousTuples,
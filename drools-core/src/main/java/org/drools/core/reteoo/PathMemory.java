@@ -27,6 +27,7 @@ import org.drools.core.common.ActivationsManager;
 import org.drools.core.common.InternalAgendaGroup;
 import org.drools.core.common.Memory;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.PhreakNetworkProfiler;
 import org.drools.core.phreak.RuleAgendaItem;
 import org.drools.core.util.AbstractLinkedListNode;
 import org.slf4j.Logger;
@@ -39,12 +40,17 @@ public class PathMemory extends AbstractLinkedListNode<Memory>
     protected static final Logger log = LoggerFactory.getLogger(PathMemory.class);
     protected static final boolean isLogTraceEnabled = log.isTraceEnabled();
 
+    private static final PhreakNetworkProfiler profiler = PhreakNetworkProfiler.Factory.get();
+
     private          long              linkedSegmentMask;
     private          long              allLinkedMaskTest;
     private final    PathEndNode       pathEndNode;
     private          RuleAgendaItem    agendaItem;
     private          SegmentMemory[]   segmentMemories;
     private          SegmentMemory     segmentMemory;
+    private          long              ruleLinkedTime;
+    // data attached by the profiler to this memory, so it doesn't have to look it up at each event
+    private          Object            profilerData;
 
     public  final    boolean           dataDriven;
 
@@ -96,7 +102,11 @@ public class PathMemory extends AbstractLinkedListNode<Memory>
     }
 
     public void linkSegment(long mask, ReteEvaluator reteEvaluator) {
+        boolean linkedRule = profiler != null && isRuleLinked();
         linkedSegmentMask |= mask;
+        if (profiler != null) {
+            profileSegmentLinked(linkedRule);
+        }
         if (isLogTraceEnabled) {
             if (NodeTypeEnums.isTerminalNode(getPathEndNode())) {
                 TerminalNode rtn = (TerminalNode) getPathEndNode();
@@ -183,6 +193,9 @@ public class PathMemory extends AbstractLinkedListNode<Memory>
     public void unlinkedSegment(long mask, ReteEvaluator reteEvaluator) {
         boolean linkedRule =  isRuleLinked();
         linkedSegmentMask &= ~mask;
+        if (profiler != null) {
+            profileSegmentUnlinked(linkedRule);
+        }
         if (isLogTraceEnabled) {
             log.trace("  UnlinkSegment smask={} rmask={} name={}", mask, linkedSegmentMask, this);
         }
@@ -191,6 +204,23 @@ public class PathMemory extends AbstractLinkedListNode<Memory>
         }
     }
 
+    private void profileSegmentLinked(boolean linkedRule) {
+        profiler.segmentLinked(this);
+        if (!linkedRule && isRuleLinked()) {
+            ruleLinkedTime = System.nanoTime();
+            profiler.ruleLinked(this);
+        }
+    }
+
+    private void profileSegmentUnlinked(boolean linkedRule) {
+        profiler.segmentUnlinked(this);
+        if (linkedRule && !isRuleLinked()) {
+            // the rule may have been linked without notification while its segments were being initialized
+            profiler.ruleUnlinked(this, ruleLinkedTime == 0L ? 0L : System.nanoTime() - ruleLinkedTime);
+            ruleLinkedTime = 0L;
+        }
+    }
+
     public boolean isRuleLinked() {
         return (linkedSegmentMask & allLinkedMaskTest) == allLinkedMaskTest;
     }
@@ -227,12 +257,21 @@ public class PathMemory extends AbstractLinkedListNode<Memory>
         this.segmentMemory = sm;
     }
 
+    public Object getProfilerData() {
+        return profilerData;
+    }
+
+    public void setProfilerData(Object profilerData) {
+        this.profilerData = profilerData;
+    }
+
     public String toString() {
         return "PathEnd(" + getPathEndNode().getId() + ") [" + getRule().getName() + "]";
     }
 
     public void reset() {
         this.linkedSegmentMask = 0L;
+        this.ruleLinkedTime = 0L;
         // TODO we could reset the agandaItem instead of throwing it away
         this.agendaItem = null;
     }
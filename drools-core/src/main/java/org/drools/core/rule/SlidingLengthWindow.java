@@ -22,6 +22,7 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -104,6 +105,9 @@ public class SlidingLengthWindow
                               final PropagationContext pctx,
                               final ReteEvaluator reteEvaluator) {
         SlidingLengthWindowContext window = (SlidingLengthWindowContext) context;
+        if ( window.pos + 1 == window.handles.length && window.handles.length < window.size ) {
+            window.grow();
+        }
         window.pos = (window.pos + 1) % window.handles.length;
         if ( window.handles[window.pos] != null ) {
             final DefaultEventHandle previous = window.handles[window.pos];
@@ -158,11 +162,16 @@ public class SlidingLengthWindow
             BehaviorContext,
             Externalizable {
 
+        private static final int INITIAL_CAPACITY = 16;
+
         public DefaultEventHandle[] handles;
         public int               pos = 0;
+        public int               size;
 
         public SlidingLengthWindowContext(final int size) {
-            this.handles = new DefaultEventHandle[size];
+            this.size = size;
+            // the ring is allocated lazily, so that large windows don't pay for slots they have never used
+            this.handles = new DefaultEventHandle[Math.min( size, INITIAL_CAPACITY )];
         }
 
         /**
@@ -175,12 +184,21 @@ public class SlidingLengthWindow
                                                         ClassNotFoundException {
             this.pos = in.readInt();
             this.handles = (DefaultEventHandle[]) in.readObject();
-
+            this.size = in.readInt();
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeInt( this.pos );
             out.writeObject( this.handles );
+            out.writeInt( this.size );
+        }
+
+        /**
+         * Enlarges the ring before it wraps for the first time: until then its slots
+         * are filled in sequence, so copying them keeps their positions unchanged
+         */
+        void grow() {
+            this.handles = Arrays.copyOf( this.handles, (int) Math.min( (long) this.handles.length << 1, this.size ) );
         }
 
         public Collection<DefaultEventHandle> getFactHandles() {
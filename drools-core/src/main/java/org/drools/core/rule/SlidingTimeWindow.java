@@ -23,7 +23,7 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Collection;
-import java.util.PriorityQueue;
+import java.util.NoSuchElementException;
 
 import org.drools.base.time.JobHandle;
 import org.drools.core.common.DefaultEventHandle;
@@ -41,6 +41,7 @@ import org.drools.core.time.Job;
 import org.drools.core.time.JobContext;
 import org.drools.core.time.TimerService;
 import org.drools.core.time.impl.PointInTimeTrigger;
+import org.drools.core.util.EventRingBuffer;
 import org.kie.api.runtime.rule.FactHandle;
 
 public class SlidingTimeWindow
@@ -232,11 +233,11 @@ public class SlidingTimeWindow
             BehaviorContext,
             Externalizable {
 
-        private PriorityQueue<DefaultEventHandle> queue;
+        private EventRingBuffer queue;
         private JobHandle                      jobHandle;
 
         public SlidingTimeWindowContext() {
-            this.queue = new PriorityQueue<>(16); // arbitrary size... can we improve it?
+            this.queue = new EventRingBuffer();
         }
 
         @Override
@@ -250,15 +251,21 @@ public class SlidingTimeWindow
         }
 
         @Override
-        @SuppressWarnings("unchecked")
         public void readExternal(ObjectInput in) throws IOException,
                                                         ClassNotFoundException {
-            this.queue = (PriorityQueue<DefaultEventHandle>) in.readObject();
+            int size = in.readInt();
+            this.queue = new EventRingBuffer( size );
+            for ( int i = 0; i < size; i++ ) {
+                this.queue.add( (DefaultEventHandle) in.readObject() );
+            }
         }
 
         @Override
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject( this.queue );
+            out.writeInt( this.queue.size() );
+            for ( DefaultEventHandle handle : this.queue ) {
+                out.writeObject( handle );
+            }
         }
 
         public void add(DefaultEventHandle handle) {
@@ -282,7 +289,11 @@ public class SlidingTimeWindow
         }
 
         public DefaultEventHandle remove() {
-            return queue.remove( );
+            DefaultEventHandle handle = queue.poll();
+            if ( handle == null ) {
+                throw new NoSuchElementException();
+            }
+            return handle;
         }
 
         @Override
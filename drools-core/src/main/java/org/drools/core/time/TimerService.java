@@ -53,6 +53,15 @@ public interface TimerService extends SchedulerService {
      *         there is no job scheduled
      */
     long getTimeToNextJob();
+
+    /**
+     * Returns the number of jobs waiting to be executed
+     *
+     * @return the number of scheduled jobs or -1 if this service doesn't track them
+     */
+    default int getScheduledJobsCount() {
+        return -1;
+    }
     
     /**
      * This method may return null for some TimerService implementations that do not want the overhead of maintain this.
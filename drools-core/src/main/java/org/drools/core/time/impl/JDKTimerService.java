@@ -165,6 +165,11 @@ public class JDKTimerService implements TimerService, SessionClock, InternalSche
         return 0;
     }
 
+    @Override
+    public int getScheduledJobsCount() {
+        return scheduler.getQueue().size();
+    }
+
     public Collection<TimerJobInstance> getTimerJobInstances(long id) {
         return jobFactoryManager.getTimerJobInstances();
     }
@@ -197,6 +197,11 @@ public class PseudoClockScheduler implements TimerService, SessionPseudoClock, E
         return (item != null) ? item.getTrigger().hasNextFireTime().getTime() - this.timer.get() : -1;
     }
 
+    @Override
+    public synchronized int getScheduledJobsCount() {
+        return queue.size();
+    }
+
     @Override
     public Collection<TimerJobInstance> getTimerJobInstances(long id) {
         return jobFactoryManager.getTimerJobInstances();
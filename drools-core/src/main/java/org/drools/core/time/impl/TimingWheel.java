@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel keeping items scheduled at a given time in milliseconds.
+ * Each of its 8 levels has 256 slots, and an item is stored at the level of the most
+ * significant byte in which its time differs from the current time of the wheel, so
+ * that adding or removing an item is a constant time operation. When the current time
+ * reaches a slot of an upper level, its items are cascaded to the lower ones, so each
+ * item moves at most once per level.
+ *
+ * This class is not thread safe.
+ */
+public class TimingWheel<T> {
+
+    private static final int LEVELS = 8;
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    @SuppressWarnings("unchecked")
+    private final Entry<T>[][] heads = new Entry[LEVELS][];
+    @SuppressWarnings("unchecked")
+    private final Entry<T>[][] tails = new Entry[LEVELS][];
+    private final long[][] occupiedSlots = new long[LEVELS][];
+    private final int[] levelSizes = new int[LEVELS];
+
+    private long currentTime;
+
+    private int size;
+
+    public TimingWheel() {
+        this(0);
+    }
+
+    public TimingWheel(long currentTime) {
+        this.currentTime = currentTime;
+    }
+
+    public static final class Entry<T> {
+        private final T item;
+        private final long time;
+
+        private Entry<T> previous;
+        private Entry<T> next;
+        private int level = -1;
+        private int slot;
+
+        private Entry(T item, long time) {
+            this.item = item;
+            this.time = time;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public boolean isScheduled() {
+            return level >= 0;
+        }
+    }
+
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Schedules the given item at the given time. An item scheduled before the current
+     * time of the wheel will be returned by the next {@link #poll(long)}.
+     */
+    public Entry<T> add(T item, long time) {
+        Entry<T> entry = new Entry<>(item, time);
+        insert(entry);
+        size++;
+        return entry;
+    }
+
+    public boolean remove(Entry<T> entry) {
+        if (!entry.isScheduled()) {
+            return false;
+        }
+        unlink(entry);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes and returns the first entry scheduled at or before the given time, advancing
+     * the current time of the wheel up to the time of that entry. If there isn't any such
+     * entry the current time of the wheel is advanced to the given time and null is returned.
+     */
+    public Entry<T> poll(long time) {
+        while (size > 0) {
+            int level = lowestOccupiedLevel();
+            int slot = lowestOccupiedSlot(level);
+            long slotTime = slotTime(level, slot);
+            if (slotTime > time) {
+                break;
+            }
+            currentTime = slotTime;
+            if (level == 0) {
+                Entry<T> entry = heads[0][slot];
+                unlink(entry);
+                size--;
+                return entry;
+            }
+            cascade(level, slot);
+        }
+        if (time > currentTime) {
+            currentTime = time;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the time of the first scheduled entry, or -1 if the wheel is empty.
+     */
+    public long getNextTime() {
+        if (size == 0) {
+            return -1;
+        }
+        int level = lowestOccupiedLevel();
+        int slot = lowestOccupiedSlot(level);
+        if (level == 0) {
+            return slotTime(level, slot);
+        }
+        long nextTime = Long.MAX_VALUE;
+        for (Entry<T> entry = heads[level][slot]; entry != null; entry = entry.next) {
+            nextTime = Math.min(nextTime, entry.time);
+        }
+        return nextTime;
+    }
+
+    /**
+     * Returns the start time of the first occupied slot, which is a lower bound of the time of
+     * the first scheduled entry computed in constant time, or -1 if the wheel is empty.
+     */
+    public long getNextSlotTime() {
+        if (size == 0) {
+            return -1;
+        }
+        int level = lowestOccupiedLevel();
+        return slotTime(level, lowestOccupiedSlot(level));
+    }
+
+    public void forEach(Consumer<T> consumer) {
+        for (int level = 0; level < LEVELS; level++) {
+            if (levelSizes[level] == 0) {
+                continue;
+            }
+            for (int slot = 0; slot < SLOTS; slot++) {
+                for (Entry<T> entry = heads[level][slot]; entry != null; entry = entry.next) {
+                    consumer.accept(entry.item);
+                }
+            }
+        }
+    }
+
+    public void clear(long time) {
+        for (int level = 0; level < LEVELS; level++) {
+            if (levelSizes[level] == 0) {
+                continue;
+            }
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Entry<T> entry = heads[level][slot];
+                while (entry != null) {
+                    Entry<T> next = entry.next;
+                    entry.previous = null;
+                    entry.next = null;
+                    entry.level = -1;
+                    entry = next;
+                }
+                heads[level][slot] = null;
+                tails[level][slot] = null;
+            }
+            occupiedSlots[level] = new long[SLOTS / Long.SIZE];
+            levelSizes[level] = 0;
+        }
+        size = 0;
+        currentTime = time;
+    }
+
+    private void insert(Entry<T> entry) {
+        long time = Math.max(entry.time, currentTime);
+        long diff = time ^ currentTime;
+        int level = diff == 0 ? 0 : (Long.SIZE - 1 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS;
+        int slot = (int) (time >>> (level * SLOT_BITS)) & SLOT_MASK;
+
+        if (heads[level] == null) {
+            heads[level] = new Entry[SLOTS];
+            tails[level] = new Entry[SLOTS];
+            occupiedSlots[level] = new long[SLOTS / Long.SIZE];
+        }
+
+        entry.level = level;
+        entry.slot = slot;
+        Entry<T> tail = tails[level][slot];
+        if (tail == null) {
+            heads[level][slot] = entry;
+            occupiedSlots[level][slot / Long.SIZE] |= 1L << slot;
+        } else {
+            tail.next = entry;
+            entry.previous = tail;
+        }
+        tails[level][slot] = entry;
+        levelSizes[level]++;
+    }
+
+    private void unlink(Entry<T> entry) {
+        int level = entry.level;
+        int slot = entry.slot;
+        if (entry.previous == null) {
+            heads[level][slot] = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+        if (entry.next == null) {
+            tails[level][slot] = entry.previous;
+        } else {
+            entry.next.previous = entry.previous;
+        }
+        if (heads[level][slot] == null) {
+            occupiedSlots[level][slot / Long.SIZE] &= ~(1L << slot);
+        }
+        entry.previous = null;
+        entry.next = null;
+        entry.level = -1;
+        levelSizes[level]--;
+    }
+
+    private void cascade(int level, int slot) {
+        Entry<T> entry = heads[level][slot];
+        heads[level][slot] = null;
+        tails[level][slot] = null;
+        occupiedSlots[level][slot / Long.SIZE] &= ~(1L << slot);
+        while (entry != null) {
+            Entry<T> next = entry.next;
+            entry.previous = null;
+            entry.next = null;
+            levelSizes[level]--;
+            insert(entry);
+            entry = next;
+        }
+    }
+
+    private int lowestOccupiedLevel() {
+        for (int level = 0; level < LEVELS; level++) {
+            if (levelSizes[level] > 0) {
+                return level;
+            }
+        }
+        return -1;
+    }
+
+    private int lowestOccupiedSlot(int level) {
+        long[] occupied = occupiedSlots[level];
+        for (int i = 0; i < occupied.length; i++) {
+            if (occupied[i] != 0) {
+                return i * Long.SIZE + Long.numberOfTrailingZeros(occupied[i]);
+            }
+        }
+        return -1;
+    }
+
+    private long slotTime(int level, int slot) {
+        // the slots of a level are relative to the bytes of the current time above that level
+        int shift = level * SLOT_BITS;
+        int upperShift = shift + SLOT_BITS;
+        long upper = upperShift >= Long.SIZE ? 0 : (currentTime >>> upperShift) << upperShift;
+        return upper | ((long) slot << shift);
+    }
+}
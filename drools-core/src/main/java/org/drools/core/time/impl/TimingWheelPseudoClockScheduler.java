@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.base.time.JobHandle;
+import org.drools.base.time.Trigger;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.impl.TimingWheelTimerService.TimingWheelJobHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A PseudoClockScheduler keeping its jobs in a {@link TimingWheel} instead of a priority queue,
+ * so that scheduling and removing a job doesn't depend on the number of pending jobs.
+ */
+public class TimingWheelPseudoClockScheduler extends PseudoClockScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger( TimingWheelPseudoClockScheduler.class );
+
+    private TimingWheel<TimerJobInstance> wheel = new TimingWheel<>();
+
+    @SuppressWarnings("unchecked")
+    public void readExternal(ObjectInput in) throws IOException,
+                                            ClassNotFoundException {
+        timer.set( in.readLong() );
+        wheel = new TimingWheel<>();
+        List<TimerJobInstance> jobs = (List<TimerJobInstance>) in.readObject();
+        for ( TimerJobInstance job : jobs ) {
+            addToWheel( job );
+        }
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeLong( timer.get() );
+        List<TimerJobInstance> jobs = new ArrayList<>( wheel.size() );
+        wheel.forEach( jobs::add );
+        out.writeObject( jobs );
+    }
+
+    @Override
+    public JobHandle scheduleJob(Job job, JobContext ctx, Trigger trigger) {
+        if ( trigger.hasNextFireTime() == null ) {
+            return null;
+        }
+
+        TimingWheelJobHandle jobHandle = new TimingWheelJobHandle( idCounter.getAndIncrement() );
+        TimerJobInstance jobInstance = getTimerJobFactoryManager().createTimerJobInstance( job, ctx, trigger, jobHandle, this );
+        jobHandle.setTimerJobInstance( jobInstance );
+        internalSchedule( jobInstance );
+        return jobHandle;
+    }
+
+    @Override
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        getTimerJobFactoryManager().addTimerJobInstance( timerJobInstance );
+        synchronized (this) {
+            addToWheel( timerJobInstance );
+        }
+    }
+
+    private void addToWheel(TimerJobInstance timerJobInstance) {
+        TimingWheel.Entry<TimerJobInstance> entry = wheel.add( timerJobInstance, timerJobInstance.getTrigger().hasNextFireTime().getTime() );
+        if ( timerJobInstance.getJobHandle() instanceof TimingWheelJobHandle ) {
+            ( (TimingWheelJobHandle) timerJobInstance.getJobHandle() ).setEntry( entry );
+        }
+    }
+
+    @Override
+    public synchronized void removeJob(JobHandle jobHandle) {
+        jobHandle.cancel();
+        getTimerJobFactoryManager().removeTimerJobInstance( jobHandle );
+        if ( jobHandle instanceof TimingWheelJobHandle ) {
+            TimingWheel.Entry<TimerJobInstance> entry = ( (TimingWheelJobHandle) jobHandle ).getEntry();
+            if ( entry != null ) {
+                wheel.remove( entry );
+            }
+        }
+    }
+
+    @Override
+    public long advanceTime(long amount, TimeUnit unit) {
+        return runCallBacksAndIncreaseTimer( unit.toMillis( amount ) );
+    }
+
+    @Override
+    public synchronized void setStartupTime(long i) {
+        super.setStartupTime( i );
+        if ( wheel.isEmpty() ) {
+            wheel.clear( i );
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        super.reset();
+        wheel.clear( 0 );
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized long runCallBacksAndIncreaseTimer( long increase ) {
+        long endTime = this.timer.get() + increase;
+        TimingWheel.Entry<TimerJobInstance> entry;
+        while ( (entry = wheel.poll( endTime )) != null ) {
+            TimerJobInstance item = entry.getItem();
+            if ( item.isCanceled() ) {
+                continue;
+            }
+            try {
+                // set the clock back to the trigger's fire time
+                this.timer.getAndSet( entry.getTime() );
+                // execute the call
+                ((Callable<Void>) item).call();
+            } catch (Exception e) {
+                logger.error( "Exception running callbacks: ", e );
+            }
+        }
+        this.timer.set( endTime );
+        return this.timer.get();
+    }
+
+    @Override
+    public synchronized long getTimeToNextJob() {
+        long nextTime = wheel.getNextTime();
+        return nextTime >= 0 ? nextTime - this.timer.get() : -1;
+    }
+
+    @Override
+    public synchronized int getScheduledJobsCount() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.drools.base.time.JobHandle;
+import org.drools.base.time.Trigger;
+import org.drools.core.time.InternalSchedulerService;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.TimerService;
+import org.kie.api.time.SessionClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A TimerService using the system clock and keeping its jobs in a {@link TimingWheel}, so that
+ * scheduling and removing a job doesn't depend on the number of pending jobs. The jobs are
+ * executed by a single daemon thread, started when the first job is scheduled, which sleeps
+ * until the next slot of the wheel is due.
+ */
+public class TimingWheelTimerService implements TimerService, SessionClock, InternalSchedulerService {
+
+    private static final Logger logger = LoggerFactory.getLogger( TimingWheelTimerService.class );
+
+    private final AtomicLong idCounter = new AtomicLong( 0L );
+
+    private final TimingWheel<TimerJobInstance> wheel = new TimingWheel<>( System.currentTimeMillis() );
+
+    private TimerJobFactoryManager jobFactoryManager = DefaultTimerJobFactoryManager.INSTANCE;
+
+    private Thread timerThread;
+
+    // the time the timer thread is waiting for, Long.MAX_VALUE if it waits for a new job
+    private long wakeUpTime = Long.MAX_VALUE;
+
+    private boolean shutdown;
+
+    public void setTimerJobFactoryManager(TimerJobFactoryManager timerJobFactoryManager) {
+        this.jobFactoryManager = timerJobFactoryManager;
+    }
+
+    public TimerJobFactoryManager getTimerJobFactoryManager() {
+        return this.jobFactoryManager;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    public synchronized void reset() {
+        wheel.clear( System.currentTimeMillis() );
+        idCounter.set( 0L );
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        wheel.clear( System.currentTimeMillis() );
+        notifyAll();
+    }
+
+    public JobHandle scheduleJob(Job job, JobContext ctx, Trigger trigger) {
+        if ( trigger.hasNextFireTime() == null ) {
+            return null;
+        }
+
+        TimingWheelJobHandle jobHandle = new TimingWheelJobHandle( idCounter.getAndIncrement() );
+        TimerJobInstance jobInstance = jobFactoryManager.createTimerJobInstance( job, ctx, trigger, jobHandle, this );
+        jobHandle.setTimerJobInstance( jobInstance );
+        internalSchedule( jobInstance );
+        return jobHandle;
+    }
+
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        jobFactoryManager.addTimerJobInstance( timerJobInstance );
+        long time = timerJobInstance.getTrigger().hasNextFireTime().getTime();
+        synchronized (this) {
+            if ( shutdown ) {
+                return;
+            }
+            TimingWheel.Entry<TimerJobInstance> entry = wheel.add( timerJobInstance, time );
+            if ( timerJobInstance.getJobHandle() instanceof TimingWheelJobHandle ) {
+                ( (TimingWheelJobHandle) timerJobInstance.getJobHandle() ).setEntry( entry );
+            }
+            if ( timerThread == null ) {
+                startTimerThread();
+            } else if ( time < wakeUpTime ) {
+                notifyAll();
+            }
+        }
+    }
+
+    public synchronized void removeJob(JobHandle jobHandle) {
+        jobHandle.cancel();
+        jobFactoryManager.removeTimerJobInstance( jobHandle );
+        if ( jobHandle instanceof TimingWheelJobHandle ) {
+            TimingWheel.Entry<TimerJobInstance> entry = ( (TimingWheelJobHandle) jobHandle ).getEntry();
+            if ( entry != null ) {
+                wheel.remove( entry );
+            }
+        }
+    }
+
+    private void startTimerThread() {
+        timerThread = new Thread( this::runJobs, "drools-timing-wheel" );
+        timerThread.setDaemon( true );
+        timerThread.start();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runJobs() {
+        TimerJobInstance job;
+        while ( (job = takeNextJob()) != null ) {
+            try {
+                ((Callable<Void>) job).call();
+            } catch (Exception e) {
+                logger.error( "Exception running timer job: ", e );
+            }
+        }
+    }
+
+    private synchronized TimerJobInstance takeNextJob() {
+        while ( !shutdown ) {
+            long now = System.currentTimeMillis();
+            TimingWheel.Entry<TimerJobInstance> entry = wheel.poll( now );
+            if ( entry != null ) {
+                if ( !entry.getItem().isCanceled() ) {
+                    return entry.getItem();
+                }
+                continue;
+            }
+            long nextTime = wheel.getNextSlotTime();
+            wakeUpTime = nextTime < 0 ? Long.MAX_VALUE : nextTime;
+            try {
+                wait( nextTime < 0 ? 0 : Math.max( 1, nextTime - now ) );
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } finally {
+                wakeUpTime = Long.MAX_VALUE;
+            }
+        }
+        return null;
+    }
+
+    public long getTimeToNextJob() {
+        return 0;
+    }
+
+    @Override
+    public synchronized int getScheduledJobsCount() {
+        return wheel.size();
+    }
+
+    public Collection<TimerJobInstance> getTimerJobInstances(long id) {
+        return jobFactoryManager.getTimerJobInstances();
+    }
+
+    public static class TimingWheelJobHandle extends DefaultJobHandle {
+
+        private static final long serialVersionUID = 510l;
+
+        private transient TimingWheel.Entry<TimerJobInstance> entry;
+
+        public TimingWheelJobHandle(long id) {
+            super( id );
+        }
+
+        public TimingWheel.Entry<TimerJobInstance> getEntry() {
+            return entry;
+        }
+
+        public void setEntry(TimingWheel.Entry<TimerJobInstance> entry) {
+            this.entry = entry;
+        }
+    }
+}
@@ -238,6 +238,108 @@ public abstract class AbstractHashTable
         }
     }
 
+    /**
+     * Single field index on an integer primitive (byte, short, int or long) field, reading the
+     * values of both sides as primitive longs and then without boxing them.
+     */
+    public static class LongSingleIndex implements Index {
+
+        private static final long    serialVersionUID = 510l;
+
+        private IndexedValueReader index;
+
+        private int startResult;
+
+        private final LongHashEntry hashEntry = new LongHashEntry();
+
+        public LongSingleIndex() {
+
+        }
+
+        public LongSingleIndex(final IndexedValueReader[] indexes,
+                               final int startResult) {
+            this.startResult = startResult;
+            this.index = indexes[0];
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException,
+                                                ClassNotFoundException {
+            index = (IndexedValueReader) in.readObject();
+            startResult = in.readInt();
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject( index );
+            out.writeInt( startResult );
+        }
+
+        @Override
+        public IndexedValueReader getFieldIndex(int index) {
+            if ( index > 0 ) {
+                throw new IllegalArgumentException( "IndexUtil position " + index + " does not exist" );
+            }
+            return this.index;
+        }
+
+        @Override
+        public HashEntry hashCodeOf(TupleImpl tuple, boolean left) {
+            return hashEntry.set(startResult, index.indexedLongValueOf( tuple, left ) );
+        }
+    }
+
+    /**
+     * Single field index on a String field, comparing the keys by identity first, so that the
+     * (usually interned) literals and constants used as join keys skip the character comparison.
+     */
+    public static class StringSingleIndex implements Index {
+
+        private static final long    serialVersionUID = 510l;
+
+        private IndexedValueReader index;
+
+        private int startResult;
+
+        private final StringHashEntry hashEntry = new StringHashEntry();
+
+        public StringSingleIndex() {
+
+        }
+
+        public StringSingleIndex(final IndexedValueReader[] indexes,
+                                 final int startResult) {
+            this.startResult = startResult;
+            this.index = indexes[0];
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException,
+                                                ClassNotFoundException {
+            index = (IndexedValueReader) in.readObject();
+            startResult = in.readInt();
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject( index );
+            out.writeInt( startResult );
+        }
+
+        @Override
+        public IndexedValueReader getFieldIndex(int index) {
+            if ( index > 0 ) {
+                throw new IllegalArgumentException( "IndexUtil position " + index + " does not exist" );
+            }
+            return this.index;
+        }
+
+        @Override
+        public HashEntry hashCodeOf(TupleImpl tuple, boolean left) {
+            return hashEntry.set(startResult, (String) index.indexedValueOf( tuple, left ) );
+        }
+    }
+
     public static class IndexTupleList extends TupleList implements HashEntry {
         private HashEntry hashEntry;
         private Index index;
@@ -462,6 +564,108 @@ public abstract class AbstractHashTable
         }
     }
 
+    public static class LongHashEntry implements HashEntry {
+
+        private int hashCode;
+        private long value;
+
+        public LongHashEntry() {
+        }
+
+        public LongHashEntry(int hashSeed, long value) {
+            set(hashSeed, value);
+        }
+
+        public HashEntry set(int hashSeed, long value) {
+            this.value = value;
+            // same hash of the boxed value, so that it is consistent with SingleHashEntry
+            this.hashCode = rehash( PRIME * hashSeed + Long.hashCode( value ) );
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( !(o instanceof LongHashEntry) ) {
+                return false;
+            }
+            return value == (( LongHashEntry ) o).value;
+        }
+
+        public HashEntry clone() {
+            LongHashEntry longEntry = new LongHashEntry();
+            longEntry.hashCode = hashCode;
+            longEntry.value = value;
+            return longEntry;
+        }
+
+        @Override
+        public String toString() {
+            return "LongHashEntry{" +
+                   "hashCode=" + hashCode +
+                   ", value=" + value +
+                   '}';
+        }
+    }
+
+    public static class StringHashEntry implements HashEntry {
+
+        private int hashCode;
+        private String value;
+
+        public StringHashEntry() {
+        }
+
+        public StringHashEntry(int hashSeed, String value) {
+            set(hashSeed, value);
+        }
+
+        public HashEntry set(int hashSeed, String value) {
+            this.value = value;
+            this.hashCode = rehash( PRIME * hashSeed + ( value == null ? 0 : value.hashCode() ) );
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( !(o instanceof StringHashEntry) ) {
+                return false;
+            }
+            StringHashEntry that = ( StringHashEntry ) o;
+            return hashCode == that.hashCode && ( value == that.value || ( value != null && value.equals( that.value ) ) );
+        }
+
+        public HashEntry clone() {
+            StringHashEntry stringEntry = new StringHashEntry();
+            stringEntry.hashCode = hashCode;
+            stringEntry.value = value;
+            return stringEntry;
+        }
+
+        @Override
+        public String toString() {
+            return "StringHashEntry{" +
+                   "hashCode=" + hashCode +
+                   ", value=" + value +
+                   '}';
+        }
+    }
+
     public static class DoubleHashEntry implements HashEntry {
 
         private int hashCode;
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import org.drools.core.common.DefaultEventHandle;
+
+/**
+ * A queue of events ordered by their start timestamp, optimized for streams where the events
+ * mostly arrive in order. In order events are appended to a growable ring buffer, so that
+ * insertion and removal of the oldest event are O(1), while the few out of order events
+ * fall back to a priority queue. Events removed from the middle of the ring are left as
+ * empty slots, found through a binary search on the timestamps, and skipped when they
+ * reach its head.
+ */
+public class EventRingBuffer extends AbstractCollection<DefaultEventHandle> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private DefaultEventHandle[] events;
+    private long[] timestamps;
+
+    /** The position of the oldest slot in the ring. */
+    private int head;
+
+    /** The number of slots in use, including the ones of events removed from the middle of the ring. */
+    private int used;
+
+    /** The number of events actually in the ring. */
+    private int count;
+
+    private PriorityQueue<DefaultEventHandle> outOfOrder;
+
+    public EventRingBuffer() {
+        this( DEFAULT_CAPACITY );
+    }
+
+    public EventRingBuffer(int initialCapacity) {
+        int capacity = Integer.highestOneBit( Math.max( initialCapacity, 2 ) - 1 ) << 1;
+        this.events = new DefaultEventHandle[capacity];
+        this.timestamps = new long[capacity];
+    }
+
+    @Override
+    public boolean add(DefaultEventHandle handle) {
+        long timestamp = handle.getStartTimestamp();
+        if ( used > 0 && timestamp < timestamps[slot( used - 1 )] ) {
+            if ( outOfOrder == null ) {
+                outOfOrder = new PriorityQueue<>();
+            }
+            outOfOrder.add( handle );
+            return true;
+        }
+        if ( used == events.length ) {
+            ensureCapacity();
+        }
+        int slot = slot( used++ );
+        events[slot] = handle;
+        timestamps[slot] = timestamp;
+        count++;
+        return true;
+    }
+
+    /**
+     * Returns, without removing it, the event with the lowest start timestamp or null if this queue is empty.
+     */
+    public DefaultEventHandle peek() {
+        DefaultEventHandle ringHead = ringHead();
+        if ( outOfOrder == null || outOfOrder.isEmpty() ) {
+            return ringHead;
+        }
+        DefaultEventHandle queueHead = outOfOrder.peek();
+        return ringHead == null || queueHead.getStartTimestamp() < ringHead.getStartTimestamp() ? queueHead : ringHead;
+    }
+
+    /**
+     * Removes and returns the event with the lowest start timestamp or null if this queue is empty.
+     */
+    public DefaultEventHandle poll() {
+        DefaultEventHandle ringHead = ringHead();
+        if ( outOfOrder != null && !outOfOrder.isEmpty() &&
+             ( ringHead == null || outOfOrder.peek().getStartTimestamp() < ringHead.getStartTimestamp() ) ) {
+            return outOfOrder.poll();
+        }
+        if ( ringHead != null ) {
+            removeHead();
+        }
+        return ringHead;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if ( !(o instanceof DefaultEventHandle) ) {
+            return false;
+        }
+        DefaultEventHandle handle = (DefaultEventHandle) o;
+        long timestamp = handle.getStartTimestamp();
+        for ( int i = firstIndexOf( timestamp ); i < used && timestamps[slot( i )] == timestamp; i++ ) {
+            int slot = slot( i );
+            if ( handle.equals( events[slot] ) ) {
+                if ( i == 0 ) {
+                    removeHead();
+                } else {
+                    events[slot] = null;
+                    count--;
+                    if ( i == used - 1 ) {
+                        trimTail();
+                    }
+                }
+                return true;
+            }
+        }
+        return outOfOrder != null && outOfOrder.remove( handle );
+    }
+
+    @Override
+    public int size() {
+        return count + (outOfOrder != null ? outOfOrder.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0 && (outOfOrder == null || outOfOrder.isEmpty());
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill( events, null );
+        head = 0;
+        used = 0;
+        count = 0;
+        outOfOrder = null;
+    }
+
+    @Override
+    public Iterator<DefaultEventHandle> iterator() {
+        Iterator<DefaultEventHandle> outOfOrderIterator = outOfOrder != null ? outOfOrder.iterator() : Collections.emptyIterator();
+        return new Iterator<>() {
+            private int index = nextIndex( 0 );
+
+            private int nextIndex(int i) {
+                while ( i < used && events[slot( i )] == null ) {
+                    i++;
+                }
+                return i;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index < used || outOfOrderIterator.hasNext();
+            }
+
+            @Override
+            public DefaultEventHandle next() {
+                if ( index < used ) {
+                    DefaultEventHandle next = events[slot( index )];
+                    index = nextIndex( index + 1 );
+                    return next;
+                }
+                if ( outOfOrderIterator.hasNext() ) {
+                    return outOfOrderIterator.next();
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    private int slot(int index) {
+        return (head + index) & (events.length - 1);
+    }
+
+    private DefaultEventHandle ringHead() {
+        return count > 0 ? events[head] : null;
+    }
+
+    private void removeHead() {
+        events[head] = null;
+        count--;
+        do {
+            head = (head + 1) & (events.length - 1);
+            used--;
+        } while ( used > 0 && events[head] == null );
+        if ( used == 0 ) {
+            head = 0;
+        }
+    }
+
+    private void trimTail() {
+        while ( used > 0 && events[slot( used - 1 )] == null ) {
+            used--;
+        }
+    }
+
+    /**
+     * Returns the index of the first slot with the given timestamp, or of the first
+     * slot with a greater one if there isn't any
+     */
+    private int firstIndexOf(long timestamp) {
+        int low = 0;
+        int high = used;
+        while ( low < high ) {
+            int mid = (low + high) >>> 1;
+            if ( timestamps[slot( mid )] < timestamp ) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity() {
+        // the ring is full, but if at least half of its slots are empty it is enough to compact it
+        int capacity = count <= events.length / 2 ? events.length : events.length << 1;
+        DefaultEventHandle[] newEvents = new DefaultEventHandle[capacity];
+        long[] newTimestamps = new long[capacity];
+        int j = 0;
+        for ( int i = 0; i < used; i++ ) {
+            int slot = slot( i );
+            if ( events[slot] != null ) {
+                newEvents[j] = events[slot];
+                newTimestamps[j++] = timestamps[slot];
+            }
+        }
+        events = newEvents;
+        timestamps = newTimestamps;
+        head = 0;
+        used = j;
+    }
+}
@@ -18,55 +18,237 @@
  */
 package org.drools.core.util;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+/**
+ * A lock free pool of resources, eagerly creating and warming up its initial ones. When created with an executor
+ * it resets the released resources on it, instead of in the releasing thread, and, after a miss, also creates and
+ * warms up in background a new resource if needed to bring the idle ones back to the initial size.
+ */
 public class ScalablePool<T> {
 
-    private final java.util.Queue<T> pool = new ConcurrentLinkedQueue<>();
-    private final List<T> resources = Collections.synchronizedList( new ArrayList<>() );
+    private final Queue<T> pool = new ConcurrentLinkedQueue<>();
+    private final Queue<T> resources = new ConcurrentLinkedQueue<>();
 
     private final Supplier<? extends T> supplier;
     private final Consumer<? super T> resetter;
     private final Consumer<? super T> disposer;
+    private final Consumer<? super T> warmer;
+    private final Executor executor;
+
+    private final int initialSize;
+    private final AtomicInteger idle = new AtomicInteger();
+    private final AtomicInteger warming = new AtomicInteger();
+    // the background tasks currently running, that the shutdown has to wait for before disposing the resources
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder resetTime = new LongAdder();
+
+    private volatile boolean shutdown;
 
     public ScalablePool( int initialSize, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer ) {
+        this( initialSize, supplier, resetter, disposer, t -> { }, null );
+    }
+
+    public ScalablePool( int initialSize, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer,
+                         Consumer<? super T> warmer, Executor executor ) {
         this.supplier = supplier;
         this.resetter = resetter;
         this.disposer = disposer;
+        this.warmer = warmer;
+        this.executor = executor;
+        this.initialSize = initialSize;
 
         for (int i = 0; i < initialSize; i++) {
-            T t = this.supplier.get();
-            pool.offer( t );
-            resources.add( t );
+            offer( createWarmedUp() );
         }
     }
 
     public T get() {
         T t = pool.poll();
         if (t != null) {
+            idle.decrementAndGet();
+            hits.increment();
             return t;
         }
 
+        misses.increment();
         t = this.supplier.get();
         resources.add( t );
+        replenish();
         return t;
     }
 
     public void release(T t) {
-        resetter.accept( t );
-        pool.offer( t );
+        if (executor == null) {
+            reset( t );
+            offer( t );
+            return;
+        }
+        executeInBackground( () -> {
+            reset( t );
+            offer( t );
+        } );
     }
 
     public void shutdown() {
+        shutdown = true;
+        awaitRunningTasks();
         for (T t : resources) {
             disposer.accept( t );
         }
         pool.clear();
         resources.clear();
+        idle.set( 0 );
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics( hits.sum(), misses.sum(), resets.sum(), resetTime.sum(), idle.get(), resources.size() );
+    }
+
+    private T createWarmedUp() {
+        T t = this.supplier.get();
+        warmer.accept( t );
+        resources.add( t );
+        return t;
+    }
+
+    private void replenish() {
+        if (executor == null || idle.get() + warming.get() >= initialSize) {
+            return;
+        }
+        warming.incrementAndGet();
+        executor.execute( () -> {
+            try {
+                runInBackground( () -> offer( createWarmedUp() ) );
+            } finally {
+                warming.decrementAndGet();
+            }
+        } );
+    }
+
+    private void executeInBackground(Runnable task) {
+        executor.execute( () -> runInBackground( task ) );
+    }
+
+    /**
+     * Runs the given task unless the pool has been shut down. The shutdown waits for the tasks that already passed
+     * this check, so that it doesn't dispose a resource while it is being reset, nor miss one created meanwhile.
+     */
+    private void runInBackground(Runnable task) {
+        running.incrementAndGet();
+        try {
+            if (!shutdown) {
+                task.run();
+            }
+        } finally {
+            if (running.decrementAndGet() == 0 && shutdown) {
+                synchronized (running) {
+                    running.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void awaitRunningTasks() {
+        boolean interrupted = false;
+        synchronized (running) {
+            while (running.get() > 0) {
+                try {
+                    running.wait();
+                } catch (InterruptedException e) {
+                    // keep waiting, disposing a resource still in use by a task is not an option
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reset(T t) {
+        long start = System.nanoTime();
+        resetter.accept( t );
+        resetTime.add( System.nanoTime() - start );
+        resets.increment();
+    }
+
+    private void offer(T t) {
+        idle.incrementAndGet();
+        pool.offer( t );
+    }
+
+    public static class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long resets;
+        private final long resetTimeNanos;
+        private final int idle;
+        private final int created;
+
+        private Statistics( long hits, long misses, long resets, long resetTimeNanos, int idle, int created ) {
+            this.hits = hits;
+            this.misses = misses;
+            this.resets = resets;
+            this.resetTimeNanos = resetTimeNanos;
+            this.idle = idle;
+            this.created = created;
+        }
+
+        /**
+         * The number of resources taken from the pool
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * The number of resources created because the pool was empty
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getResets() {
+            return resets;
+        }
+
+        public long getResetTimeNanos() {
+            return resetTimeNanos;
+        }
+
+        public long getAverageResetTimeNanos() {
+            return resets == 0 ? 0 : resetTimeNanos / resets;
+        }
+
+        /**
+         * The number of resources currently available in the pool
+         */
+        public int getIdle() {
+            return idle;
+        }
+
+        /**
+         * The number of resources created by the pool and not yet disposed
+         */
+        public int getCreated() {
+            return created;
+        }
+
+        @Override
+        public String toString() {
+            return "ScalablePool.Statistics{hits=" + hits + ", misses=" + misses + ", resets=" + resets +
+                    ", averageResetTimeNanos=" + getAverageResetTimeNanos() + ", idle=" + idle + ", created=" + created + "}";
+        }
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.base.rule.IndexableConstraint;
+import org.drools.base.rule.accessor.ReadAccessor;
+import org.drools.core.reteoo.AlphaNode;
+import org.drools.core.reteoo.CompositeObjectSinkAdapter;
+import org.drools.core.reteoo.CompositeObjectSinkAdapter.FieldIndex;
+import org.drools.core.reteoo.CompositeObjectSinkAdapter.HashKey;
+import org.drools.core.reteoo.ObjectSink;
+
+/**
+ *
+ * Alpha Node hashing on a composite key. It is used when all the alpha nodes hashed on a field are only followed
+ * by chains of alpha nodes testing other fields for equality, as for a pattern like Order( region == X, product == Y ):
+ * one lookup with the values of all those fields returns the last alpha node of the matching chain, instead of
+ * looking up the first node and then walking its children.
+ *
+ */
+public class AlphaCompositeHashIndex {
+
+    private final FieldIndex[] fieldIndexes;
+
+    private final Map<CompositeKey, AlphaNode> sinks;
+
+    private AlphaCompositeHashIndex(FieldIndex[] fieldIndexes, Map<CompositeKey, AlphaNode> sinks) {
+        this.fieldIndexes = fieldIndexes;
+        this.sinks = sinks;
+    }
+
+    /**
+     * Creates the composite index for the given hashed alpha nodes, all constraining the field of the given FieldIndex.
+     * Returns null when their children aren't chains of equality alpha nodes on a same field, so that the composite
+     * key would not be longer than the single field one.
+     */
+    public static AlphaCompositeHashIndex create(FieldIndex fieldIndex, Collection<AlphaNode> hashedSinks) {
+        List<FieldIndex> fieldIndexes = new ArrayList<>();
+        fieldIndexes.add(fieldIndex);
+
+        List<AlphaNode> level = new ArrayList<>(hashedSinks);
+        List<List<AlphaNode>> chains = new ArrayList<>();
+        for (AlphaNode alphaNode : level) {
+            List<AlphaNode> chain = new ArrayList<>();
+            chain.add(alphaNode);
+            chains.add(chain);
+        }
+
+        FieldIndex next;
+        while ((next = findChainedFieldIndex(level)) != null) {
+            fieldIndexes.add(next);
+            level = new ArrayList<>();
+            List<List<AlphaNode>> nextChains = new ArrayList<>();
+            for (List<AlphaNode> chain : chains) {
+                for (ObjectSink child : chain.get(chain.size() - 1).getObjectSinkPropagator().getSinks()) {
+                    List<AlphaNode> nextChain = new ArrayList<>(chain);
+                    nextChain.add((AlphaNode) child);
+                    nextChains.add(nextChain);
+                    level.add((AlphaNode) child);
+                }
+            }
+            chains = nextChains;
+        }
+
+        if (fieldIndexes.size() < 2) {
+            return null;
+        }
+
+        FieldIndex[] indexes = fieldIndexes.toArray(new FieldIndex[fieldIndexes.size()]);
+        Map<CompositeKey, AlphaNode> sinks = new HashMap<>();
+        for (List<AlphaNode> chain : chains) {
+            HashKey[] keys = new HashKey[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                IndexableConstraint constraint = (IndexableConstraint) chain.get(i).getConstraint();
+                keys[i] = new HashKey(indexes[i].getIndex(), constraint.getField(), indexes[i].getFieldExtractor());
+            }
+            if (sinks.put(new CompositeKey(keys), chain.get(chain.size() - 1)) != null) {
+                // the same chain is duplicated when the alpha nodes are not shared, the single field hashing still works for it
+                return null;
+            }
+        }
+        return new AlphaCompositeHashIndex(indexes, sinks);
+    }
+
+    /**
+     * Returns the field tested by all the children of the given alpha nodes, or null if any of them has no
+     * children or has a child which is not an alpha node hashable on that field.
+     */
+    private static FieldIndex findChainedFieldIndex(List<AlphaNode> alphaNodes) {
+        FieldIndex fieldIndex = null;
+        for (AlphaNode alphaNode : alphaNodes) {
+            ObjectSink[] children = alphaNode.getObjectSinkPropagator().getSinks();
+            if (children.length == 0) {
+                return null;
+            }
+            for (ObjectSink child : children) {
+                if (!(child instanceof AlphaNode)) {
+                    return null;
+                }
+                ReadAccessor readAccessor = CompositeObjectSinkAdapter.getHashableAccessor((AlphaNode) child);
+                if (readAccessor == null || ((IndexableConstraint) ((AlphaNode) child).getConstraint()).getField().isNull()) {
+                    return null;
+                }
+                if (fieldIndex == null) {
+                    fieldIndex = new FieldIndex(readAccessor.getIndex(), readAccessor);
+                } else if (fieldIndex.getIndex() != readAccessor.getIndex()) {
+                    return null;
+                }
+            }
+        }
+        return fieldIndex;
+    }
+
+    public AlphaNode get(Object object) {
+        HashKey[] keys = new HashKey[fieldIndexes.length];
+        for (int i = 0; i < fieldIndexes.length; i++) {
+            keys[i] = new HashKey(fieldIndexes[i], object);
+        }
+        return sinks.get(new CompositeKey(keys));
+    }
+
+    public int getKeyLength() {
+        return fieldIndexes.length;
+    }
+
+    public int size() {
+        return sinks.size();
+    }
+
+    private static class CompositeKey {
+
+        private final HashKey[] keys;
+        private final int hashCode;
+
+        private CompositeKey(HashKey[] keys) {
+            this.keys = keys;
+            this.hashCode = Arrays.hashCode(keys);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CompositeKey && Arrays.equals(keys, ((CompositeKey) obj).keys);
+        }
+    }
+}
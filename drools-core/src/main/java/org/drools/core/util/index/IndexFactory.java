@@ -48,7 +48,9 @@ public interface IndexFactory {
         }
 
         if (indexSpec.getConstraintType() == ConstraintTypeOperator.EQUAL) {
-            return IndexMemory.createEqualityMemory(indexSpec, false);
+            return config.isCompactRightBetaMemory() ?
+                    new ShrinkingTupleIndexHashTable(indexSpec.getIndex(), false) :
+                    IndexMemory.createEqualityMemory(indexSpec, false);
         }
 
         if (indexSpec.getConstraintType().isComparison()) {
@@ -25,7 +25,9 @@ import org.drools.base.util.index.ConstraintTypeOperator;
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.util.AbstractHashTable.DoubleCompositeIndex;
 import org.drools.core.util.AbstractHashTable.Index;
+import org.drools.core.util.AbstractHashTable.LongSingleIndex;
 import org.drools.core.util.AbstractHashTable.SingleIndex;
+import org.drools.core.util.AbstractHashTable.StringSingleIndex;
 import org.drools.core.util.AbstractHashTable.TripleCompositeIndex;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import java.util.ArrayList;
@@ -73,8 +75,7 @@ public class IndexSpec {
             case 0 :
                 throw new IllegalArgumentException( "FieldIndexHashTable cannot use an index[] of length  0" );
             case 1 :
-                index = new SingleIndex(indexes,
-                                        startResult );
+                index = createSingleIndex( startResult );
                 break;
             case 2 :
                 index = new DoubleCompositeIndex(indexes,
@@ -91,6 +92,17 @@ public class IndexSpec {
         return index;
     }
 
+    private Index createSingleIndex(int startResult) {
+        // join keys on integer primitives and strings get a specialized index avoiding boxing and generic equality
+        if (indexes[0].isPrimitiveLongIndexable()) {
+            return new LongSingleIndex(indexes, startResult);
+        }
+        if (indexes[0].isStringIndexable()) {
+            return new StringSingleIndex(indexes, startResult);
+        }
+        return new SingleIndex(indexes, startResult);
+    }
+
     public IndexedValueReader getIndex(int pos) {
         return indexes[pos];
     }
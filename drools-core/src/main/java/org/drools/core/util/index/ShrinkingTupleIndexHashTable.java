@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util.index;
+
+import org.drools.core.reteoo.TupleImpl;
+
+/**
+ * A right memory index with a shrinking bucket table: it starts from a small table and, differently
+ * from {@link TupleIndexHashTable}, halves it when the retractions leave it sparse. This avoids that
+ * a burst of facts leaves behind huge, mostly empty, tables that have to be retained for the whole
+ * life of the session. Only the bucket table shrinks, the tuples themselves are stored as usual.
+ *
+ * The table is never resized by a removal, because the rule removal deletes the tuples while walking
+ * the table with {@link #fullFastIterator()}. It is shrunk on the next insertion instead, which may
+ * already grow the table and then is never done during a full iteration.
+ */
+public class ShrinkingTupleIndexHashTable extends TupleIndexHashTable {
+
+    private static final long serialVersionUID = 510l;
+
+    static final int MIN_CAPACITY = 16;
+
+    public ShrinkingTupleIndexHashTable() {
+        // constructor for serialisation
+    }
+
+    public ShrinkingTupleIndexHashTable(Index index, boolean left) {
+        super( MIN_CAPACITY, 0.75f, index, left );
+    }
+
+    @Override
+    public void add(final TupleImpl tuple) {
+        shrinkIfSparse();
+        super.add( tuple );
+    }
+
+    private void shrinkIfSparse() {
+        // halve the table while less than a quarter of its threshold is in use, so that once shrunk
+        // it is still at most half full and the following insertions cannot resize it back
+        int capacity = this.table.length;
+        while ( capacity > MIN_CAPACITY && this.size < ( ( (int) ( capacity * this.loadFactor ) ) >> 2 ) ) {
+            capacity >>= 1;
+        }
+        if ( capacity != this.table.length ) {
+            resize( capacity );
+        }
+    }
+}
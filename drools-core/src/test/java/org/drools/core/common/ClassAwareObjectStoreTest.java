@@ -21,9 +21,16 @@ package org.drools.core.common;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
@@ -194,6 +201,79 @@ public class ClassAwareObjectStoreTest {
         assertThat(collect(underTest.iterateFactHandles(SuperClass.class))).hasSize(2);
     }
 
+    @ParameterizedTest
+    @MethodSource("concurrentParameters")
+    public void iterateWhileInsertingFromAnotherThread(ClassAwareObjectStore underTest) throws Exception {
+        final int factsNr = 20000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < factsNr; i++) {
+                    Object object = i % 2 == 0 ? new SuperClass() : new SubClass();
+                    underTest.addHandle(handleFor(object), object);
+                }
+            });
+
+            while (!writer.isDone()) {
+                Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+                Iterator<Object> objects = underTest.iterateObjects(SuperClass.class);
+                while (objects.hasNext()) {
+                    assertThat(seen.add(objects.next())).isTrue();
+                }
+            }
+            writer.get();
+
+            assertThat(collect(underTest.iterateObjects(SuperClass.class))).hasSize(factsNr);
+            assertThat(collect(underTest.iterateFactHandles(SubClass.class))).hasSize(factsNr / 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("concurrentParameters")
+    public void reconnectWhileInsertingFromAnotherThread(ClassAwareObjectStore underTest) throws Exception {
+        final int factsNr = 20000;
+        final List<InternalFactHandle> handles = new CopyOnWriteArrayList<>();
+        final Object first = new SuperClass();
+        final InternalFactHandle firstHandle = handleFor(first);
+        underTest.addHandle(firstHandle, first);
+        // makes the index by id slow enough to build, that the writer keeps adding handles while it's built
+        for (int i = 0; i < factsNr * 5; i++) {
+            Object object = new SuperClass();
+            underTest.addHandle(handleFor(object), object);
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < factsNr; i++) {
+                    Object object = i % 2 == 0 ? new SuperClass() : new SubClass();
+                    InternalFactHandle handle = handleFor(object);
+                    underTest.addHandle(handle, object);
+                    handles.add(handle);
+                }
+            });
+
+            // the lookups by id from this thread must not lose the handles added by the writer in the meantime
+            while (!writer.isDone()) {
+                assertThat(underTest.reconnect(disconnected(firstHandle))).isSameAs(firstHandle);
+            }
+            writer.get();
+
+            for (InternalFactHandle handle : handles) {
+                assertThat(underTest.reconnect(disconnected(handle))).isSameAs(handle);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static InternalFactHandle disconnected(InternalFactHandle handle) {
+        DefaultFactHandle disconnected = new DefaultFactHandle(handle.getId(), handle.getObject());
+        disconnected.setDisconnected(true);
+        return disconnected;
+    }
 
     private static <T> Collection<T> collect(Iterator<T> objects) {
         List<T> result = new ArrayList<T>();
@@ -205,7 +285,14 @@ public class ClassAwareObjectStoreTest {
     
     public static Stream<ClassAwareObjectStore> parameters() {
     	return Stream.of(new ClassAwareObjectStore(true, new ReentrantLock()), 
-    			new ClassAwareObjectStore(false, new ReentrantLock()));
+    			new ClassAwareObjectStore(false, new ReentrantLock()),
+    			new ClassAwareObjectStore(true, new ReentrantLock(), true),
+    			new ClassAwareObjectStore(false, new ReentrantLock(), true));
+    }
+
+    public static Stream<ClassAwareObjectStore> concurrentParameters() {
+        return Stream.of(new ClassAwareObjectStore(true, new ReentrantLock(), true),
+                new ClassAwareObjectStore(false, new ReentrantLock(), true));
     }
 
     private static final AtomicInteger factCounter = new AtomicInteger(0);
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FactHandleEqualityTableTest {
+
+    private static long handleCounter = 0;
+
+    private static InternalFactHandle handleFor(Object object) {
+        return new DefaultFactHandle(handleCounter++, object);
+    }
+
+    @Test
+    public void testFindsEqualObjects() {
+        FactHandleEqualityTable table = new FactHandleEqualityTable(2);
+        List<InternalFactHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            InternalFactHandle handle = handleFor(new Key(i % 7, i));
+            assertThat(table.put(handle.getObject(), handle)).isNull();
+            handles.add(handle);
+        }
+        assertThat(table.size()).isEqualTo(100);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(table.get(new Key(i % 7, i))).isSameAs(handles.get(i));
+        }
+        assertThat(table.get(new Key(0, 100))).isNull();
+        assertThat(table.values()).containsExactlyInAnyOrderElementsOf(handles);
+    }
+
+    @Test
+    public void testPutReplacesEqualObject() {
+        FactHandleEqualityTable table = new FactHandleEqualityTable();
+        InternalFactHandle first = handleFor(new Key(1, 1));
+        InternalFactHandle second = handleFor(new Key(1, 1));
+
+        table.put(first.getObject(), first);
+        assertThat(table.put(second.getObject(), second)).isSameAs(first);
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(table.get(new Key(1, 1))).isSameAs(second);
+    }
+
+    @Test
+    public void testRemoveFactModifiedInPlace() {
+        FactHandleEqualityTable table = new FactHandleEqualityTable();
+        Key key = new Key(1, 1);
+        InternalFactHandle handle = handleFor(key);
+        table.put(key, handle);
+
+        key.hash = 2;
+        assertThat(table.remove(handle)).isSameAs(handle);
+        assertThat(table.isEmpty()).isTrue();
+
+        // as done when updating a fact in the object store
+        handle.setObject(key);
+        table.put(key, handle);
+        assertThat(table.get(new Key(2, 1))).isSameAs(handle);
+        assertThat(table.get(new Key(1, 1))).isNull();
+    }
+
+    @Test
+    public void testRandomOperationsAgainstHashMap() {
+        Random random = new Random(0);
+        FactHandleEqualityTable table = new FactHandleEqualityTable();
+        Map<Key, InternalFactHandle> expected = new HashMap<>();
+
+        for (int i = 0; i < 50000; i++) {
+            // few hash codes, to have long probe sequences
+            Key key = new Key(random.nextInt(16), random.nextInt(300));
+            if (random.nextBoolean()) {
+                InternalFactHandle handle = handleFor(key);
+                assertThat(table.put(key, handle)).isSameAs(expected.put(key, handle));
+            } else {
+                InternalFactHandle existing = expected.remove(key);
+                if (existing != null) {
+                    assertThat(table.remove(existing)).isSameAs(existing);
+                }
+            }
+            assertThat(table.size()).isEqualTo(expected.size());
+        }
+
+        for (Map.Entry<Key, InternalFactHandle> entry : expected.entrySet()) {
+            assertThat(table.get(entry.getKey())).isSameAs(entry.getValue());
+        }
+        assertThat(table.values()).containsExactlyInAnyOrderElementsOf(expected.values());
+    }
+
+    private static class Key {
+        private int hash;
+        private final int value;
+
+        private Key(int hash, int value) {
+            this.hash = hash;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).hash == hash && ((Key) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
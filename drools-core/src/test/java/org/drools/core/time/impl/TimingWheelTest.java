@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testPollInTimeOrder() {
+        TimingWheel<Long> wheel = new TimingWheel<>();
+        Random random = new Random(0);
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            // mix near and far timers to spread them across all the levels
+            long time = i % 2 == 0 ? random.nextInt(1000) : random.nextInt(Integer.MAX_VALUE) * 1000L;
+            times.add(time);
+            wheel.add(time, time);
+        }
+        assertThat(wheel.size()).isEqualTo(10000);
+
+        List<Long> polled = new ArrayList<>();
+        TimingWheel.Entry<Long> entry;
+        while ((entry = wheel.poll(Long.MAX_VALUE / 2)) != null) {
+            assertThat(entry.getItem()).isEqualTo(entry.getTime());
+            assertThat(wheel.getCurrentTime()).isEqualTo(entry.getTime());
+            polled.add(entry.getItem());
+        }
+
+        times.sort(Long::compare);
+        assertThat(polled).isEqualTo(times);
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testPollAdvancesTime() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000);
+        wheel.add("A", 1500);
+        wheel.add("B", 70000);
+
+        assertThat(wheel.getNextTime()).isEqualTo(1500);
+        assertThat(wheel.poll(1400)).isNull();
+        assertThat(wheel.getCurrentTime()).isEqualTo(1400);
+
+        assertThat(wheel.poll(100000).getItem()).isEqualTo("A");
+        assertThat(wheel.getCurrentTime()).isEqualTo(1500);
+        assertThat(wheel.getNextTime()).isEqualTo(70000);
+        assertThat(wheel.poll(100000).getItem()).isEqualTo("B");
+        assertThat(wheel.poll(100000)).isNull();
+        assertThat(wheel.getCurrentTime()).isEqualTo(100000);
+        assertThat(wheel.getNextTime()).isEqualTo(-1);
+    }
+
+    @Test
+    public void testAddInThePast() {
+        TimingWheel<String> wheel = new TimingWheel<>(5000);
+        wheel.add("A", 6000);
+        wheel.add("B", 10);
+
+        assertThat(wheel.poll(5000).getItem()).isEqualTo("B");
+        assertThat(wheel.poll(5000)).isNull();
+        assertThat(wheel.poll(6000).getItem()).isEqualTo("A");
+    }
+
+    @Test
+    public void testSameTimeInInsertionOrder() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        wheel.add("A", 100);
+        wheel.add("B", 100);
+        wheel.add("C", 100);
+
+        assertThat(wheel.poll(100).getItem()).isEqualTo("A");
+        assertThat(wheel.poll(100).getItem()).isEqualTo("B");
+        assertThat(wheel.poll(100).getItem()).isEqualTo("C");
+    }
+
+    @Test
+    public void testRemove() {
+        TimingWheel<Integer> wheel = new TimingWheel<>();
+        List<TimingWheel.Entry<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(wheel.add(i, i * 97L));
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertThat(wheel.remove(entries.get(i))).isTrue();
+            assertThat(wheel.remove(entries.get(i))).isFalse();
+        }
+        assertThat(wheel.size()).isEqualTo(500);
+
+        List<Integer> polled = new ArrayList<>();
+        TimingWheel.Entry<Integer> entry;
+        while ((entry = wheel.poll(Long.MAX_VALUE / 2)) != null) {
+            assertThat(entry.isScheduled()).isFalse();
+            polled.add(entry.getItem());
+        }
+        assertThat(polled).hasSize(500).allMatch(i -> i % 2 == 1).isSorted();
+    }
+
+    @Test
+    public void testAddWhilePolling() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        wheel.add("A", 300);
+
+        assertThat(wheel.poll(1000).getItem()).isEqualTo("A");
+        // scheduled by the job executed at 300 for the same time, or later but before the polled time
+        wheel.add("B", 300);
+        wheel.add("C", 700);
+        wheel.add("D", 1200);
+
+        assertThat(wheel.poll(1000).getItem()).isEqualTo("B");
+        assertThat(wheel.poll(1000).getItem()).isEqualTo("C");
+        assertThat(wheel.poll(1000)).isNull();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testClear() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        TimingWheel.Entry<String> entry = wheel.add("A", 100);
+        wheel.add("B", 1000000);
+
+        wheel.clear(50);
+        assertThat(wheel.isEmpty()).isTrue();
+        assertThat(entry.isScheduled()).isFalse();
+        assertThat(wheel.getCurrentTime()).isEqualTo(50);
+        assertThat(wheel.poll(55)).isNull();
+
+        wheel.add("C", 60);
+        assertThat(wheel.poll(60).getItem()).isEqualTo("C");
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.base.time.JobHandle;
+import org.drools.base.time.Trigger;
+import org.drools.core.ClockType;
+import org.drools.core.SessionConfiguration;
+import org.drools.core.impl.RuleBaseFactory;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.impl.JDKTimerServiceTest.DelayedTrigger;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJob;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJobContext;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TimingWheelTimerServiceTest {
+
+    @Test
+    public void testCreateTimerService() {
+        SessionConfiguration config = RuleBaseFactory.newKnowledgeSessionConfiguration().as(SessionConfiguration.KEY);
+        config.setTimingWheel(true);
+
+        config.setClockType(ClockType.REALTIME_CLOCK);
+        TimerService realtime = config.createTimerService();
+        assertThat(realtime).isInstanceOf(TimingWheelTimerService.class);
+        realtime.shutdown();
+
+        config.setClockType(ClockType.PSEUDO_CLOCK);
+        assertThat(config.createTimerService()).isInstanceOf(TimingWheelPseudoClockScheduler.class);
+    }
+
+    @Test
+    public void testSingleExecutionJob() throws Exception {
+        TimerService timeService = new TimingWheelTimerService();
+        Trigger trigger = new DelayedTrigger( 100 );
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        timeService.scheduleJob( new HelloWorldJob(), ctx,  trigger);
+        Thread.sleep( 500 );
+        timeService.shutdown();
+        assertThat(ctx.getList()).hasSize(1);
+    }
+
+    @Test
+    public void testRepeatedExecutionJob() throws Exception {
+        TimerService timeService = new TimingWheelTimerService();
+        Trigger trigger = new DelayedTrigger(  new long[] { 100, 100, 100} );
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        timeService.scheduleJob( new HelloWorldJob(), ctx,  trigger);
+        Thread.sleep( 500 );
+        timeService.shutdown();
+        assertThat(ctx.getList()).hasSize(3);
+    }
+
+    @Test
+    public void testRemoveJob() throws Exception {
+        TimerService timeService = new TimingWheelTimerService();
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        JobHandle removed = timeService.scheduleJob( new HelloWorldJob(), ctx, new DelayedTrigger( 100 ) );
+        timeService.scheduleJob( new HelloWorldJob(), ctx, new DelayedTrigger( 200 ) );
+        timeService.removeJob( removed );
+        Thread.sleep( 500 );
+        timeService.shutdown();
+        assertThat(ctx.getList()).hasSize(1);
+    }
+
+    @Test
+    public void testPseudoClockRunsJobsInTimeOrder() {
+        TimingWheelPseudoClockScheduler scheduler = new TimingWheelPseudoClockScheduler();
+        List<Long> executions = new ArrayList<>();
+        List<JobHandle> handles = new ArrayList<>();
+        for (long time : new long[] { 3000, 1000, 200000, 2000, 5 }) {
+            handles.add(scheduler.scheduleJob(c -> executions.add(scheduler.getCurrentTime()), mockContext(), new PointInTimeTrigger(time)));
+        }
+        assertThat(scheduler.getTimeToNextJob()).isEqualTo(5L);
+
+        scheduler.removeJob(handles.get(3));
+        scheduler.advanceTime(5000, TimeUnit.MILLISECONDS);
+        assertThat(executions).containsExactly(5L, 1000L, 3000L);
+        assertThat(scheduler.getCurrentTime()).isEqualTo(5000L);
+        assertThat(scheduler.getTimeToNextJob()).isEqualTo(195000L);
+
+        scheduler.advanceTime(200, TimeUnit.SECONDS);
+        assertThat(executions).containsExactly(5L, 1000L, 3000L, 200000L);
+        assertThat(scheduler.getTimeToNextJob()).isEqualTo(-1L);
+    }
+
+    private JobContext mockContext() {
+        JobContext ctx = mock(JobContext.class);
+        when(ctx.getInternalKnowledgeRuntime()).thenReturn(Optional.empty());
+        return ctx;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.drools.core.common.DefaultEventHandle;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventRingBufferTest {
+
+    private static DefaultEventHandle event(long id, long timestamp) {
+        return new DefaultEventHandle(id, "event" + id, id, timestamp, 0, null);
+    }
+
+    @Test
+    public void testInOrderEvents() {
+        EventRingBuffer queue = new EventRingBuffer(2);
+        for (int i = 0; i < 100; i++) {
+            queue.add(event(i, i * 10L));
+        }
+        assertThat(queue).hasSize(100);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(queue.peek().getId()).isEqualTo(i);
+            assertThat(queue.poll().getId()).isEqualTo(i);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.peek()).isNull();
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    public void testOutOfOrderEvents() {
+        EventRingBuffer queue = new EventRingBuffer();
+        queue.add(event(1, 10));
+        queue.add(event(2, 30));
+        queue.add(event(3, 20));
+        queue.add(event(4, 5));
+        queue.add(event(5, 40));
+
+        assertThat(queue).extracting(DefaultEventHandle::getId).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(queue.poll().getId()).isEqualTo(4);
+        assertThat(queue.poll().getId()).isEqualTo(1);
+        assertThat(queue.poll().getId()).isEqualTo(3);
+        assertThat(queue.poll().getId()).isEqualTo(2);
+        assertThat(queue.poll().getId()).isEqualTo(5);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testRemoveFromTheMiddle() {
+        EventRingBuffer queue = new EventRingBuffer();
+        List<DefaultEventHandle> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            DefaultEventHandle event = event(i, i / 2);
+            events.add(event);
+            queue.add(event);
+        }
+
+        assertThat(queue.remove(events.get(3))).isTrue();
+        assertThat(queue.remove(events.get(3))).isFalse();
+        assertThat(queue.remove(events.get(9))).isTrue();
+        assertThat(queue.remove(events.get(0))).isTrue();
+        assertThat(queue).hasSize(7);
+        assertThat(queue).extracting(DefaultEventHandle::getId).containsExactly(1L, 2L, 4L, 5L, 6L, 7L, 8L);
+
+        // appending after removing the tail keeps the ring ordered
+        queue.add(event(10, 4));
+        assertThat(queue.poll().getId()).isEqualTo(1);
+        assertThat(queue.poll().getId()).isEqualTo(2);
+        assertThat(queue.poll().getId()).isEqualTo(4);
+        assertThat(queue).extracting(DefaultEventHandle::getId).containsExactly(5L, 6L, 7L, 8L, 10L);
+    }
+
+    @Test
+    public void testSameOrderAsPriorityQueue() {
+        Random random = new Random(0);
+        EventRingBuffer queue = new EventRingBuffer(4);
+        PriorityQueue<DefaultEventHandle> expected = new PriorityQueue<>();
+        List<DefaultEventHandle> inserted = new ArrayList<>();
+
+        long time = 0;
+        for (int i = 0; i < 10000; i++) {
+            int op = random.nextInt(10);
+            if (op < 6) {
+                // mostly in order, with some events arriving late
+                time += random.nextInt(3);
+                DefaultEventHandle event = event(i, random.nextInt(10) == 0 ? time - random.nextInt(20) : time);
+                queue.add(event);
+                expected.add(event);
+                inserted.add(event);
+            } else if (op < 8) {
+                DefaultEventHandle polled = queue.poll();
+                if (expected.isEmpty()) {
+                    assertThat(polled).isNull();
+                } else {
+                    DefaultEventHandle oldest = expected.poll();
+                    assertThat(polled.getStartTimestamp()).isEqualTo(oldest.getStartTimestamp());
+                    if (oldest != polled) {
+                        // events with the same timestamp can be polled in any order
+                        expected.add(oldest);
+                        expected.remove(polled);
+                    }
+                }
+            } else if (!inserted.isEmpty()) {
+                DefaultEventHandle event = inserted.get(random.nextInt(inserted.size()));
+                assertThat(queue.remove(event)).isEqualTo(expected.remove(event));
+            }
+            assertThat(queue.size()).isEqualTo(expected.size());
+            if (!expected.isEmpty()) {
+                assertThat(queue.peek().getStartTimestamp()).isEqualTo(expected.peek().getStartTimestamp());
+            }
+        }
+        assertThat(queue).containsExactlyInAnyOrderElementsOf(expected);
+    }
+}
@@ -18,6 +18,12 @@
  */
 package org.drools.core.util;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +34,7 @@ public class ScalablePoolTest {
         private int newCounter;
         private int resetCounter;
         private int disposeCounter;
+        private int warmUpCounter;
     }
 
     public static class PooledResource {
@@ -45,6 +52,10 @@ public class ScalablePoolTest {
         public void dispose() {
             monitor.disposeCounter++;
         }
+
+        public void warmUp() {
+            monitor.warmUpCounter++;
+        }
     }
 
     @Test
@@ -109,6 +120,136 @@ public class ScalablePoolTest {
         check( monitor, 5, 2, 5 );
     }
 
+    @Test
+    public void testAsyncPool() {
+        Monitor monitor = new Monitor();
+        List<Runnable> tasks = new ArrayList<>();
+
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose,
+                                                                PooledResource::warmUp, tasks::add );
+
+        // the initial resource is eagerly created and warmed up
+        check( monitor, 1, 0, 0 );
+        assertThat(monitor.warmUpCounter).isEqualTo(1);
+
+        PooledResource resource1 = pool.get();
+        assertThat(tasks).isEmpty();
+
+        // the pool is empty, so a resource is created on the fly and another one is scheduled to replenish it
+        PooledResource resource2 = pool.get();
+        check( monitor, 2, 0, 0 );
+        assertThat(tasks).hasSize(1);
+        runAll( tasks );
+        check( monitor, 3, 0, 0 );
+        assertThat(monitor.warmUpCounter).isEqualTo(2);
+
+        // the resource is reset on the executor
+        pool.release( resource1 );
+        check( monitor, 3, 0, 0 );
+        runAll( tasks );
+        check( monitor, 3, 1, 0 );
+
+        ScalablePool.Statistics statistics = pool.getStatistics();
+        assertThat(statistics.getHits()).isEqualTo(1);
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getResets()).isEqualTo(1);
+        assertThat(statistics.getIdle()).isEqualTo(2);
+        assertThat(statistics.getCreated()).isEqualTo(3);
+
+        // the idle resources are already at the initial size, so nothing is replenished
+        pool.get();
+        assertThat(tasks).isEmpty();
+
+        pool.shutdown();
+        check( monitor, 3, 1, 3 );
+
+        // a resource released after the shutdown is not reset
+        pool.release( resource2 );
+        runAll( tasks );
+        check( monitor, 3, 1, 3 );
+    }
+
+    @Test
+    public void testShutdownWaitsForRunningReset() throws InterruptedException {
+        Monitor monitor = new Monitor();
+        List<String> events = Collections.synchronizedList( new ArrayList<>() );
+        CountDownLatch resetStarted = new CountDownLatch( 1 );
+        CountDownLatch resumeReset = new CountDownLatch( 1 );
+
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1, () -> new PooledResource( monitor ),
+                                                                r -> {
+                                                                    resetStarted.countDown();
+                                                                    await( resumeReset );
+                                                                    events.add( "reset" );
+                                                                },
+                                                                r -> events.add( "dispose" ),
+                                                                PooledResource::warmUp, r -> new Thread( r ).start() );
+
+        pool.release( pool.get() );
+        assertThat(resetStarted.await( 10, TimeUnit.SECONDS )).isTrue();
+
+        Thread shutdown = new Thread( pool::shutdown );
+        shutdown.start();
+        shutdown.join( 100 );
+        // the resource is still being reset, so it cannot be disposed yet
+        assertThat(shutdown.isAlive()).isTrue();
+        assertThat(events).isEmpty();
+
+        resumeReset.countDown();
+        shutdown.join( 10_000 );
+        assertThat(shutdown.isAlive()).isFalse();
+        assertThat(events).containsExactly( "reset", "dispose" );
+    }
+
+    @Test
+    public void testShutdownDisposesResourceCreatedInBackground() throws InterruptedException {
+        Monitor monitor = new Monitor();
+        CountDownLatch creationStarted = new CountDownLatch( 1 );
+        CountDownLatch resumeCreation = new CountDownLatch( 1 );
+        Thread caller = Thread.currentThread();
+
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1,
+                                                                () -> {
+                                                                    if (Thread.currentThread() != caller) {
+                                                                        creationStarted.countDown();
+                                                                        await( resumeCreation );
+                                                                    }
+                                                                    return new PooledResource( monitor );
+                                                                },
+                                                                PooledResource::reset, PooledResource::dispose,
+                                                                PooledResource::warmUp, r -> new Thread( r ).start() );
+
+        // the second get is a miss, so a resource is created in background to replenish the pool
+        pool.get();
+        pool.get();
+        assertThat(creationStarted.await( 10, TimeUnit.SECONDS )).isTrue();
+
+        Thread shutdown = new Thread( pool::shutdown );
+        shutdown.start();
+        shutdown.join( 100 );
+        assertThat(shutdown.isAlive()).isTrue();
+
+        resumeCreation.countDown();
+        shutdown.join( 10_000 );
+        assertThat(shutdown.isAlive()).isFalse();
+        // the resource created while shutting down is disposed too, rather than leaked
+        check( monitor, 3, 0, 3 );
+    }
+
+    private static void await( CountDownLatch latch ) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    private void runAll( List<Runnable> tasks ) {
+        List<Runnable> toBeRun = new ArrayList<>( tasks );
+        tasks.clear();
+        toBeRun.forEach( Runnable::run );
+    }
+
     private void check( Monitor monitor, int expectedNew, int expectedReset, int expectedDispose ) {
         assertThat(monitor.newCounter).isEqualTo(expectedNew);
         assertThat(monitor.resetCounter).isEqualTo(expectedReset);
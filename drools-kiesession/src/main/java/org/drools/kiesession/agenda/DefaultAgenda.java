@@ -45,10 +45,12 @@ import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.RuleFlowGroup;
 import org.drools.core.concurrent.GroupEvaluator;
 import org.drools.core.concurrent.ParallelGroupEvaluator;
+import org.drools.core.concurrent.ParallelWarmUpGroupEvaluator;
 import org.drools.core.concurrent.SequentialGroupEvaluator;
 import org.drools.core.event.AgendaEventSupport;
 import org.drools.core.impl.InternalRuleBase;
 import org.drools.core.phreak.ExecutableEntry;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.RuleAgendaItem;
@@ -159,10 +161,7 @@ public class DefaultAgenda implements InternalAgenda {
         this.sequential = ruleBaseConf.isSequential();
         this.expirationContexts = ruleBaseConf.getEventProcessingMode() == EventProcessingOption.STREAM ? new ArrayList<>() : null;
 
-         // for fully parallel execution the parallelism is implemented at the level of CompositeDefaultAgenda
-         this.groupEvaluator = ruleBaseConf.isParallelEvaluation() && !ruleBaseConf.isParallelExecution() ?
-                 new ParallelGroupEvaluator( this ) :
-                 new SequentialGroupEvaluator( this );
+        this.groupEvaluator = createGroupEvaluator( ruleBaseConf );
 
         this.propagationList = createPropagationList();
     }
@@ -186,13 +185,32 @@ public class DefaultAgenda implements InternalAgenda {
         return rtnLeftTuple;
     }
 
+    private GroupEvaluator createGroupEvaluator(RuleBaseConfiguration ruleBaseConf) {
+        if (ruleBaseConf.isParallelEvaluation()) {
+            // for fully parallel execution the parallelism is implemented at the level of CompositeDefaultAgenda
+            return ruleBaseConf.isParallelExecution() ?
+                   new SequentialGroupEvaluator( this ) :
+                   new ParallelGroupEvaluator( this );
+        }
+
+        if (workingMemory.getRuleSessionConfiguration().isParallelWarmUp() && !sequential && !declarativeAgenda) {
+            return new ParallelWarmUpGroupEvaluator( this );
+        }
+
+        return new SequentialGroupEvaluator( this );
+    }
+
     protected PropagationList createPropagationList() {
         if (!workingMemory.getRuleSessionConfiguration().isThreadSafe()) {
             return new ThreadUnsafePropagationList( workingMemory );
         }
 
-        return workingMemory.getRuleSessionConfiguration().hasForceEagerActivationFilter() ?
-               new SynchronizedBypassPropagationList( workingMemory ) :
+        if (workingMemory.getRuleSessionConfiguration().hasForceEagerActivationFilter()) {
+            return new SynchronizedBypassPropagationList( workingMemory );
+        }
+
+        return workingMemory.getRuleSessionConfiguration().isLockFreePropagation() ?
+               new LockFreePropagationList( workingMemory ) :
                new SynchronizedPropagationList( workingMemory );
     }
 
@@ -427,6 +445,7 @@ public class DefaultAgenda implements InternalAgenda {
         activationCounter = 0;
         executionStateMachine.reset();
         propagationList.reset();
+        groupEvaluator.reset();
     }
 
     @Override
@@ -682,20 +701,11 @@ public class DefaultAgenda implements InternalAgenda {
                     deactivated = true;
                 }
 
-                PropagationEntry head;
-                // this must use the same sync target as takeAllPropagations, to ensure this entire block is atomic, up to the point of wait
-                synchronized (agenda.propagationList) {
-                    head = agenda.takePropagationHead();
-
-                    // if halt() has called, the thread should not be put into a wait state
-                    // instead this is just a safe way to make sure the queue is flushed before exiting the loop
-                    if (head == null && (
-                            agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.FIRING_UNTIL_HALT ||
-                            agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT )) {
-                        agenda.propagationList.waitOnRest();
-                        head = agenda.takePropagationHead();
-                    }
-                }
+                // if halt() has called, the thread should not be put into a wait state
+                // instead this is just a safe way to make sure the queue is flushed before exiting the loop
+                PropagationEntry head = agenda.propagationList.takeAllOrWaitOnRest( agenda::takePropagationHead, () ->
+                        agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.FIRING_UNTIL_HALT ||
+                        agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT );
 
                 if (deactivated) {
                     agenda.executionStateMachine.toFireUntilHalt();
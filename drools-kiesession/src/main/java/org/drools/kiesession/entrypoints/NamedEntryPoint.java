@@ -24,9 +24,12 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -52,6 +55,7 @@ import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.SuperCacheFixer;
 import org.drools.core.common.TruthMaintenanceSystemFactory;
 import org.drools.core.impl.InternalRuleBase;
+import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.ObjectTypeNode;
@@ -98,6 +102,8 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     private boolean isEqualityBehaviour = false;
 
+    private Map<ObjectTypeNode, ObjectTypeNode.ExpireBatchJobContext> expireBatches;
+
     protected NamedEntryPoint() {
         lock = null;
         reteEvaluator = null;
@@ -118,12 +124,16 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
         this.isEqualityBehaviour = RuleBaseConfiguration.AssertBehaviour.EQUALITY.equals(conf.getAssertBehaviour());
 
         this.objectStore = createObjectStore(entryPoint, conf, reteEvaluator);
+
+        // with parallel execution the expirations are split by partition, so they cannot be batched
+        this.expireBatches = conf.isParallelExecution() ? null : new HashMap<>();
     }
 
     protected ObjectStore createObjectStore(EntryPointId entryPoint, RuleBaseConfiguration conf, ReteEvaluator reteEvaluator) {
-        boolean useClassAwareStore = isEqualityBehaviour || conf.getOption(KieBaseMutabilityOption.KEY).isMutabilityEnabled();
+        boolean concurrentStore = reteEvaluator.getSessionConfiguration().isConcurrentObjectStore();
+        boolean useClassAwareStore = concurrentStore || isEqualityBehaviour || conf.getOption(KieBaseMutabilityOption.KEY).isMutabilityEnabled();
         return useClassAwareStore ?
-                new ClassAwareObjectStore( isEqualityBehaviour, this.lock ) :
+                new ClassAwareObjectStore( isEqualityBehaviour, this.lock, concurrentStore ) :
                 new IdentityObjectStore();
     }
 
@@ -141,6 +151,11 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     public void reset() {
         this.objectStore.clear();
+        if (expireBatches != null) {
+            synchronized (expireBatches) {
+                expireBatches.clear();
+            }
+        }
         if (TruthMaintenanceSystemFactory.present()) {
             TruthMaintenanceSystemFactory.get().clearTruthMaintenanceSystem(this);
         }
@@ -241,6 +256,84 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     }
 
+    @Override
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        if ( this.reteEvaluator.isSequential() ) {
+            return InternalWorkingMemoryEntryPoint.super.insertAll( objects );
+        }
+
+        List<FactHandle> handles = new ArrayList<>( objects.size() );
+        Map<ObjectTypeConf, PropagationEntry.InsertAll> batches = new LinkedHashMap<>();
+
+        try {
+            this.reteEvaluator.startOperation(ReteEvaluator.InternalOperationType.INSERT);
+
+            try {
+                lock();
+
+                this.ruleBase.executeQueuedActions();
+
+                for ( Object object : objects ) {
+                    if ( object == null ) {
+                        // you cannot assert a null object
+                        handles.add( null );
+                        continue;
+                    }
+
+                    ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object );
+                    if ( typeConf.isTMSEnabled() || typeConf.isEvent() ) {
+                        // truth maintenance and event expiration need the single fact insertion path,
+                        // the facts batched so far are propagated before to keep the order of the objects
+                        assertBatches( batches );
+                        handles.add( insert( object ) );
+                        continue;
+                    }
+
+                    // check if the object already exists in the WM, also among the ones of this same batch
+                    InternalFactHandle handle = this.objectStore.getHandleForObject( object );
+                    if ( handle == null ) {
+                        handle = createHandle( object, typeConf );
+                        PropagationContext propagationContext = this.pctxFactory.createPropagationContext(this.reteEvaluator.getNextPropagationIdCounter(),
+                                PropagationContext.Type.INSERTION,
+                                null,
+                                null,
+                                handle,
+                                entryPoint);
+
+                        if ( typeConf.isDynamic() ) {
+                            addPropertyChangeListener( handle, false );
+                        }
+
+                        this.objectStore.addHandle( handle, object );
+                        batches.computeIfAbsent( typeConf, PropagationEntry.InsertAll::new ).add( handle, propagationContext );
+                    }
+                    handles.add( handle );
+                }
+
+                assertBatches( batches );
+            } finally {
+                unlock();
+            }
+            return handles;
+        } finally {
+            this.reteEvaluator.endOperation(ReteEvaluator.InternalOperationType.INSERT);
+        }
+    }
+
+    private void assertBatches(Map<ObjectTypeConf, PropagationEntry.InsertAll> batches) {
+        for ( PropagationEntry.InsertAll batch : batches.values() ) {
+            this.entryPointNode.assertObjects( batch, this.reteEvaluator );
+
+            List<InternalFactHandle> batchHandles = batch.getHandles();
+            List<PropagationContext> batchContexts = batch.getContexts();
+            for (int i = 0; i < batchHandles.size(); i++) {
+                InternalFactHandle handle = batchHandles.get(i);
+                this.reteEvaluator.getRuleRuntimeEventSupport().fireObjectInserted(batchContexts.get(i), handle, handle.getObject(), this.reteEvaluator);
+            }
+        }
+        batches.clear();
+    }
+
     public void insert(InternalFactHandle handle) {
         Object object = handle.getObject();
         ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object );
@@ -612,6 +705,11 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
         return entryPointNode.getTypeConfReg();
     }
 
+    @Override
+    public Map<ObjectTypeNode, ObjectTypeNode.ExpireBatchJobContext> getExpireBatches() {
+        return expireBatches;
+    }
+
     public InternalRuleBase getKnowledgeBase() {
         return ruleBase;
     }
@@ -46,7 +46,6 @@ public interface InternalKnowledgeBase extends InternalRuleBase, KieBase {
 
     KieSessionsPool getSessionPool();
 
-    void enqueueModification(Runnable modification);
     boolean flushModifications();
 
     int nextWorkingMemoryCounter();
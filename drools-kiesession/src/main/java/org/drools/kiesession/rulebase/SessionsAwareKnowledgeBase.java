@@ -296,6 +296,11 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
         }
     }
 
+    @Override
+    public boolean isSessionsAware() {
+        return true;
+    }
+
     public boolean flushModifications() {
         if (!flushingUpdates.compareAndSet( false, true )) {
             return false;
@@ -1081,7 +1081,10 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         checkAlive();
         try {
             startOperation(InternalOperationType.FIRE);
-            return internalFireAllRules(agendaFilter, fireLimit);
+            ruleEventListenerSupport.onBeforeFireAllRules();
+            int fireCount = internalFireAllRules(agendaFilter, fireLimit);
+            ruleEventListenerSupport.onAfterFireAllRules(fireCount);
+            return fireCount;
         } finally {
             endOperation(InternalOperationType.FIRE);
         }
@@ -1270,6 +1273,12 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         return this.entryPointsManager.getDefaultEntryPoint().insert(object, dynamic, rule, terminalNode);
     }
 
+    @Override
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        checkAlive();
+        return this.entryPointsManager.getDefaultEntryPoint().insertAll(objects);
+    }
+
     public void retract(FactHandle handle) {
         delete(handle);
     }
@@ -18,10 +18,15 @@
  */
 package org.drools.kiesession.session;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
-import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.drools.core.phreak.RuntimeSegmentUtilities;
+import org.drools.core.reteoo.SegmentMemory.SegmentPrototype;
+import org.drools.core.reteoo.TerminalNode;
 import org.drools.core.util.ScalablePool;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.kie.internal.concurrent.ExecutorProviderFactory;
 
 public class StatefulSessionPool {
 
@@ -29,8 +34,13 @@ public class StatefulSessionPool {
     private final ScalablePool<StatefulKnowledgeSessionImpl> pool;
 
     public StatefulSessionPool(InternalKnowledgeBase kbase, int initialSize, Supplier<StatefulKnowledgeSessionImpl> supplier) {
+        this(kbase, initialSize, supplier, false);
+    }
+
+    public StatefulSessionPool(InternalKnowledgeBase kbase, int initialSize, Supplier<StatefulKnowledgeSessionImpl> supplier, boolean asyncReset) {
         this.kbase = kbase;
-        this.pool = new ScalablePool<>(initialSize, supplier, s -> s.reset(), s -> s.fromPool(null).dispose());
+        Executor executor = asyncReset ? ExecutorProviderFactory.getExecutorProvider().getExecutor() : null;
+        this.pool = new ScalablePool<>(initialSize, supplier, s -> s.reset(), s -> s.fromPool(null).dispose(), this::warmUp, executor);
     }
 
     public InternalKnowledgeBase getKieBase() {
@@ -48,4 +58,26 @@ public class StatefulSessionPool {
     public void shutdown() {
         pool.shutdown();
     }
+
+    public ScalablePool.Statistics getStatistics() {
+        return pool.getStatistics();
+    }
+
+    /**
+     * Creates in advance the segment memories, and then the memories of all their nodes, of all the rules,
+     * so that the first evaluations on a pooled session don't have to pay for their lazy initialization.
+     * Those memories are retained when the session is reset.
+     */
+    private void warmUp(StatefulKnowledgeSessionImpl session) {
+        for (TerminalNode[] terminalNodes : kbase.getReteooBuilder().getTerminalNodes().values()) {
+            for (TerminalNode terminalNode : terminalNodes) {
+                SegmentPrototype[] prototypes = terminalNode.getSegmentPrototypes();
+                if (prototypes != null) {
+                    for (SegmentPrototype prototype : prototypes) {
+                        RuntimeSegmentUtilities.getOrCreateSegmentMemory(prototype.getRootNode(), session);
+                    }
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.metric.phreak;
+
+import org.drools.core.phreak.PhreakNetworkProfiler;
+import org.drools.core.reteoo.PathMemory;
+import org.drools.metric.util.RuleNetworkMetrics;
+
+public class MetricPhreakNetworkProfilerImpl implements PhreakNetworkProfiler {
+
+    @Override
+    public boolean isEnabled() {
+        return RuleNetworkMetrics.getInstance().isEnabled();
+    }
+
+    @Override
+    public void segmentLinked(PathMemory pmem) {
+        RuleNetworkMetrics.getInstance().getStats(pmem).segmentLinked();
+    }
+
+    @Override
+    public void segmentUnlinked(PathMemory pmem) {
+        RuleNetworkMetrics.getInstance().getStats(pmem).segmentUnlinked();
+    }
+
+    @Override
+    public void ruleLinked(PathMemory pmem) {
+        RuleNetworkMetrics.getInstance().getStats(pmem).ruleLinked();
+    }
+
+    @Override
+    public void ruleUnlinked(PathMemory pmem, long linkedTimeInNanos) {
+        RuleNetworkMetrics.getInstance().getStats(pmem).ruleUnlinked(linkedTimeInNanos);
+    }
+
+    @Override
+    public void networkEvaluated(PathMemory pmem, int evaluatedSegments, int stagedTuples, long elapsedTimeInNanos) {
+        RuleNetworkMetrics.getInstance().getStats(pmem).networkEvaluated(evaluatedSegments, stagedTuples, elapsedTimeInNanos);
+    }
+
+    @Override
+    public void tuplesPropagated(PathMemory pmem, int propagatedTuples) {
+        RuleNetworkMetrics.getInstance().getStats(pmem).tuplesPropagated(propagatedTuples);
+    }
+}
@@ -70,6 +70,10 @@ public class MetricLogUtils {
         return enabled;
     }
 
+    public boolean isMicrometerEnabled() {
+        return micrometerAvailable && !micrometerDisabled;
+    }
+
     public void startMetrics(BaseNode baseNode) {
         if (enabled) {
             nodeStats.set(new NodeStats(baseNode));
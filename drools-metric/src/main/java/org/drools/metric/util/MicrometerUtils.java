@@ -21,12 +21,15 @@ package org.drools.metric.util;
 import java.time.Duration;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
@@ -34,10 +37,11 @@ import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import org.drools.core.common.BaseNode;
 import org.kie.api.definition.rule.Rule;
+import org.kie.api.runtime.KieSession;
 
 /**
- * All references to Micrometer are in this class, and therefore Micrometer is only required on the classpath when
- * this class is actually loaded.
+ * All references to Micrometer are in this class, and in the {@link SessionMetrics} it creates, and therefore
+ * Micrometer is only required on the classpath when this class is actually loaded.
  */
 public final class MicrometerUtils {
 
@@ -76,21 +80,64 @@ public final class MicrometerUtils {
     private static <Meter_ extends Meter> void triggerMicrometer(Map<BaseNode, Meter_> cache, Function<Iterable<Tag>,
             Meter_> meterConstructor, Consumer<Meter_> meterRecorder, BaseNode node) {
         Meter_ meter = cache.computeIfAbsent(node, k -> { // Meter lookups take a lot of time; we cache meters per node.
-            Tag nodeIdTag = Tag.of("node.id", Long.toString(node.getId()));
-            Stream<Tag> allTags = Stream.of(nodeIdTag);
-            for (Rule rule : node.getAssociatedRules()) {
-                String ruleName = rule.getPackageName() + "." + rule.getName();
-                Tag ruleTag = Tag.of("rule", ruleName);
-                allTags = Stream.concat(allTags, Stream.of(ruleTag));
-            }
-            Iterable<Tag> tagsIterable = allTags.collect(Collectors.toSet());
             // Look up the timer in the registry.
-            return meterConstructor.apply(tagsIterable);
+            return meterConstructor.apply(tagsOf(node));
         });
         // Now record the average elapsed time.
         meterRecorder.accept(meter);
     }
 
+    private static Iterable<Tag> tagsOf(BaseNode node) {
+        Tag nodeIdTag = Tag.of("node.id", Long.toString(node.getId()));
+        Stream<Tag> allTags = Stream.of(nodeIdTag);
+        for (Rule rule : node.getAssociatedRules()) {
+            String ruleName = rule.getPackageName() + "." + rule.getName();
+            Tag ruleTag = Tag.of("rule", ruleName);
+            allTags = Stream.concat(allTags, Stream.of(ruleTag));
+        }
+        return allTags.collect(Collectors.toSet());
+    }
+
+    public void registerRuleNetworkStats(BaseNode pathEndNode, RuleNetworkStats stats) {
+        // The meters read the stats when published, so the engine never looks them up.
+        MeterRegistry meterRegistry = Metrics.globalRegistry;
+        Iterable<Tag> tags = tagsOf(pathEndNode);
+        FunctionCounter.builder("org.drools.metric.segment.link.count", stats, RuleNetworkStats::getSegmentLinkCount)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("org.drools.metric.segment.unlink.count", stats, RuleNetworkStats::getSegmentUnlinkCount)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("org.drools.metric.rule.link.count", stats, RuleNetworkStats::getRuleLinkCount)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionTimer.builder("org.drools.metric.rule.linked.time", stats,
+                        RuleNetworkStats::getRuleUnlinkCount, RuleNetworkStats::getLinkedTimeInNanos, TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionTimer.builder("org.drools.metric.network.evaluation.time", stats,
+                        RuleNetworkStats::getEvaluationCount, RuleNetworkStats::getEvaluationTimeInNanos, TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("org.drools.metric.segment.evaluation.count", stats, RuleNetworkStats::getSegmentEvaluationCount)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("org.drools.metric.tuples.staged.count", stats, RuleNetworkStats::getStagedTupleCount)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("org.drools.metric.tuples.propagated.count", stats, RuleNetworkStats::getPropagatedTupleCount)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Binds session level meters to the given session in the global registry. The tags should identify the session,
+     * otherwise the gauges of sessions sharing them are not reported.
+     */
+    public SessionMetrics bindSessionMetrics(KieSession ksession, Iterable<Tag> tags) {
+        return new SessionMetrics(ksession, Metrics.globalRegistry, tags);
+    }
+
     public void clear() { // For testing.
         averageElapsedTimeCache.clear();
         elapsedTimeCache.clear();
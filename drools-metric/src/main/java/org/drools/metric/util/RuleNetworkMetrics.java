@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.metric.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.drools.core.common.BaseNode;
+import org.drools.core.reteoo.PathMemory;
+
+import static org.drools.util.Config.getConfig;
+
+public class RuleNetworkMetrics {
+
+    public static final String METRIC_NETWORK_PROFILER_ENABLED = "drools.metric.network.profiler.enabled";
+    private boolean enabled = Boolean.parseBoolean(getConfig(METRIC_NETWORK_PROFILER_ENABLED, "false"));
+
+    // keyed by path end node, so the stats of the paths are shared by all the sessions of a kbase
+    private final Map<BaseNode, RuleNetworkStats> statsCache = Collections.synchronizedMap(new WeakHashMap<>());
+    // incremented at each clear, to invalidate the stats cached on the path memories
+    private volatile int generation;
+
+    private static RuleNetworkMetrics INSTANCE = new RuleNetworkMetrics();
+
+    public static RuleNetworkMetrics getInstance() {
+        return RuleNetworkMetrics.INSTANCE;
+    }
+
+    private RuleNetworkMetrics() {
+        // It is not allowed to create instances of util classes.
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public RuleNetworkStats getStats(PathMemory pmem) {
+        // the stats are resolved once per path memory, so the sessions don't contend on the shared cache at each event
+        Object cached = pmem.getProfilerData();
+        if (cached instanceof RuleNetworkStats && ((RuleNetworkStats) cached).generation == generation) {
+            return (RuleNetworkStats) cached;
+        }
+        RuleNetworkStats stats = statsCache.computeIfAbsent((BaseNode) pmem.getPathEndNode(), this::createStats);
+        pmem.setProfilerData(stats);
+        return stats;
+    }
+
+    private RuleNetworkStats createStats(BaseNode node) {
+        String rules = Stream.of(node.getAssociatedRules())
+                .map(rule -> rule.getPackageName() + "." + rule.getName())
+                .collect(Collectors.joining(","));
+        RuleNetworkStats stats = new RuleNetworkStats(node.getId(), rules);
+        stats.generation = generation;
+        if (MetricLogUtils.getInstance().isMicrometerEnabled()) {
+            MicrometerUtils.INSTANCE.registerRuleNetworkStats(node, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Returns the statistics of all the profiled rules and subnetworks, to find the ones whose segments link
+     * and unlink much more often than they produce matches.
+     */
+    public Collection<RuleNetworkStats> getAllStats() {
+        synchronized (statsCache) {
+            return new ArrayList<>(statsCache.values());
+        }
+    }
+
+    public void clear() {
+        synchronized (statsCache) {
+            generation++;
+            statsCache.clear();
+        }
+    }
+
+    /*
+     * This method is only used for testing purposes.
+     */
+    public static void recreateInstance() {
+        RuleNetworkMetrics.INSTANCE = new RuleNetworkMetrics();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.metric.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Linking and evaluation statistics of the path of a rule, or of a subnetwork, summed over all the sessions.
+ */
+public class RuleNetworkStats {
+
+    private final long nodeId;
+    private final String rules;
+
+    // the clear of RuleNetworkMetrics this instance has been created after
+    int generation;
+
+    private final LongAdder segmentLinkCount = new LongAdder();
+    private final LongAdder segmentUnlinkCount = new LongAdder();
+    private final LongAdder ruleLinkCount = new LongAdder();
+    private final LongAdder ruleUnlinkCount = new LongAdder();
+    private final LongAdder linkedTimeInNanos = new LongAdder();
+    private final LongAdder evaluationCount = new LongAdder();
+    private final LongAdder segmentEvaluationCount = new LongAdder();
+    private final LongAdder evaluationTimeInNanos = new LongAdder();
+    private final LongAdder stagedTupleCount = new LongAdder();
+    private final LongAdder propagatedTupleCount = new LongAdder();
+
+    public RuleNetworkStats(long nodeId, String rules) {
+        this.nodeId = nodeId;
+        this.rules = rules;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public String getRules() {
+        return rules;
+    }
+
+    public void segmentLinked() {
+        segmentLinkCount.increment();
+    }
+
+    public void segmentUnlinked() {
+        segmentUnlinkCount.increment();
+    }
+
+    public void ruleLinked() {
+        ruleLinkCount.increment();
+    }
+
+    public void ruleUnlinked(long linkedTime) {
+        ruleUnlinkCount.increment();
+        linkedTimeInNanos.add(linkedTime);
+    }
+
+    public void networkEvaluated(int evaluatedSegments, int stagedTuples, long elapsedTime) {
+        evaluationCount.increment();
+        segmentEvaluationCount.add(evaluatedSegments);
+        stagedTupleCount.add(stagedTuples);
+        evaluationTimeInNanos.add(elapsedTime);
+    }
+
+    public void tuplesPropagated(int propagatedTuples) {
+        propagatedTupleCount.add(propagatedTuples);
+    }
+
+    public long getSegmentLinkCount() {
+        return segmentLinkCount.sum();
+    }
+
+    public long getSegmentUnlinkCount() {
+        return segmentUnlinkCount.sum();
+    }
+
+    public long getRuleLinkCount() {
+        return ruleLinkCount.sum();
+    }
+
+    public long getRuleUnlinkCount() {
+        return ruleUnlinkCount.sum();
+    }
+
+    /**
+     * The time the rule stayed linked, only accounting for the periods already ended by an unlink.
+     */
+    public long getLinkedTimeInNanos() {
+        return linkedTimeInNanos.sum();
+    }
+
+    public long getEvaluationCount() {
+        return evaluationCount.sum();
+    }
+
+    public long getSegmentEvaluationCount() {
+        return segmentEvaluationCount.sum();
+    }
+
+    public long getEvaluationTimeInNanos() {
+        return evaluationTimeInNanos.sum();
+    }
+
+    public long getStagedTupleCount() {
+        return stagedTupleCount.sum();
+    }
+
+    public long getPropagatedTupleCount() {
+        return propagatedTupleCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "RuleNetworkStats [nodeId=" + nodeId + ", rules=" + rules +
+                ", segmentLinkCount=" + getSegmentLinkCount() + ", segmentUnlinkCount=" + getSegmentUnlinkCount() +
+                ", ruleLinkCount=" + getRuleLinkCount() + ", ruleUnlinkCount=" + getRuleUnlinkCount() +
+                ", linkedTimeInNanos=" + getLinkedTimeInNanos() + ", evaluationCount=" + getEvaluationCount() +
+                ", segmentEvaluationCount=" + getSegmentEvaluationCount() + ", evaluationTimeInNanos=" + getEvaluationTimeInNanos() +
+                ", stagedTupleCount=" + getStagedTupleCount() + ", propagatedTupleCount=" + getPropagatedTupleCount() + "]";
+    }
+}
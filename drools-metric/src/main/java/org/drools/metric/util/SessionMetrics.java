@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.metric.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.time.TimerService;
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.AgendaEventListener;
+import org.kie.api.event.rule.DefaultAgendaEventListener;
+import org.kie.api.event.rule.MatchCancelledEvent;
+import org.kie.api.event.rule.MatchCreatedEvent;
+import org.kie.api.event.rule.ObjectDeletedEvent;
+import org.kie.api.event.rule.ObjectInsertedEvent;
+import org.kie.api.event.rule.ObjectUpdatedEvent;
+import org.kie.api.event.rule.RuleRuntimeEventListener;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.event.rule.RuleEventListener;
+
+/**
+ * Session level meters: facts inserted, updated and deleted per entry point, fireAllRules duration, matches
+ * created, cancelled and fired per rule, agenda size and timer queue depth. All the meters are created once
+ * and then only incremented, so they can be left bound to production sessions.
+ * The agenda size is tracked as the matches created and neither cancelled nor fired yet, so that it can be
+ * read from the thread publishing the meters without touching the agenda. Close it to unbind the session.
+ */
+public class SessionMetrics implements RuleRuntimeEventListener, RuleEventListener, AutoCloseable {
+
+    private final InternalWorkingMemory session;
+    private final MeterRegistry meterRegistry;
+    private final Iterable<Tag> tags;
+
+    private final List<Meter> meters = new CopyOnWriteArrayList<>();
+
+    private final Map<String, Counter> insertCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> updateCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> deleteCounters = new ConcurrentHashMap<>();
+
+    private final Map<Rule, Counter> createdCounters = new ConcurrentHashMap<>();
+    private final Map<Rule, Counter> cancelledCounters = new ConcurrentHashMap<>();
+    private final Map<Rule, Counter> firedCounters = new ConcurrentHashMap<>();
+
+    private final LongAdder agendaSize = new LongAdder();
+    private final Timer fireAllRulesTimer;
+    private final AgendaEventListener agendaListener = new MatchListener();
+
+    // fireAllRules is never executed concurrently on the same session
+    private long fireAllRulesStart;
+
+    public SessionMetrics(KieSession ksession, MeterRegistry meterRegistry, Iterable<Tag> tags) {
+        this.session = (InternalWorkingMemory) ksession;
+        this.meterRegistry = meterRegistry;
+        this.tags = tags;
+
+        this.fireAllRulesTimer = register(Timer.builder("org.drools.metric.session.fire.all.rules.time")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        register(Gauge.builder("org.drools.metric.session.agenda.size", agendaSize, LongAdder::sum)
+                .tags(tags)
+                .register(meterRegistry));
+        register(Gauge.builder("org.drools.metric.session.timer.queue.size", session.getTimerService(), TimerService::getScheduledJobsCount)
+                .tags(tags)
+                .register(meterRegistry));
+
+        ksession.addEventListener(this);
+        ksession.addEventListener(agendaListener);
+        session.getRuleEventSupport().addEventListener(this);
+    }
+
+    private <M extends Meter> M register(M meter) {
+        meters.add(meter);
+        return meter;
+    }
+
+    private Counter factCounter(Map<String, Counter> cache, String name, FactHandle factHandle) {
+        String entryPoint = ((InternalFactHandle) factHandle).getEntryPointName();
+        return cache.computeIfAbsent(entryPoint == null ? "" : entryPoint, ep -> register(Counter.builder(name)
+                .tags(tags)
+                .tag("entry.point", ep)
+                .register(meterRegistry)));
+    }
+
+    private Counter matchCounter(Map<Rule, Counter> cache, String name, Rule rule) {
+        return cache.computeIfAbsent(rule, r -> register(Counter.builder(name)
+                .tags(tags)
+                .tag("rule", r.getPackageName() + "." + r.getName())
+                .register(meterRegistry)));
+    }
+
+    @Override
+    public void objectInserted(ObjectInsertedEvent event) {
+        factCounter(insertCounters, "org.drools.metric.session.fact.insert.count", event.getFactHandle()).increment();
+    }
+
+    @Override
+    public void objectUpdated(ObjectUpdatedEvent event) {
+        factCounter(updateCounters, "org.drools.metric.session.fact.update.count", event.getFactHandle()).increment();
+    }
+
+    @Override
+    public void objectDeleted(ObjectDeletedEvent event) {
+        factCounter(deleteCounters, "org.drools.metric.session.fact.delete.count", event.getFactHandle()).increment();
+    }
+
+    @Override
+    public void onBeforeFireAllRules() {
+        fireAllRulesStart = System.nanoTime();
+    }
+
+    @Override
+    public void onAfterFireAllRules(int firedMatches) {
+        fireAllRulesTimer.record(Duration.ofNanos(System.nanoTime() - fireAllRulesStart));
+    }
+
+    @Override
+    public void close() {
+        session.removeEventListener((RuleRuntimeEventListener) this);
+        session.removeEventListener(agendaListener);
+        session.getRuleEventSupport().removeEventListener(this);
+        meters.forEach(meterRegistry::remove);
+        meters.clear();
+    }
+
+    private class MatchListener extends DefaultAgendaEventListener {
+
+        @Override
+        public void matchCreated(MatchCreatedEvent event) {
+            agendaSize.increment();
+            matchCounter(createdCounters, "org.drools.metric.match.created.count", event.getMatch().getRule()).increment();
+        }
+
+        @Override
+        public void matchCancelled(MatchCancelledEvent event) {
+            agendaSize.decrement();
+            matchCounter(cancelledCounters, "org.drools.metric.match.cancelled.count", event.getMatch().getRule()).increment();
+        }
+
+        @Override
+        public void afterMatchFired(AfterMatchFiredEvent event) {
+            agendaSize.decrement();
+            matchCounter(firedCounters, "org.drools.metric.match.fired.count", event.getMatch().getRule()).increment();
+        }
+    }
+}
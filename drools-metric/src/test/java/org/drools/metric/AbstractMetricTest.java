@@ -23,6 +23,7 @@ import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.search.Search;
 import org.drools.metric.util.MetricLogUtils;
 import org.drools.metric.util.MicrometerUtils;
+import org.drools.metric.util.RuleNetworkMetrics;
 import org.drools.mvel.CommonTestMethodBase;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +36,7 @@ abstract class AbstractMetricTest extends CommonTestMethodBase {
     public void setup() {
         System.setProperty(MetricLogUtils.METRIC_LOGGER_ENABLED, "true");
         System.setProperty(MetricLogUtils.METRIC_LOGGER_THRESHOLD, "-1");
+        System.setProperty(RuleNetworkMetrics.METRIC_NETWORK_PROFILER_ENABLED, "true");
         this.registry = Metrics.globalRegistry;
     }
 
@@ -45,6 +47,7 @@ abstract class AbstractMetricTest extends CommonTestMethodBase {
                 .meters()
                 .forEach(registry::remove);
         MicrometerUtils.INSTANCE.clear();
+        RuleNetworkMetrics.getInstance().clear();
         registry = null;
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.metric;
+
+import java.util.Collection;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.search.Search;
+import org.drools.metric.util.RuleNetworkMetrics;
+import org.drools.metric.util.RuleNetworkStats;
+import org.drools.mvel.compiler.Address;
+import org.drools.mvel.compiler.Person;
+import org.junit.jupiter.api.Test;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RuleNetworkMetricsTest extends AbstractMetricTest {
+
+    @Test
+    public void testLinkUnlink() {
+        String str =
+                "import " + Address.class.getCanonicalName() + "\n" +
+                        "import " + Person.class.getCanonicalName() + "\n" +
+                        "rule R1\n" +
+                        "when\n" +
+                        "  $p : Person()\n" +
+                        "  $a : Address()\n" +
+                        "then\n" +
+                        "end\n";
+
+        KieBase kbase = loadKnowledgeBaseFromString(str);
+        KieSession ksession = kbase.newKieSession();
+
+        ksession.insert(new Person("John", 30));
+        FactHandle addressHandle = null;
+        for (int i = 0; i < 3; i++) {
+            addressHandle = ksession.insert(new Address("Street" + i));
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            ksession.delete(addressHandle);
+            ksession.fireAllRules();
+        }
+        ksession.dispose();
+
+        RuleNetworkStats stats = getStats("R1");
+        assertThat(stats.getRuleLinkCount()).isEqualTo(3);
+        assertThat(stats.getRuleUnlinkCount()).isEqualTo(3);
+        assertThat(stats.getSegmentLinkCount()).isEqualTo(3);
+        assertThat(stats.getSegmentUnlinkCount()).isEqualTo(3);
+        assertThat(stats.getLinkedTimeInNanos()).isPositive();
+        assertThat(stats.getEvaluationCount()).isGreaterThanOrEqualTo(3);
+        assertThat(stats.getStagedTupleCount()).isPositive();
+        assertThat(stats.getPropagatedTupleCount()).isGreaterThanOrEqualTo(3);
+
+        Collection<FunctionCounter> linkCounters = Search.in(registry)
+                .name("org.drools.metric.segment.link.count")
+                .tag("rule", "defaultpkg.R1")
+                .functionCounters();
+        assertThat(linkCounters).hasSize(1);
+        assertThat(linkCounters.iterator().next().count()).isEqualTo(3);
+
+        Collection<FunctionTimer> linkedTimers = Search.in(registry)
+                .name("org.drools.metric.rule.linked.time")
+                .tag("rule", "defaultpkg.R1")
+                .functionTimers();
+        assertThat(linkedTimers).hasSize(1);
+    }
+
+    @Test
+    public void testClearWhileSessionIsAlive() {
+        String str =
+                "import " + Address.class.getCanonicalName() + "\n" +
+                        "import " + Person.class.getCanonicalName() + "\n" +
+                        "rule R1\n" +
+                        "when\n" +
+                        "  $p : Person()\n" +
+                        "  $a : Address()\n" +
+                        "then\n" +
+                        "end\n";
+
+        KieBase kbase = loadKnowledgeBaseFromString(str);
+        KieSession ksession = kbase.newKieSession();
+
+        ksession.insert(new Person("John", 30));
+        FactHandle addressHandle = ksession.insert(new Address("Street"));
+        ksession.fireAllRules();
+        assertThat(getStats("R1").getRuleLinkCount()).isEqualTo(1);
+
+        // the stats cached on the path memory of the session must not survive the clear
+        RuleNetworkMetrics.getInstance().clear();
+        ksession.delete(addressHandle);
+        ksession.fireAllRules();
+        ksession.dispose();
+
+        RuleNetworkStats stats = getStats("R1");
+        assertThat(stats.getRuleLinkCount()).isZero();
+        assertThat(stats.getRuleUnlinkCount()).isEqualTo(1);
+    }
+
+    private RuleNetworkStats getStats(String ruleName) {
+        return RuleNetworkMetrics.getInstance().getAllStats().stream()
+                .filter(stats -> stats.getRules().endsWith("." + ruleName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No stats for rule " + ruleName));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.metric;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.drools.metric.util.SessionMetrics;
+import org.drools.mvel.compiler.Address;
+import org.drools.mvel.compiler.Person;
+import org.junit.jupiter.api.Test;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionMetricsTest extends AbstractMetricTest {
+
+    @Test
+    public void testSessionMetrics() {
+        String str =
+                "import " + Address.class.getCanonicalName() + "\n" +
+                        "import " + Person.class.getCanonicalName() + "\n" +
+                        "rule R1\n" +
+                        "when\n" +
+                        "  $p : Person(age > 18)\n" +
+                        "then\n" +
+                        "end\n" +
+                        "rule R2\n" +
+                        "when\n" +
+                        "  $a : Address() from entry-point \"addresses\"\n" +
+                        "then\n" +
+                        "end\n" +
+                        "rule Delayed\n" +
+                        "  timer (int: 1h)\n" +
+                        "when\n" +
+                        "  $a : Address() from entry-point \"addresses\"\n" +
+                        "then\n" +
+                        "end\n";
+
+        KieBase kbase = loadKnowledgeBaseFromString(str);
+        KieSession ksession = kbase.newKieSession();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        try (SessionMetrics metrics = new SessionMetrics(ksession, meterRegistry, Tags.of("session", "test"))) {
+            FactHandle adult = ksession.insert(new Person("Mario", 45));
+            ksession.insert(new Person("Sofia", 10));
+            FactHandle child = ksession.insert(new Person("Luca", 12));
+            ksession.getEntryPoint("addresses").insert(new Address("Street"));
+
+            ksession.update(child, new Person("Luca", 19));
+            ksession.delete(adult);
+            ksession.fireAllRules();
+
+            assertThat(meterRegistry.get("org.drools.metric.session.fact.insert.count").tag("entry.point", "DEFAULT").counter().count()).isEqualTo(3);
+            assertThat(meterRegistry.get("org.drools.metric.session.fact.insert.count").tag("entry.point", "addresses").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("org.drools.metric.session.fact.update.count").tag("entry.point", "DEFAULT").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("org.drools.metric.session.fact.delete.count").tag("entry.point", "DEFAULT").counter().count()).isEqualTo(1);
+
+            assertThat(meterRegistry.get("org.drools.metric.match.fired.count").tag("rule", "defaultpkg.R1").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("org.drools.metric.match.fired.count").tag("rule", "defaultpkg.R2").counter().count()).isEqualTo(1);
+
+            Timer fireAllRulesTimer = meterRegistry.get("org.drools.metric.session.fire.all.rules.time").timer();
+            assertThat(fireAllRulesTimer.count()).isEqualTo(1);
+
+            // the timed rule doesn't create its match before the timer expires
+            assertThat(meterRegistry.get("org.drools.metric.session.agenda.size").gauge().value()).isEqualTo(0);
+            assertThat(meterRegistry.get("org.drools.metric.session.timer.queue.size").gauge().value()).isEqualTo(1);
+
+            ksession.insert(new Person("Anna", 30));
+            ksession.insert(new Person("Paolo", 50));
+            assertThat(ksession.fireAllRules(1)).isEqualTo(1);
+            assertThat(meterRegistry.get("org.drools.metric.match.created.count").tag("rule", "defaultpkg.R1").counter().count()).isEqualTo(4);
+            assertThat(meterRegistry.get("org.drools.metric.session.agenda.size").gauge().value()).isEqualTo(1);
+            assertThat(fireAllRulesTimer.count()).isEqualTo(2);
+        } finally {
+            ksession.dispose();
+        }
+
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
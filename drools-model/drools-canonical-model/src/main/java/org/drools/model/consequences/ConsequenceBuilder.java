@@ -55,6 +55,7 @@ import org.drools.model.functions.Block7;
 import org.drools.model.functions.Block8;
 import org.drools.model.functions.Block9;
 import org.drools.model.functions.BlockN;
+import org.drools.model.functions.LazyBlock;
 import org.drools.model.functions.ScriptBlock;
 
 // Generated by ConsequenceGenerator, please do not change this file manually
@@ -104,6 +105,12 @@ public class ConsequenceBuilder {
             breaking = true;
             return (T) this;
         }
+
+        public T executeLazily(Class<?> ruleClass, String blockClassName, boolean usingDrools) {
+            this.usingDrools = usingDrools;
+            this.block = new LazyBlock(ruleClass, blockClassName);
+            return (T) this;
+        }
     }
 
     public static class _0 extends AbstractValidBuilder<_0> {
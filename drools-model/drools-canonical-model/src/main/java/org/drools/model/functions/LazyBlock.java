@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.model.functions;
+
+/**
+ * A consequence block referring to an externalized lambda class only by its name, so that the class is loaded
+ * and linked only when the consequence is executed for the first time.
+ * The externalized class name is computed from the hash of its content, so it is also used as fingerprint.
+ */
+public class LazyBlock extends IntrospectableLambda implements BlockN {
+
+    private final Class<?> ruleClass;
+    private final String blockClassName;
+
+    private transient volatile Object lambda;
+    private transient volatile BlockN block;
+
+    public LazyBlock(Class<?> ruleClass, String blockClassName) {
+        super(blockClassName);
+        this.ruleClass = ruleClass;
+        this.blockClassName = blockClassName;
+    }
+
+    @Override
+    public void execute(Object... objs) throws Exception {
+        getBlock().execute(objs);
+    }
+
+    @Override
+    public Object getLambda() {
+        getBlock();
+        return lambda;
+    }
+
+    public String getBlockClassName() {
+        return blockClassName;
+    }
+
+    public boolean isLoaded() {
+        return block != null;
+    }
+
+    private BlockN getBlock() {
+        BlockN result = block;
+        if (result == null) {
+            synchronized (this) {
+                result = block;
+                if (result == null) {
+                    result = loadBlock();
+                    block = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private BlockN loadBlock() {
+        try {
+            Class<?> blockClass = Class.forName(blockClassName, true, ruleClass.getClassLoader());
+            Object instance = blockClass.getField("INSTANCE").get(null);
+            BlockN blockN = instance instanceof BlockN ? (BlockN) instance : (BlockN) blockClass.getMethod("asBlockN").invoke(instance);
+            this.lambda = instance;
+            return blockN;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to load consequence " + blockClassName + " of " + ruleClass.getName(), e);
+        }
+    }
+}
@@ -94,6 +94,7 @@ public class DslMethodNames {
 
     // consequences
     public static final String EXECUTE_CALL = "execute";
+    public static final String EXECUTE_LAZILY_CALL = "executeLazily";
     public static final String ON_CALL = "on";
     public static final String UNIT_DATA_CALL = "unitData";
     public static final String WHEN_CALL = "when";
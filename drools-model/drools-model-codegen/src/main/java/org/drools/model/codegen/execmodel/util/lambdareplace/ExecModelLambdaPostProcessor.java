@@ -35,6 +35,8 @@ import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.body.VariableDeclarator;
 import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.ClassExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.LambdaExpr;
@@ -55,6 +57,7 @@ import org.drools.model.codegen.execmodel.generator.DrlxParseUtil;
 import org.drools.model.codegen.execmodel.generator.ModelGenerator;
 import org.drools.model.functions.PredicateInformation;
 import org.drools.mvel.parser.printer.PrintUtil;
+import org.kie.internal.builder.conf.LazyConsequenceLoadingOption;
 import org.kie.internal.builder.conf.ParallelLambdaExternalizationOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,9 +69,11 @@ import static org.drools.model.codegen.execmodel.generator.DslMethodNames.BIND_C
 import static org.drools.model.codegen.execmodel.generator.DslMethodNames.DSL_NAMESPACE;
 import static org.drools.model.codegen.execmodel.generator.DslMethodNames.EVAL_EXPR_CALL;
 import static org.drools.model.codegen.execmodel.generator.DslMethodNames.EXECUTE_CALL;
+import static org.drools.model.codegen.execmodel.generator.DslMethodNames.EXECUTE_LAZILY_CALL;
 import static org.drools.model.codegen.execmodel.generator.DslMethodNames.EXPR_CALL;
 import static org.drools.model.codegen.execmodel.generator.DslMethodNames.FROM_CALL;
 import static org.drools.model.codegen.execmodel.generator.DslMethodNames.NOT_CALL;
+import static org.drools.model.codegen.execmodel.generator.DslMethodNames.ON_CALL;
 import static org.drools.model.codegen.execmodel.generator.DslMethodNames.REACTIVE_FROM_CALL;
 import static org.drools.util.MethodUtils.boxTypePrimitive;
 import static org.drools.util.StreamUtils.optionalToStream;
@@ -86,6 +91,7 @@ public class ExecModelLambdaPostProcessor {
     private final Map<String, PredicateInformation> debugPredicateInformation;
     private final CompilationUnit cu;
     private final boolean isParallel;
+    private final boolean lazyConsequenceLoading;
 
     private final List<Runnable> toBeReplacedLambdas = Collections.synchronizedList(new ArrayList<>());
 
@@ -107,6 +113,7 @@ public class ExecModelLambdaPostProcessor {
         this.debugPredicateInformation = pkgModel.getAllConstraintsMap();
         this.cu = cu;
         this.isParallel = pkgModel.getConfiguration().getOption(ParallelLambdaExternalizationOption.KEY).isLambdaExternalizationParallel();
+        this.lazyConsequenceLoading = pkgModel.getConfiguration().getOption(LazyConsequenceLoadingOption.KEY).isConsequenceLoadingLazy();
     }
 
     public ExecModelLambdaPostProcessor(String packageName,
@@ -117,6 +124,18 @@ public class ExecModelLambdaPostProcessor {
                                         Map<String, PredicateInformation> debugPredicateInformation,
                                         CompilationUnit cu,
                                         boolean isParallel) {
+        this(packageName, ruleClassName, imports, staticImports, lambdaReturnTypes, debugPredicateInformation, cu, isParallel, false);
+    }
+
+    public ExecModelLambdaPostProcessor(String packageName,
+                                        String ruleClassName,
+                                        Collection<String> imports,
+                                        Collection<String> staticImports,
+                                        Map<LambdaExpr, java.lang.reflect.Type> lambdaReturnTypes,
+                                        Map<String, PredicateInformation> debugPredicateInformation,
+                                        CompilationUnit cu,
+                                        boolean isParallel,
+                                        boolean lazyConsequenceLoading) {
         this.lambdaClasses = new ConcurrentHashMap<>();
         this.packageName = packageName;
         this.ruleClassName = ruleClassName;
@@ -126,6 +145,7 @@ public class ExecModelLambdaPostProcessor {
         this.debugPredicateInformation = debugPredicateInformation;
         this.cu = cu;
         this.isParallel = isParallel;
+        this.lazyConsequenceLoading = lazyConsequenceLoading;
     }
 
     public void convertLambdas() {
@@ -181,7 +201,11 @@ public class ExecModelLambdaPostProcessor {
         createStream(executeMethods)
                 .forEach(methodCallExpr -> {
                     List<MaterializedLambda.BitMaskVariable> bitMaskVariables = findBitMaskFields(methodCallExpr);
-                    extractLambdaFromMethodCall(methodCallExpr, (a) -> new MaterializedLambdaConsequence(packageName, ruleClassName, bitMaskVariables));
+                    if (lazyConsequenceLoading && isLazilyExecutable(methodCallExpr)) {
+                        convertToLazyExecuteCall(methodCallExpr, new MaterializedLambdaConsequence(packageName, ruleClassName, bitMaskVariables));
+                    } else {
+                        extractLambdaFromMethodCall(methodCallExpr, (a) -> new MaterializedLambdaConsequence(packageName, ruleClassName, bitMaskVariables));
+                    }
                 });
 
         toBeReplacedLambdas.forEach(Runnable::run);
@@ -239,6 +263,39 @@ public class ExecModelLambdaPostProcessor {
         return ancestor.isEmpty() && EXECUTE_CALL.equals(mc.getNameAsString());
     }
 
+    private boolean isLazilyExecutable(MethodCallExpr mc) {
+        if (mc.getArguments().size() != 1 || !mc.getArgument(0).isLambdaExpr()) {
+            return false;
+        }
+        // only the builders returned by D.on(...) can execute a lazy consequence
+        Optional<Expression> scope = mc.getScope();
+        while (scope.isPresent() && scope.get().isMethodCallExpr()) {
+            MethodCallExpr scopeCall = scope.get().asMethodCallExpr();
+            if (ON_CALL.equals(scopeCall.getNameAsString())) {
+                return true;
+            }
+            scope = scopeCall.getScope();
+        }
+        return false;
+    }
+
+    private void convertToLazyExecuteCall(MethodCallExpr methodCallExpr, MaterializedLambdaConsequence materializedLambda) {
+        try {
+            CreatedClass aClass = materializedLambda.create(methodCallExpr.getArgument(0).asLambdaExpr().clone(), imports, staticImports);
+            lambdaClasses.put(aClass.getClassNameWithPackage(), aClass);
+            NodeList<Expression> lazyArguments = NodeList.nodeList(
+                    new ClassExpr(toClassOrInterfaceType(ruleClassName)),
+                    new StringLiteralExpr(aClass.getClassNameWithPackage()),
+                    new BooleanLiteralExpr(materializedLambda.isUsingDrools()));
+            toBeReplacedLambdas.add( () -> {
+                methodCallExpr.setName(EXECUTE_LAZILY_CALL);
+                methodCallExpr.setArguments(lazyArguments);
+            });
+        } catch (DoNotConvertLambdaException e) {
+            logger.debug("Cannot externalize lambdas {}", e.getMessage());
+        }
+    }
+
     private void convertIndexedByCall(MethodCallExpr methodCallExpr) {
         NodeList<Expression> arguments = methodCallExpr.getArguments();
         Expression firstArgument = arguments.get(0);
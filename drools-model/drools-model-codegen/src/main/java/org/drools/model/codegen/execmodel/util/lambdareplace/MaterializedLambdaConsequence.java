@@ -71,13 +71,16 @@ public class MaterializedLambdaConsequence extends MaterializedLambda {
     protected EnumDeclaration create(CompilationUnit compilationUnit) {
         EnumDeclaration lambdaClass = super.create(compilationUnit);
 
-        boolean hasDroolsParameter = lambdaParameters.stream().anyMatch(this::isDroolsParameter);
-        if (hasDroolsParameter) {
+        if (isUsingDrools()) {
             bitMaskVariables.forEach(vd -> vd.generateBitMaskField(lambdaClass));
         }
         return lambdaClass;
     }
 
+    boolean isUsingDrools() {
+        return lambdaParameters.stream().anyMatch(this::isDroolsParameter);
+    }
+
     private boolean isDroolsParameter(LambdaParameter p) {
         String anObject = p.type.asString();
         return "org.drools.model.Drools".equals(anObject) || "Drools".equals(anObject);
@@ -70,6 +70,12 @@ public class ConsequenceBuilder {
             breaking = true;
             return (T) this;
         }
+
+        public T executeLazily(Class<?> ruleClass, String blockClassName, boolean usingDrools) {
+            this.usingDrools = usingDrools;
+            this.block = new LazyBlock(ruleClass, blockClassName);
+            return (T) this;
+        }
     }
 
     public static class _0 extends AbstractValidBuilder<_0> {
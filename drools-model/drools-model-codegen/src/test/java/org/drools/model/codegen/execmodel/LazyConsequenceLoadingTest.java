@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.model.codegen.execmodel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.base.definitions.rule.impl.RuleImpl;
+import org.drools.model.codegen.execmodel.domain.Person;
+import org.drools.model.functions.BlockN;
+import org.drools.model.functions.LazyBlock;
+import org.drools.modelcompiler.consequence.LambdaConsequence;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.conf.LazyConsequenceLoadingOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyConsequenceLoadingTest extends BaseModelTest {
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    public void testConsequencesAreLoadedOnFirstFiring(RUN_TYPE runType) {
+        String str =
+                "package org.drools.lazy;\n" +
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule Adult when\n" +
+                "    $p : Person( age >= 18 )\n" +
+                "then\n" +
+                "    list.add($p.getName());\n" +
+                "end\n" +
+                "rule Birthday when\n" +
+                "    $p : Person( name == \"Mario\", age == 17 )\n" +
+                "then\n" +
+                "    modify($p) { setAge(18) };\n" +
+                "end\n" +
+                "rule Never when\n" +
+                "    $p : Person( age < 0 )\n" +
+                "then\n" +
+                "    list.add(\"never\");\n" +
+                "end\n";
+
+        KieServices ks = KieServices.get();
+        KieModuleModel model = getDefaultKieModuleModel(ks);
+        model.setConfigurationProperty(LazyConsequenceLoadingOption.PROPERTY_NAME, "true");
+
+        KieSession ksession = getKieSession(runType, model, str);
+        KieBase kbase = ksession.getKieBase();
+
+        if (runType.isExecutableModel()) {
+            assertThat(blockOf(kbase, "Adult")).isInstanceOf(LazyBlock.class);
+            assertThat(isLoaded(kbase, "Adult")).isFalse();
+            assertThat(isLoaded(kbase, "Birthday")).isFalse();
+            assertThat(isLoaded(kbase, "Never")).isFalse();
+        }
+
+        List<String> list = new ArrayList<>();
+        ksession.setGlobal("list", list);
+        ksession.insert(new Person("Mario", 17));
+        ksession.insert(new Person("Mark", 40));
+        assertThat(ksession.fireAllRules()).isEqualTo(3);
+        assertThat(list).containsExactlyInAnyOrder("Mario", "Mark");
+
+        if (runType.isExecutableModel()) {
+            assertThat(isLoaded(kbase, "Adult")).isTrue();
+            assertThat(isLoaded(kbase, "Birthday")).isTrue();
+            assertThat(isLoaded(kbase, "Never")).isFalse();
+        }
+    }
+
+    private BlockN blockOf(KieBase kbase, String ruleName) {
+        RuleImpl rule = (RuleImpl) kbase.getRule("org.drools.lazy", ruleName);
+        return ((LambdaConsequence) rule.getConsequence()).getModelConsequence().getBlock();
+    }
+
+    private boolean isLoaded(KieBase kbase, String ruleName) {
+        return ((LazyBlock) blockOf(kbase, ruleName)).isLoaded();
+    }
+}
@@ -62,6 +62,10 @@ public class LambdaConsequence implements Consequence<KnowledgeHelper> {
         return RuleImpl.DEFAULT_CONSEQUENCE_NAME;
     }
 
+    public org.drools.model.Consequence getModelConsequence() {
+        return consequence;
+    }
+
     @Override
     public void evaluate(KnowledgeHelper knowledgeHelper, ValueResolver valueResolver) throws Exception {
         if ( this.requiredDeclarations == null ) {
@@ -40,6 +40,7 @@ import org.drools.compiler.rule.builder.dialect.java.parser.JavaLocalDeclaration
 import org.drools.compiler.rule.builder.util.AccumulateUtil;
 import org.drools.compiler.rule.builder.util.PackageBuilderUtil;
 import org.drools.core.base.accumulators.JavaAccumulatorFunctionExecutor;
+import org.drools.core.base.accumulators.PrimitiveAccumulateFunction;
 import org.drools.base.base.extractors.ArrayElementReader;
 import org.drools.base.base.extractors.SelfReferenceClassFieldReader;
 import org.drools.base.reteoo.SortDeclarations;
@@ -316,6 +317,9 @@ public class JavaAccumulateBuilder
                  readLocalsFromTuple ? Boolean.TRUE : Boolean.FALSE );
 
         JavaAccumulatorFunctionExecutor accumulator = new JavaAccumulatorFunctionExecutor( function );
+        if ( !readLocalsFromTuple && fc.getParams().length == 1 ) {
+            accumulator.setPrimitiveDeclarationIndex( findPrimitiveDeclaration( sourceDeclArr, fc.getParams()[0].trim(), function ) );
+        }
 
         generateTemplates("returnValueMethod",
                 "returnValueInvoker",
@@ -327,6 +331,22 @@ public class JavaAccumulateBuilder
         return accumulator;
     }
 
+    private static int findPrimitiveDeclaration( Declaration[] sourceDeclArr, String expression, AccumulateFunction function ) {
+        if ( !(function instanceof PrimitiveAccumulateFunction) ) {
+            return -1;
+        }
+        // the index is the same of the inner declarations passed to the accumulator at runtime, since both are sorted in the same way
+        for ( int i = 0; i < sourceDeclArr.length; i++ ) {
+            if ( sourceDeclArr[i].getIdentifier().equals( expression ) ) {
+                Class<?> type = sourceDeclArr[i].getDeclarationClass();
+                // a binding of another type goes through the expression, failing or converting it as the function does
+                boolean primitive = type == int.class || type == long.class || type == double.class;
+                return primitive && ((PrimitiveAccumulateFunction<?>) function).supportsPrimitive( type ) ? i : -1;
+            }
+        }
+        return -1;
+    }
+
     private Accumulate buildInlineAccumulate( final RuleBuildContext context,
                                               final AccumulateDescr accumDescr,
                                               final RuleConditionElement source,
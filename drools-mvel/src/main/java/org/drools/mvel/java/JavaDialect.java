@@ -98,6 +98,7 @@ import org.drools.base.rule.LineMappings;
 import org.drools.base.definitions.rule.impl.QueryImpl;
 import org.drools.base.rule.accessor.Wireable;
 import org.drools.util.IoUtils;
+import org.drools.util.PortablePath;
 import org.drools.util.StringUtils;
 import org.drools.mvel.asm.ASMConsequenceStubBuilder;
 import org.drools.mvel.asm.ASMEvalStubBuilder;
@@ -111,6 +112,7 @@ import org.kie.memorycompiler.CompilationResult;
 import org.kie.memorycompiler.JavaCompiler;
 import org.kie.memorycompiler.JavaCompilerFactory;
 import org.kie.memorycompiler.resources.MemoryResourceReader;
+import org.kie.memorycompiler.resources.ResourceStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -168,6 +170,8 @@ public class JavaDialect implements Dialect {
 
     private final PackageRegistry packageRegistry;
 
+    private final PersistentCompilationCache persistentCompilationCache;
+
     public JavaDialect(ClassLoader rootClassLoader,
                        KnowledgeBuilderConfigurationImpl pkgConf,
                        PackageRegistry pkgRegistry,
@@ -199,6 +203,9 @@ public class JavaDialect implements Dialect {
 
         this.packageStoreWrapper = new PackageStore(data, this.results);
 
+        File compilationCacheDir = pkgConf.getCompilationCacheDir();
+        this.persistentCompilationCache = compilationCacheDir != null ? new PersistentCompilationCache(compilationCacheDir) : null;
+
         loadCompiler();
     }
 
@@ -406,6 +413,16 @@ public class JavaDialect implements Dialect {
             this.errorHandlers.clear();
             return;
         }
+
+        String cacheKey = null;
+        if (this.persistentCompilationCache != null) {
+            cacheKey = loadFromPersistentCache();
+            if (this.generatedClassList.isEmpty()) {
+                this.errorHandlers.clear();
+                return;
+            }
+        }
+
         final String[] classes = new String[this.generatedClassList.size()];
         this.generatedClassList.toArray(classes);
 
@@ -415,9 +432,10 @@ public class JavaDialect implements Dialect {
                           dumpDir);
         }
 
+        final CachingResourceStore cachingStore = cacheKey != null ? new CachingResourceStore(this.packageStoreWrapper) : null;
         final CompilationResult result = this.compiler.compile(classes,
                                                                this.src,
-                                                               this.packageStoreWrapper,
+                                                               cachingStore != null ? cachingStore : this.packageStoreWrapper,
                                                                rootClassLoader);
 
 
@@ -436,6 +454,8 @@ public class JavaDialect implements Dialect {
                     this.results.add(handler.getError());
                 }
             }
+        } else if (cachingStore != null) {
+            storeInPersistentCache(cacheKey, cachingStore.written);
         }
 
         // We've compiled everthing, so clear it for the next set of additions
@@ -443,6 +463,75 @@ public class JavaDialect implements Dialect {
         this.errorHandlers.clear();
     }
 
+    /**
+     * Writes in the package store the classes compiled by a former build from the same generated sources,
+     * clearing the ones to be compiled, or returns the cache key under which they have to be stored once compiled.
+     */
+    private String loadFromPersistentCache() {
+        JavaDialectRuntimeData data = (JavaDialectRuntimeData) this.pkg.getDialectRuntimeRegistry().getDialectData(ID);
+        Map<String, byte[]> sources = new HashMap<>();
+        synchronized (this.generatedClassList) {
+            for (String fileName : this.generatedClassList) {
+                sources.put(fileName, this.src.getBytes(PortablePath.of(fileName)));
+            }
+        }
+        String key = this.persistentCompilationCache.key(this.configuration, this.rootClassLoader, data.getStore(), sources);
+        List<CompilationCacheEntry> entries = this.persistentCompilationCache.get(key);
+        if (entries == null) {
+            return key;
+        }
+        for (CompilationCacheEntry entry : entries) {
+            this.packageStoreWrapper.write(entry.className, entry.bytecode);
+        }
+        this.generatedClassList.clear();
+        return null;
+    }
+
+    private void storeInPersistentCache(String cacheKey, Map<String, byte[]> compiledClasses) {
+        List<CompilationCacheEntry> entries = new ArrayList<>(compiledClasses.size());
+        for (Map.Entry<String, byte[]> compiled : compiledClasses.entrySet()) {
+            entries.add(new CompilationCacheEntry(compiled.getKey(), compiled.getValue()));
+        }
+        this.persistentCompilationCache.put(cacheKey, entries);
+    }
+
+    /**
+     * Forwards the compiled classes to the package store keeping track of them, so they can be persisted in the
+     * compilation cache once the compilation succeeds.
+     */
+    private static class CachingResourceStore implements ResourceStore {
+
+        private final ResourceStore delegate;
+        private final Map<String, byte[]> written = new HashMap<>();
+
+        private CachingResourceStore(ResourceStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(PortablePath resourcePath, byte[] pResourceData) {
+            written.put(resourcePath.asString(), pResourceData);
+            delegate.write(resourcePath, pResourceData);
+        }
+
+        @Override
+        public void write(PortablePath resourcePath, byte[] pResourceData, boolean createFolder) {
+            written.put(resourcePath.asString(), pResourceData);
+            delegate.write(resourcePath, pResourceData, createFolder);
+        }
+
+        @Override
+        public byte[] read(PortablePath resourcePath) {
+            return delegate.read(resourcePath);
+        }
+
+        @Override
+        public void remove(PortablePath resourcePath) {
+            written.remove(resourcePath.asString());
+            delegate.remove(resourcePath);
+        }
+    }
+
     /**
      * @param classes
      * @param dumpDir
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.java;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+import org.drools.base.util.Drools;
+import org.drools.compiler.kie.builder.impl.InternalKieModule.CompilationCacheEntry;
+import org.drools.wiring.api.classloader.ProjectClassLoader;
+import org.kie.memorycompiler.JavaConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A content addressed, on disk cache of the bytecode compiled from the java sources generated for the rules.
+ * Each entry holds all the classes compiled by a single javac invocation and is keyed by the SHA-256 of
+ * everything that can change their compilation: all the sources compiled together, the classes already defined
+ * in the package and in the project class loader (declared types and the java classes of the kjar), the drools
+ * version, the compiler and language level in use and a fingerprint of the classpath, made of the path, size
+ * and last modification time of each of its jars and class files. Keying the whole batch as a unit guarantees
+ * that a source is never reused against a changed signature of a class compiled together with it, like a
+ * function of the same package.
+ *
+ * Entries are written to a temporary file and then moved in place, so the same directory can be shared by
+ * concurrent builds, also running in different JVMs.
+ */
+public class PersistentCompilationCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistentCompilationCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+
+    // a class loader sees the same classpath for its whole life, so its fingerprint is computed once and shared by
+    // the caches of all the packages, instead of walking again the classpath for each of them
+    private static final Map<ClassLoader, String> CLASSPATH_FINGERPRINTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final File directory;
+
+    public PersistentCompilationCache(File directory) {
+        this.directory = directory;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the key of the classes compiled from the given sources, with the given configuration and against
+     * the given class loader, when the package already contains the given classes.
+     */
+    public String key(JavaConfiguration configuration, ClassLoader classLoader, Map<String, byte[]> packageClasses, Map<String, byte[]> sources) {
+        MessageDigest digest = newDigest();
+        update(digest, Drools.getFullVersion());
+        update(digest, String.valueOf(configuration.getCompiler()));
+        update(digest, configuration.getJavaLanguageLevel());
+        update(digest, classpathFingerprint(classLoader));
+        if (classLoader instanceof ProjectClassLoader) {
+            update(digest, ((ProjectClassLoader) classLoader).getStore());
+        }
+        update(digest, packageClasses);
+        update(digest, sources);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Returns the classes compiled from the source with the given key, or null if they are not in the cache.
+     */
+    public List<CompilationCacheEntry> get(String key) {
+        File file = fileOf(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int size = in.readInt();
+            List<CompilationCacheEntry> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String className = in.readUTF();
+                byte[] bytecode = new byte[in.readInt()];
+                in.readFully(bytecode);
+                entries.add(new CompilationCacheEntry(className, bytecode));
+            }
+            return entries;
+        } catch (IOException e) {
+            LOG.warn("Unable to read compilation cache entry " + file + ", it will be compiled again", e);
+            return null;
+        }
+    }
+
+    public void put(String key, List<CompilationCacheEntry> entries) {
+        File file = fileOf(key);
+        Path tmp = null;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(entries.size());
+                for (CompilationCacheEntry entry : entries) {
+                    out.writeUTF(entry.className);
+                    out.writeInt(entry.bytecode.length);
+                    out.write(entry.bytecode);
+                }
+            }
+            file.getParentFile().mkdirs();
+            tmp = Files.createTempFile(file.getParentFile().toPath(), key, ".tmp");
+            Files.write(tmp, bytes.toByteArray());
+            try {
+                Files.move(tmp, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to write compilation cache entry " + file, e);
+            if (tmp != null) {
+                tmp.toFile().delete();
+            }
+        }
+    }
+
+    private static String classpathFingerprint(ClassLoader classLoader) {
+        return CLASSPATH_FINGERPRINTS.computeIfAbsent(classLoader, PersistentCompilationCache::computeClasspathFingerprint);
+    }
+
+    private static String computeClasspathFingerprint(ClassLoader classLoader) {
+        MessageDigest digest = newDigest();
+        for (String entry : classpathOf(classLoader)) {
+            update(digest, entry);
+            File file = new File(entry);
+            if (file.isDirectory()) {
+                try (Stream<Path> files = Files.walk(file.toPath())) {
+                    files.filter(Files::isRegularFile).sorted().forEach(f -> update(digest, f.toFile()));
+                } catch (IOException | UncheckedIOException e) {
+                    // an unreadable classpath directory can't be fingerprinted, so it won't match any entry
+                    update(digest, String.valueOf(System.nanoTime()));
+                }
+            } else {
+                update(digest, file);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static Set<String> classpathOf(ClassLoader classLoader) {
+        Set<String> classpath = new LinkedHashSet<>();
+        for (ClassLoader cl = classLoader; cl != null; cl = cl.getParent()) {
+            if (cl instanceof URLClassLoader) {
+                for (URL url : ((URLClassLoader) cl).getURLs()) {
+                    if ("file".equals(url.getProtocol())) {
+                        try {
+                            classpath.add(new File(url.toURI()).getAbsolutePath());
+                        } catch (URISyntaxException | IllegalArgumentException e) {
+                            classpath.add(url.toString());
+                        }
+                    } else {
+                        classpath.add(url.toString());
+                    }
+                }
+            }
+        }
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                classpath.add(new File(entry).getAbsolutePath());
+            }
+        }
+        return classpath;
+    }
+
+    private File fileOf(String key) {
+        return new File(new File(directory, key.substring(0, 2)), key);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, File file) {
+        update(digest, file.getPath());
+        update(digest, file.length() + ":" + file.lastModified());
+    }
+
+    private static void update(MessageDigest digest, Map<String, byte[]> classes) {
+        if (classes != null) {
+            for (Map.Entry<String, byte[]> entry : new TreeMap<>(classes).entrySet()) {
+                update(digest, entry.getKey());
+                digest.update(entry.getValue());
+            }
+        }
+        digest.update((byte) 0);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
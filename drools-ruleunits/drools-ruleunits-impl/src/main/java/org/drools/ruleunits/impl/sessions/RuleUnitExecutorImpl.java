@@ -283,7 +283,10 @@ public class RuleUnitExecutorImpl implements ReteEvaluator {
     public int fireAllRules(final AgendaFilter agendaFilter, int fireLimit) {
         try {
             startOperation(InternalOperationType.FIRE);
-            return this.activationsManager.fireAllRules( agendaFilter, fireLimit );
+            ruleEventListenerSupport.onBeforeFireAllRules();
+            int fireCount = this.activationsManager.fireAllRules( agendaFilter, fireLimit );
+            ruleEventListenerSupport.onAfterFireAllRules( fireCount );
+            return fireCount;
         } finally {
             endOperation(InternalOperationType.FIRE);
         }
@@ -41,6 +41,7 @@ import org.drools.core.common.QueryElementFactHandle;
 import org.drools.core.common.RuleFlowGroup;
 import org.drools.core.common.TruthMaintenanceSystem;
 import org.drools.core.common.TruthMaintenanceSystemFactory;
+import org.drools.core.impl.WorkingMemoryReteExpireAction;
 import org.drools.core.marshalling.MarshallerWriteContext;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.RuleAgendaItem;
@@ -73,6 +74,7 @@ import org.drools.serialization.protobuf.iterators.ActivationIterator;
 import org.drools.serialization.protobuf.iterators.LeftTupleIterator;
 import org.drools.serialization.protobuf.marshalling.ProcessMarshaller;
 import org.drools.serialization.protobuf.marshalling.ProcessMarshallerFactory;
+import org.drools.serialization.protobuf.timers.ExpireJobContextTimerOutputMarshaller;
 import org.drools.tms.LogicalDependency;
 import org.drools.tms.TruthMaintenanceSystemEqualityKey;
 import org.drools.tms.agenda.TruthMaintenanceSystemInternalMatch;
@@ -758,6 +760,11 @@ public class ProtobufOutputMarshaller {
                 if ( jctx instanceof SelfRemovalJobContext ) {
                     jctx = ((SelfRemovalJobContext) jctx).getJobContext();
                 }
+                if (jctx instanceof ObjectTypeNode.ExpireBatchJobContext) {
+                    // a batch is written as the single expire timers of its events, so that it can be read back as before
+                    writeExpireBatch( (ObjectTypeNode.ExpireBatchJobContext) jctx, _timers );
+                    continue;
+                }
                 if (jctx instanceof ObjectTypeNode.ExpireJobContext &&
                     !((ObjectTypeNode.ExpireJobContext) jctx).getExpireAction().getFactHandle().isValid()) {                    
                     continue;
@@ -773,6 +780,14 @@ public class ProtobufOutputMarshaller {
         return null;
     }
 
+    private static void writeExpireBatch(ObjectTypeNode.ExpireBatchJobContext expireBatch, ProtobufMessages.Timers.Builder _timers) {
+        for ( WorkingMemoryReteExpireAction expireAction : expireBatch.getPendingExpireActions() ) {
+            if ( expireAction.getFactHandle().isValid() ) {
+                _timers.addTimer( ExpireJobContextTimerOutputMarshaller.serializeExpireTimer( expireAction.getFactHandle().getId(), expireBatch.getTimestamp() ) );
+            }
+        }
+    }
+
     public static ProtobufMessages.Trigger writeTrigger(Trigger trigger, MarshallerWriteContext outCtx) {
         if ( trigger instanceof CronTrigger ) {
             CronTrigger cronTrigger = (CronTrigger) trigger;
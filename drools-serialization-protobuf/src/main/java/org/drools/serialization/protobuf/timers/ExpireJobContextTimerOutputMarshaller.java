@@ -58,16 +58,20 @@ public class ExpireJobContextTimerOutputMarshaller
         PointInTimeTrigger trigger = (PointInTimeTrigger) jobHandle.getTimerJobInstance().getTrigger();
         Date nextFireTime = trigger.hasNextFireTime();
         if (nextFireTime != null) {
-            return ProtobufMessages.Timers.Timer.newBuilder()
-                    .setType(ProtobufMessages.Timers.TimerType.EXPIRE)
-                    .setExpire(ProtobufMessages.Timers.ExpireTimer.newBuilder()
-                            .setHandleId(expireAction.getFactHandle().getId())
-                            .setNextFireTimestamp(nextFireTime.getTime())
-                            .build())
-                    .build();
+            return serializeExpireTimer(expireAction.getFactHandle().getId(), nextFireTime.getTime());
         } else {
             // There is no reason to serialize a timer when it has no future execution time.
             return null;
         }
     }
-}
\ No newline at end of file
+
+    public static ProtobufMessages.Timers.Timer serializeExpireTimer(long handleId, long nextFireTimestamp) {
+        return ProtobufMessages.Timers.Timer.newBuilder()
+                .setType(ProtobufMessages.Timers.TimerType.EXPIRE)
+                .setExpire(ProtobufMessages.Timers.ExpireTimer.newBuilder()
+                        .setHandleId(handleId)
+                        .setNextFireTimestamp(nextFireTimestamp)
+                        .build())
+                .build();
+    }
+}
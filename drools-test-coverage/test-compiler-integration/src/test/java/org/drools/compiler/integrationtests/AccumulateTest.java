@@ -35,7 +35,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.drools.compiler.integrationtests.incrementalcompilation.TestUtil;
+import org.drools.base.definitions.rule.impl.RuleImpl;
+import org.drools.base.rule.Accumulate;
+import org.drools.base.rule.Pattern;
+import org.drools.base.rule.accessor.Accumulator;
 import org.drools.core.RuleSessionConfiguration;
+import org.drools.core.base.accumulators.JavaAccumulatorFunctionExecutor;
 import org.drools.commands.runtime.rule.InsertElementsCommand;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.mvel.compiler.Primitives;
@@ -4240,4 +4245,139 @@ public class AccumulateTest {
             ksession.dispose();
         }
     }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    void testAccumulatePrimitiveFields(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl =
+                "import " + Primitives.class.getCanonicalName() + ";\n" +
+                        "global java.util.List results;\n" +
+                        "rule R1 when\n" +
+                        "    accumulate(Primitives($i : intPrimitive, $l : longPrimitive, $d : doublePrimitive),\n" +
+                        "               $sumI : sum($i), $sumL : sum($l), $sumD : sum($d), $avg : average($i), $count : count($d))\n" +
+                        "then\n" +
+                        "    results.add(java.util.Arrays.asList($sumI, $sumL, $sumD, $avg, $count));\n" +
+                        "end";
+
+        final KieBase kieBase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("accumulate-test", kieBaseTestConfiguration, drl);
+        if (!kieBaseTestConfiguration.isExecutableModel()) {
+            final RuleImpl rule = (RuleImpl) kieBase.getRule("defaultpkg", "R1");
+            final Accumulate accumulate = (Accumulate) ((Pattern) rule.getLhs().getChildren().get(0)).getSource();
+            for (Accumulator accumulator : accumulate.getAccumulators()) {
+                assertThat(((JavaAccumulatorFunctionExecutor) accumulator).getPrimitiveDeclarationIndex()).isNotNegative();
+            }
+        }
+
+        final KieSession kieSession = kieBase.newKieSession();
+        try {
+            final List<List<Object>> results = new ArrayList<>();
+            kieSession.setGlobal("results", results);
+
+            final Primitives p1 = new Primitives();
+            p1.setIntPrimitive(3);
+            p1.setLongPrimitive(10L);
+            p1.setDoublePrimitive(1.5);
+            final Primitives p2 = new Primitives();
+            p2.setIntPrimitive(5);
+            p2.setLongPrimitive(20L);
+            p2.setDoublePrimitive(2.5);
+
+            kieSession.insert(p1);
+            final FactHandle fh2 = kieSession.insert(p2);
+            kieSession.fireAllRules();
+            assertThat(results.get(results.size() - 1)).containsExactly(8, 30L, 4.0, 4.0, 2L);
+
+            p2.setIntPrimitive(7);
+            p2.setLongPrimitive(40L);
+            p2.setDoublePrimitive(4.5);
+            kieSession.update(fh2, p2);
+            kieSession.fireAllRules();
+            assertThat(results.get(results.size() - 1)).containsExactly(10, 50L, 6.0, 5.0, 2L);
+
+            kieSession.delete(fh2);
+            kieSession.fireAllRules();
+            assertThat(results.get(results.size() - 1)).containsExactly(3, 10L, 1.5, 3.0, 1L);
+        } finally {
+            kieSession.dispose();
+        }
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    void testAccumulatePrimitiveFieldsOfWiderFunction(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl =
+                "import " + Primitives.class.getCanonicalName() + ";\n" +
+                        "global java.util.List results;\n" +
+                        "rule R1 when\n" +
+                        "    accumulate(Primitives($i : intPrimitive, $l : longPrimitive),\n" +
+                        "               $sumL : sumL($i), $avg : average($l), $count : count($l))\n" +
+                        "then\n" +
+                        "    results.add(java.util.Arrays.asList($sumL, $avg, $count));\n" +
+                        "end";
+
+        if (kieBaseTestConfiguration.isExecutableModel()) {
+            // the executable model evaluates the boxed binding, that sumL can't cast to Long
+            return;
+        }
+        final KieBase kieBase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("accumulate-test", kieBaseTestConfiguration, drl);
+        final KieSession kieSession = kieBase.newKieSession();
+        try {
+            final List<List<Object>> results = new ArrayList<>();
+            kieSession.setGlobal("results", results);
+
+            final Primitives p1 = new Primitives();
+            p1.setIntPrimitive(3);
+            p1.setLongPrimitive(10L);
+            final Primitives p2 = new Primitives();
+            p2.setIntPrimitive(5);
+            p2.setLongPrimitive(20L);
+
+            kieSession.insert(p1);
+            final FactHandle fh2 = kieSession.insert(p2);
+            kieSession.fireAllRules();
+            assertThat(results.get(results.size() - 1)).containsExactly(8L, 15.0, 2L);
+
+            // reversing the int values accumulated by sumL must not fail casting them to Long
+            p2.setIntPrimitive(7);
+            p2.setLongPrimitive(40L);
+            kieSession.update(fh2, p2);
+            kieSession.fireAllRules();
+            assertThat(results.get(results.size() - 1)).containsExactly(10L, 25.0, 2L);
+
+            kieSession.delete(fh2);
+            kieSession.fireAllRules();
+            assertThat(results.get(results.size() - 1)).containsExactly(3L, 10.0, 1L);
+        } finally {
+            kieSession.dispose();
+        }
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    void testPrimitiveAccumulateOnlyForMatchingTypes(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl =
+                "import " + Primitives.class.getCanonicalName() + ";\n" +
+                        "global java.util.List results;\n" +
+                        "rule R1 when\n" +
+                        "    accumulate(Primitives($i : intPrimitive, $l : longPrimitive, $d : doublePrimitive),\n" +
+                        "               $sumI : sumI($i), $sumIL : sumI($l), $sumL : sumL($i), $sumLD : sumL($d), $sum : sum($d))\n" +
+                        "then\n" +
+                        "    results.add(java.util.Arrays.asList($sumI, $sumL, $sum));\n" +
+                        "end";
+
+        if (kieBaseTestConfiguration.isExecutableModel()) {
+            // the executable model doesn't use the primitive accumulate functions
+            return;
+        }
+        final KieBase kieBase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("accumulate-test", kieBaseTestConfiguration, drl);
+        final RuleImpl rule = (RuleImpl) kieBase.getRule("defaultpkg", "R1");
+        final Accumulate accumulate = (Accumulate) ((Pattern) rule.getLhs().getChildren().get(0)).getSource();
+        final Accumulator[] accumulators = accumulate.getAccumulators();
+        // sumI only reads int values and sumL int or long ones, the others are left to the expression
+        assertThat(((JavaAccumulatorFunctionExecutor) accumulators[0]).getPrimitiveDeclarationIndex()).isNotNegative();
+        assertThat(((JavaAccumulatorFunctionExecutor) accumulators[1]).getPrimitiveDeclarationIndex()).isNegative();
+        assertThat(((JavaAccumulatorFunctionExecutor) accumulators[2]).getPrimitiveDeclarationIndex()).isNotNegative();
+        assertThat(((JavaAccumulatorFunctionExecutor) accumulators[3]).getPrimitiveDeclarationIndex()).isNegative();
+        assertThat(((JavaAccumulatorFunctionExecutor) accumulators[4]).getPrimitiveDeclarationIndex()).isNotNegative();
+    }
 }
@@ -50,6 +50,7 @@ import org.kie.api.builder.KieModule;
 import org.kie.api.builder.ReleaseId;
 import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieSession;
+import org.kie.internal.conf.AlphaNodeAdaptiveIndexingOption;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -1188,4 +1189,63 @@ public class AlphaNodeRangeIndexingTest {
         fired = ksession.fireAllRules();
         assertThat(fired).isEqualTo(2);
     }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+	@MethodSource("parameters")
+    public void testAdaptiveIndexing(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        if (kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+            // the compiled network doesn't propagate through the sink adapter, so there is nothing to sample
+            return;
+        }
+
+        final String drl = "package org.drools.compiler.test\n" +
+                           "import " + Person.class.getCanonicalName() + "\n" +
+                           "rule test1\n when\n" +
+                           "   Person( name == \"Mark\" )\n" +
+                           "then\n end\n" +
+                           "rule test2\n when\n" +
+                           "   Person( name == \"Paul\" )\n" +
+                           "then\n end\n" +
+                           "rule test3\n when\n" +
+                           "   Person( age > 60 )\n" +
+                           "then\n end\n" +
+                           "rule test4\n when\n" +
+                           "   Person( age < 5 )\n" +
+                           "then\n end\n" +
+                           "rule test5\n when\n" +
+                           "   Person( id >= 0 )\n" +
+                           "then\n end\n" +
+                           "rule test6\n when\n" +
+                           "   Person( id < 1000 )\n" +
+                           "then\n end\n";
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("indexing-test", kieBaseTestConfiguration, drl);
+        final KieContainer kieContainer = KieServices.get().newKieContainer(kieModule.getReleaseId());
+        final KieBaseConfiguration kieBaseConfiguration = kieBaseTestConfiguration.getKieBaseConfiguration();
+        kieBaseConfiguration.setOption(AlphaNodeAdaptiveIndexingOption.YES);
+        final KieBase kbase = kieContainer.newKieBase(kieBaseConfiguration);
+        final KieSession ksession = kbase.newKieSession();
+
+        // all under the default thresholds, so nothing is indexed at build time
+        assertSinks(kieBaseTestConfiguration, kbase, Person.class, 6, 6, 4, 0);
+
+        // more than the sampled propagations, none of them matching the name and age constraints
+        for (int i = 0; i < 1100; i++) {
+            ksession.insert(new Person("John", 30));
+        }
+        assertThat(ksession.fireAllRules()).isEqualTo(2200);
+
+        // the name constraints are hashed and the selective age ones range indexed, while the id ones,
+        // matched by every fact, are still evaluated one by one
+        assertSinks(kieBaseTestConfiguration, kbase, Person.class, 6, 6, 2, 2);
+        final CompositeObjectSinkAdapter sinkAdapter = (CompositeObjectSinkAdapter) KieUtil.getObjectTypeNode(kbase, Person.class).getObjectSinkPropagator();
+        assertThat(sinkAdapter.getHashableSinks()).isNull();
+        assertThat(sinkAdapter.getHashedSinkMap()).hasSize(2);
+
+        ksession.insert(new Person("Paul", 70));
+        assertThat(ksession.fireAllRules()).isEqualTo(4);
+
+        ksession.insert(new Person("Mark", 3));
+        assertThat(ksession.fireAllRules()).isEqualTo(4);
+    }
 }
@@ -47,6 +47,7 @@ import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.reteoo.RightTuple;
 import org.drools.core.reteoo.TupleMemory;
 import org.drools.core.util.FastIterator;
+import org.drools.core.util.index.AlphaCompositeHashIndex;
 import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
 import org.drools.testcoverage.common.model.Address;
 import org.drools.testcoverage.common.model.Cheese;
@@ -983,6 +984,88 @@ public class IndexingTest {
         }
     }
 
+    @ParameterizedTest(name = "KieBase type={0}")
+	@MethodSource("parameters")
+    public void testCompositeAlphaIndex(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl =
+                "package org.drools.compiler.test\n" +
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "global java.util.List list\n" +
+                "rule R1\n" +
+                "    when\n" +
+                "        Person( name == \"Mark\", age == 30 )\n" +
+                "    then\n" +
+                "        list.add(\"R1\");\n" +
+                "end\n" +
+                "rule R2\n" +
+                "    when\n" +
+                "        Person( name == \"Mark\", age == 40 )\n" +
+                "    then\n" +
+                "        list.add(\"R2\");\n" +
+                "end\n" +
+                "rule R3\n" +
+                "    when\n" +
+                "        Person( name == \"Paul\", age == 30 )\n" +
+                "    then\n" +
+                "        list.add(\"R3\");\n" +
+                "end\n" +
+                "rule R4\n" +
+                "    when\n" +
+                "        Person( name == \"John\", age == 50 )\n" +
+                "    then\n" +
+                "        list.add(\"R4\");\n" +
+                "end";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("indexing-test", kieBaseTestConfiguration, drl);
+        KieSession ksession = kbase.newKieSession();
+
+        try {
+            assertAlphaIndex(kieBaseTestConfiguration, kbase, Person.class, 3);
+
+            List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            Person mark = new Person("Mark", 40);
+            FactHandle markFH = ksession.insert(mark);
+            ksession.insert(new Person("Paul", 40));
+            ksession.fireAllRules();
+            assertThat(list).containsExactly("R2");
+
+            // the name and age equalities are resolved with a single lookup
+            assertCompositeAlphaIndex(kieBaseTestConfiguration, kbase, 2, 4);
+
+            list.clear();
+            mark.setAge(30);
+            ksession.update(markFH, mark);
+            ksession.fireAllRules();
+            assertThat(list).containsExactly("R1");
+
+            kbase.removeRule("org.drools.compiler.test", "R1");
+
+            list.clear();
+            ksession.insert(new Person("Mark", 30));
+            ksession.insert(new Person("John", 50));
+            ksession.fireAllRules();
+            assertThat(list).containsExactly("R4");
+
+            // the index is rebuilt after the removal of the chain below Mark's node
+            assertCompositeAlphaIndex(kieBaseTestConfiguration, kbase, 2, 3);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private void assertCompositeAlphaIndex(KieBaseTestConfiguration kieBaseTestConfiguration, KieBase kbase, int keyLength, int size) {
+        if (kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+            // the compiled network doesn't propagate through the sink adapter, so the index is never built
+            return;
+        }
+        final CompositeObjectSinkAdapter sinkAdapter = (CompositeObjectSinkAdapter) KieUtil.getObjectTypeNode(kbase, Person.class).getObjectSinkPropagator();
+        final AlphaCompositeHashIndex compositeHashIndex = sinkAdapter.getHashedFieldIndexes().get(0).getCompositeHashIndex();
+        assertThat(compositeHashIndex).isNotNull();
+        assertThat(compositeHashIndex.getKeyLength()).isEqualTo(keyLength);
+        assertThat(compositeHashIndex.size()).isEqualTo(size);
+    }
+
     private void assertAlphaIndex(KieBaseTestConfiguration kieBaseTestConfiguration, KieBase kbase, Class<?> clazz, int hashedSize) {
         final ObjectTypeNode otn = KieUtil.getObjectTypeNode(kbase, clazz);
         assertThat(otn).isNotNull();
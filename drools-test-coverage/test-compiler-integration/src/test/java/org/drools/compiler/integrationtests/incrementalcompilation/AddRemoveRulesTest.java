@@ -29,6 +29,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.drools.core.common.InternalFactHandle;
+import org.drools.core.impl.RuleBaseFactory;
 import org.drools.core.reteoo.LeftTuple;
 import org.drools.core.reteoo.SubnetworkTuple;
 import org.drools.core.reteoo.TupleImpl;
@@ -37,9 +38,11 @@ import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
 import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
 import org.drools.testcoverage.common.util.KieUtil;
 import org.drools.testcoverage.common.util.TestParametersUtil2;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
 import org.kie.api.KieServices;
 import org.kie.api.builder.ReleaseId;
 import org.kie.api.definition.KiePackage;
@@ -51,6 +54,7 @@ import org.kie.api.runtime.StatelessKieSession;
 import org.kie.api.runtime.rule.FactHandle;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.conf.CompactRightBetaMemoryOption;
 import org.kie.internal.io.ResourceFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -273,6 +277,82 @@ public class AddRemoveRulesTest {
         ((InternalKnowledgeBase) kSession.getKieBase()).addPackages(kbuilder.getKnowledgePackages());
     }
 
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testAddRemoveRulesWithManySessions(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        // the memories of the different sessions are updated in parallel when drools.parallelSessionsUpdate is enabled
+        createEmptyKnowledgeBase(kieBaseTestConfiguration);
+
+        final List<KieSession> sessions = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final KieSession kSession = base.newKieSession();
+            for (int j = 0; j <= i; j++) {
+                kSession.insert( "s" + j );
+                kSession.insert( j );
+            }
+            kSession.fireAllRules();
+            sessions.add( kSession );
+        }
+
+        addRuleToEngine("rule R1 when\n" +
+                        "  $s : String()\n" +
+                        "  Integer( $s == \"s\" + intValue )\n" +
+                        "then end\n");
+        for (int i = 0; i < sessions.size(); i++) {
+            assertThat(sessions.get( i ).fireAllRules()).isEqualTo(i + 1);
+        }
+
+        // this one shares the String pattern with R1
+        addRuleToEngine("rule R2 when\n" +
+                        "  $s : String()\n" +
+                        "  Integer( intValue == 0 )\n" +
+                        "then end\n");
+        for (int i = 0; i < sessions.size(); i++) {
+            assertThat(sessions.get( i ).fireAllRules()).isEqualTo(i + 1);
+        }
+
+        deleteRule( "R1" );
+        for (KieSession kSession : sessions) {
+            kSession.insert( "s0" );
+            assertThat(kSession.fireAllRules()).isEqualTo(1);
+            kSession.dispose();
+        }
+    }
+
+    @Test
+    public void testRemoveRuleAfterMassRetractionsWithCompactRightBetaMemory() {
+        final KieBaseConfiguration conf = RuleBaseFactory.newKnowledgeBaseConfiguration();
+        conf.setOption( CompactRightBetaMemoryOption.YES );
+        base = KnowledgeBaseFactory.newKnowledgeBase( conf );
+
+        addRuleToEngine("rule R1 when\n" +
+                        "  Long( $v : intValue )\n" +
+                        "  Integer( intValue == $v )\n" +
+                        "then end\n");
+
+        final KieSession kSession = base.newKieSession();
+        kSession.insert( 0L );
+        final List<FactHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            handles.add( kSession.insert( i ) );
+        }
+        assertThat(kSession.fireAllRules()).isEqualTo(1);
+
+        // leaves the right memory sparse, then removing the rule walks it deleting the remaining tuples
+        for (int i = 0; i < 900; i++) {
+            kSession.delete( handles.get( i ) );
+        }
+        kSession.fireAllRules();
+        deleteRule( "R1" );
+
+        final AtomicInteger linkedRightTuples = new AtomicInteger();
+        for (FactHandle handle : handles.subList( 900, 1000 )) {
+            ((InternalFactHandle) handle).forEachRightTuple( rt -> linkedRightTuples.incrementAndGet() );
+        }
+        assertThat(linkedRightTuples.get()).isZero();
+        kSession.dispose();
+    }
+
     @ParameterizedTest(name = "KieBase type={0}")
 	@MethodSource("parameters")
     public void testAddRemoveDeletingFact(KieBaseTestConfiguration kieBaseTestConfiguration) {
@@ -24,8 +24,12 @@ import org.drools.base.rule.Declaration;
 import org.drools.base.rule.accessor.ReadAccessor;
 import org.drools.base.rule.constraint.AlphaNodeFieldConstraint;
 import org.drools.base.rule.constraint.Constraint;
+import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.ClassFieldAccessorCache;
 import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.impl.InternalRuleBase;
+import org.drools.core.impl.RuleBaseFactory;
 import org.drools.core.reteoo.AlphaNode;
 import org.drools.core.reteoo.BetaNode;
 import org.drools.core.reteoo.CompositeObjectSinkAdapter;
@@ -40,22 +44,35 @@ import org.drools.mvel.accessors.ClassFieldAccessorStore;
 import org.drools.mvel.model.Cheese;
 import org.drools.mvel.model.MockObjectSource;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.api.KieBaseConfiguration;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.AlphaNodeAdaptiveIndexingOption;
 
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class CompositeObjectSinkAdapterTest {
     private InternalKnowledgeBase kBase;
@@ -404,6 +421,80 @@ public class CompositeObjectSinkAdapterTest {
 
     }
 
+    @Test
+    public void testNoAdaptiveIndexingWithoutSessionsTracking() throws Exception {
+        extractor = store.getReader( Cheese.class, "type" );
+        final ObjectSink stiltonSink = mock( ObjectSink.class );
+        final ObjectSink brieSink = mock( ObjectSink.class );
+        final AlphaNode al1 = createAlphaNode(cheeseTypeEqualsTo(true, "stilton"));
+        al1.addObjectSink( stiltonSink );
+        final AlphaNode al2 = createAlphaNode(cheeseTypeEqualsTo(true, "brie"));
+        al2.addObjectSink( brieSink );
+        ad.addObjectSink( al1 );
+        ad.addObjectSink( al2 );
+
+        // the kbase used by the rule units doesn't know the sessions propagating through the adapter concurrently
+        final KieBaseConfiguration kconf = RuleBaseFactory.newKnowledgeBaseConfiguration();
+        kconf.setOption( AlphaNodeAdaptiveIndexingOption.YES );
+        final ReteEvaluator reteEvaluator = mock( ReteEvaluator.class );
+        when( reteEvaluator.getKnowledgeBase() ).thenReturn( RuleBaseFactory.newRuleBase( kconf ) );
+
+        final int threads = 4;
+        final int propagationsPerThread = 1000;
+        final ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add( executor.submit( () -> {
+                    for (int i = 0; i < propagationsPerThread; i++) {
+                        final Cheese cheese = new Cheese( i % 2 == 0 ? "stilton" : "brie", i );
+                        ad.propagateAssertObject( newFactHandle( cheese ), null, reteEvaluator );
+                    }
+                } ) );
+            }
+            for (Future<?> future : futures) {
+                future.get( 30, TimeUnit.SECONDS );
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the sinks are still evaluated one by one and every fact reached the right one
+        hashableSinksAre( al1, al2 );
+        hashedSinkMapIsEmpty();
+        verify( stiltonSink, times( threads * propagationsPerThread / 2 ) ).assertObject( any(), any(), any() );
+        verify( brieSink, times( threads * propagationsPerThread / 2 ) ).assertObject( any(), any(), any() );
+    }
+
+    @Test
+    public void testAdaptiveIndexingIsEnqueuedOnSessionsAwareKnowledgeBase() {
+        extractor = store.getReader( Cheese.class, "type" );
+        final AlphaNode al1 = createAlphaNode(cheeseTypeEqualsTo(true, "stilton"));
+        final AlphaNode al2 = createAlphaNode(cheeseTypeEqualsTo(true, "brie"));
+        ad.addObjectSink( al1 );
+        ad.addObjectSink( al2 );
+
+        final KieBaseConfiguration kconf = RuleBaseFactory.newKnowledgeBaseConfiguration();
+        kconf.setOption( AlphaNodeAdaptiveIndexingOption.YES );
+        final InternalRuleBase kBase = mock( InternalRuleBase.class );
+        when( kBase.getRuleBaseConfiguration() ).thenReturn( kconf.as( RuleBaseConfiguration.KEY ) );
+        when( kBase.isSessionsAware() ).thenReturn( true );
+        final ReteEvaluator reteEvaluator = mock( ReteEvaluator.class );
+        when( reteEvaluator.getKnowledgeBase() ).thenReturn( kBase );
+
+        for (int i = 0; i < 2000; i++) {
+            ad.propagateAssertObject( newFactHandle( new Cheese( "cheddar", i ) ), null, reteEvaluator );
+        }
+
+        // the reorganization is handed to the kbase, that runs it when no session is using the adapter
+        verify( kBase, times( 1 ) ).enqueueModification( any() );
+        hashableSinksAre( al1, al2 );
+    }
+
+    private InternalFactHandle newFactHandle(Object object) {
+        return new ReteooFactHandleFactory().newFactHandle( object, null, null, new DisconnectedWorkingMemoryEntryPoint( "DEFAULT" ) );
+    }
+
 	private AlphaNodeFieldConstraint cheeseTypeEqualsTo(boolean useLambdaConstraint, String value) {
 		return ConstraintTestUtil.createCheeseTypeEqualsConstraint(extractor, value, useLambdaConstraint);
 	}
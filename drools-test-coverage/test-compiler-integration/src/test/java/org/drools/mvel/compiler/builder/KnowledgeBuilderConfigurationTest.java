@@ -37,6 +37,7 @@ import org.kie.api.runtime.rule.AccumulateFunction;
 import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
 import org.kie.internal.builder.conf.AccumulateFunctionOption;
+import org.kie.internal.builder.conf.CompilationCacheDirOption;
 import org.kie.internal.builder.conf.DefaultDialectOption;
 import org.kie.internal.builder.conf.DefaultPackageNameOption;
 import org.kie.internal.builder.conf.DumpDirOption;
@@ -190,6 +191,31 @@ public class KnowledgeBuilderConfigurationTest {
         // checking the string based getProperty() method
         assertThat(config.getProperty(DumpDirOption.PROPERTY_NAME)).isEqualTo(dumpDir.toString());
     }
+
+    @Test
+    public void testCompilationCacheDirectoryConfiguration() {
+        assertThat(config.getOption(CompilationCacheDirOption.KEY).getDirectory()).isNull();
+
+        File cacheDir = new File("target/compilation-cache");
+        // setting the cache directory using the type safe method
+        config.setOption( CompilationCacheDirOption.get( cacheDir ) );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(CompilationCacheDirOption.KEY)).isEqualTo(CompilationCacheDirOption.get(cacheDir));
+        assertThat(cacheDir).isDirectory();
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(CompilationCacheDirOption.PROPERTY_NAME)).isEqualTo(cacheDir.toString());
+
+        // setting the cache dir using the string based setProperty() method
+        cacheDir = new File( System.getProperty( "java.io.tmpdir" ) );
+        config.setProperty( CompilationCacheDirOption.PROPERTY_NAME,
+                            System.getProperty( "java.io.tmpdir" ) );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(CompilationCacheDirOption.KEY)).isEqualTo(CompilationCacheDirOption.get(cacheDir));
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(CompilationCacheDirOption.PROPERTY_NAME)).isEqualTo(cacheDir.toString());
+    }
     
     @Test
     public void testEvaluatorConfiguration() {
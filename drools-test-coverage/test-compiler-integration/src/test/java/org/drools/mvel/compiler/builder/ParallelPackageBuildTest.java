@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.compiler.builder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.KieBase;
+import org.kie.api.definition.type.FactType;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.CompositeKnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderConfiguration;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.builder.KnowledgeBuilderResult;
+import org.kie.internal.builder.conf.ParallelPackageBuildOption;
+import org.kie.internal.io.ResourceFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelPackageBuildTest {
+
+    private static final int PACKAGES = 4;
+    private static final int RESOURCES_PER_PACKAGE = 5;
+
+    @Test
+    public void testParallelBuildOfManyPackages() {
+        List<String> drls = new ArrayList<>();
+        drls.add("package org.drools.types;\n" +
+                 "declare Counter\n" +
+                 "    value : int\n" +
+                 "end\n");
+        for (int p = 0; p < PACKAGES; p++) {
+            for (int r = 0; r < RESOURCES_PER_PACKAGE; r++) {
+                drls.add("package org.drools.p" + p + ";\n" +
+                         "import org.drools.types.Counter;\n" +
+                         "global java.util.List list;\n" +
+                         "rule R" + r + " when\n" +
+                         "    Counter( value > " + r + " )\n" +
+                         "then\n" +
+                         "    list.add(\"p" + p + ".R" + r + "\");\n" +
+                         "end\n");
+            }
+        }
+
+        List<String> sequential = fireAll(build(drls, ParallelPackageBuildOption.DISABLED));
+        List<String> parallel = fireAll(build(drls, ParallelPackageBuildOption.ENABLED));
+
+        assertThat(sequential).hasSize(PACKAGES * 3);
+        assertThat(parallel).containsExactlyInAnyOrderElementsOf(sequential);
+    }
+
+    @Test
+    public void testParallelParsingReportsErrorsInResourcesOrder() {
+        List<String> drls = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            drls.add("package org.drools.p" + i + ";\n" +
+                     (i % 2 == 0 ? "rule R" + i + " when then end\n" : "rule R" + i + " when Integer( then end\n"));
+        }
+
+        assertThat(errorsOf(drls, ParallelPackageBuildOption.ENABLED)).isEqualTo(errorsOf(drls, ParallelPackageBuildOption.DISABLED)).isNotEmpty();
+    }
+
+    private KnowledgeBuilder newKnowledgeBuilder(List<String> drls, ParallelPackageBuildOption option) {
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration();
+        conf.setOption(option);
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder(conf);
+        CompositeKnowledgeBuilder composite = kbuilder.batch();
+        for (String drl : drls) {
+            composite.add(ResourceFactory.newByteArrayResource(drl.getBytes()), ResourceType.DRL);
+        }
+        composite.build();
+        return kbuilder;
+    }
+
+    private KieBase build(List<String> drls, ParallelPackageBuildOption option) {
+        KnowledgeBuilder kbuilder = newKnowledgeBuilder(drls, option);
+        assertThat(kbuilder.hasErrors()).as(kbuilder.getErrors().toString()).isFalse();
+        return kbuilder.newKieBase();
+    }
+
+    private List<String> errorsOf(List<String> drls, ParallelPackageBuildOption option) {
+        return newKnowledgeBuilder(drls, option).getErrors().stream()
+                .map(KnowledgeBuilderResult::getMessage)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> fireAll(KieBase kbase) {
+        List<String> list = new ArrayList<>();
+        KieSession ksession = kbase.newKieSession();
+        try {
+            ksession.setGlobal("list", list);
+            ksession.insert(newCounter(kbase, 3));
+            ksession.fireAllRules();
+        } finally {
+            ksession.dispose();
+        }
+        return list;
+    }
+
+    private Object newCounter(KieBase kbase, int value) {
+        try {
+            FactType counterType = kbase.getFactType("org.drools.types", "Counter");
+            Object counter = counterType.newInstance();
+            counterType.set(counter, "value", value);
+            return counter;
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
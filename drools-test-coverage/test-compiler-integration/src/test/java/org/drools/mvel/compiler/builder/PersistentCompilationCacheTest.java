@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.compiler.builder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.ToolProvider;
+
+import org.drools.core.impl.RuleBaseFactory;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.api.KieBase;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderConfiguration;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.builder.conf.CompilationCacheDirOption;
+import org.kie.internal.io.ResourceFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PersistentCompilationCacheTest {
+
+    private static final String DRL =
+            "package org.drools.test;\n" +
+            "global java.util.List list;\n" +
+            "declare Person\n" +
+            "    name : String\n" +
+            "    age : int\n" +
+            "end\n" +
+            "rule Init when\n" +
+            "then\n" +
+            "    insert(new Person(\"Mario\", 47));\n" +
+            "end\n" +
+            "rule Adult when\n" +
+            "    $p : Person( age > 18 )\n" +
+            "    eval( $p.getName().length() > 2 )\n" +
+            "then\n" +
+            "    list.add(\"%s \" + $p.getName());\n" +
+            "end\n";
+
+    @TempDir
+    private File cacheDir;
+
+    @Test
+    public void testCompiledClassesAreReusedBySubsequentBuilds() throws IOException {
+        assertThat(fireAndCollect(build(String.format(DRL, "Hello")))).containsExactly("Hello Mario");
+        Map<String, Long> entries = cacheEntries();
+        assertThat(entries).isNotEmpty();
+
+        // the same rules are built without compiling anything, so no further entry is written
+        assertThat(fireAndCollect(build(String.format(DRL, "Hello")))).containsExactly("Hello Mario");
+        assertThat(cacheEntries()).isEqualTo(entries);
+
+        // all the sources compiled together with the modified consequence are compiled and stored again
+        assertThat(fireAndCollect(build(String.format(DRL, "Hi")))).containsExactly("Hi Mario");
+        assertThat(cacheEntries()).containsAllEntriesOf(entries).hasSize(entries.size() + 1);
+    }
+
+    @Test
+    public void testFunctionSignatureChangeInvalidatesCallers() {
+        String drl =
+                "package org.drools.test;\n" +
+                "global java.util.List list;\n" +
+                "function %s size(String s) { return s.length(); }\n" +
+                "rule Size when\n" +
+                "    $s : String()\n" +
+                "then\n" +
+                "    list.add(size($s));\n" +
+                "end\n";
+
+        assertThat(fireAndCollect(build(String.format(drl, "int")), "Mario")).containsExactly(5);
+        // the consequence is unchanged, but it has to be compiled again against the new signature of the function
+        assertThat(fireAndCollect(build(String.format(drl, "long")), "Mario")).containsExactly(5L);
+        assertThat(fireAndCollect(build(String.format(drl, "int")), "Mario")).containsExactly(5);
+    }
+
+    @Test
+    public void testClasspathChangeInvalidatesEntries() throws Exception {
+        String drl =
+                "package org.drools.test;\n" +
+                "import org.drools.test.ext.Helper;\n" +
+                "global java.util.List list;\n" +
+                "rule Size when\n" +
+                "    $s : String()\n" +
+                "then\n" +
+                "    list.add(Helper.size($s));\n" +
+                "end\n";
+
+        File lib = Files.createTempDirectory(cacheDir.toPath(), "lib").toFile();
+
+        File jar = new File(lib, "helper-1.0.jar");
+        writeHelperJar(jar, "int");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, getClass().getClassLoader())) {
+            assertThat(fireAndCollect(build(drl, classLoader), "Mario")).containsExactly(5);
+        }
+
+        // the jar on the classpath is upgraded, so the unchanged rule has to be compiled against the new signature
+        jar = new File(lib, "helper-2.0.jar");
+        writeHelperJar(jar, "long");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, getClass().getClassLoader())) {
+            assertThat(fireAndCollect(build(drl, classLoader), "Mario")).containsExactly(5L);
+        }
+    }
+
+    private void writeHelperJar(File jar, String returnType) throws IOException {
+        Path dir = Files.createTempDirectory(jar.getParentFile().toPath(), "helper");
+        Path source = dir.resolve("Helper.java");
+        Files.write(source, ("package org.drools.test.ext;\n" +
+                "public class Helper {\n" +
+                "    public static " + returnType + " size(String s) { return s.length(); }\n" +
+                "}\n").getBytes(StandardCharsets.UTF_8));
+        assertThat(ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", dir.toString(), source.toString())).isZero();
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("org/drools/test/ext/Helper.class"));
+            out.write(Files.readAllBytes(dir.resolve("org/drools/test/ext/Helper.class")));
+            out.closeEntry();
+        }
+    }
+
+    private KieBase build(String drl) {
+        return build(drl, null);
+    }
+
+    private KieBase build(String drl, ClassLoader classLoader) {
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration(null, classLoader);
+        conf.setOption(CompilationCacheDirOption.get(cacheDir));
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder(conf);
+        kbuilder.add(ResourceFactory.newByteArrayResource(drl.getBytes()), ResourceType.DRL);
+        assertThat(kbuilder.hasErrors()).as(kbuilder.getErrors().toString()).isFalse();
+        if (classLoader == null) {
+            return kbuilder.newKieBase();
+        }
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase(RuleBaseFactory.newKnowledgeBaseConfiguration(null, classLoader));
+        kbase.addPackages(kbuilder.getKnowledgePackages());
+        return kbase;
+    }
+
+    private List<Object> fireAndCollect(KieBase kbase, Object... facts) {
+        List<Object> list = new ArrayList<>();
+        KieSession ksession = kbase.newKieSession();
+        try {
+            ksession.setGlobal("list", list);
+            for (Object fact : facts) {
+                ksession.insert(fact);
+            }
+            ksession.fireAllRules();
+        } finally {
+            ksession.dispose();
+        }
+        return list;
+    }
+
+    private Map<String, Long> cacheEntries() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir.toPath())) {
+            return files.filter(Files::isRegularFile)
+                    .collect(Collectors.toMap(p -> p.getFileName().toString(), p -> p.toFile().lastModified(), (a, b) -> a, TreeMap::new));
+        }
+    }
+}
@@ -23,14 +23,19 @@ import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.SynchronizedPropagationList;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class PropagationListTest {
 
     @Test 
@@ -97,6 +102,64 @@ public class PropagationListTest {
         }
     }
 
+    @Test
+    public void testLockFreePropagationListKeepsProducersOrder() throws Exception {
+        final int OBJECT_NR = 100000;
+        final int THREAD_NR = 4;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_NR);
+        try {
+            final Checker checker = new Checker(THREAD_NR);
+            final PropagationList propagationList = new LockFreePropagationList(null);
+            final CompletionService<Boolean> ecs = new ExecutorCompletionService<Boolean>(executor);
+
+            for (int i = 0; i < THREAD_NR; i++) {
+                ecs.submit(getTask(OBJECT_NR, checker, propagationList, i));
+            }
+
+            // flush concurrently with the producers, as the engine thread does
+            int completed = 0;
+            while (completed < THREAD_NR) {
+                propagationList.flush();
+                if (ecs.poll() != null) {
+                    completed++;
+                }
+            }
+            propagationList.flush();
+
+            assertThat(propagationList.isEmpty()).isTrue();
+            for (int i = 0; i < THREAD_NR; i++) {
+                assertThat(checker.counters[i]).isEqualTo(OBJECT_NR);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLockFreePropagationListWakesUpOnRest() throws Exception {
+        final PropagationList propagationList = new LockFreePropagationList(null);
+        propagationList.setFiringUntilHalt(true);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<PropagationEntry> rest = executor.submit(() -> propagationList.takeAllOrWaitOnRest(propagationList::takeAll, () -> true));
+            Thread.sleep(100L);
+            assertThat(rest.isDone()).isFalse();
+
+            final TestEntry entry = new TestEntry(new Checker(1), 0, 0);
+            propagationList.addEntry(entry);
+            assertThat(rest.get(5, TimeUnit.SECONDS)).isSameAs(entry);
+
+            final Future<PropagationEntry> notified = executor.submit(() -> propagationList.takeAllOrWaitOnRest(propagationList::takeAll, () -> true));
+            Thread.sleep(100L);
+            propagationList.notifyWaitOnRest();
+            assertThat(notified.get(5, TimeUnit.SECONDS)).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private void analyzeResults(final long[] results) {
         long min = results[0];
         long max = results[0];
@@ -138,6 +201,12 @@ public class PropagationListTest {
             this.j = j;
         }
 
+        @Override
+        public void execute(final ReteEvaluator reteEvaluator) {
+            // no working memory to notify, the lists under test are created without one
+            internalExecute(reteEvaluator);
+        }
+
         @Override
         public void internalExecute(final ReteEvaluator reteEvaluator) {
             checker.check(this);
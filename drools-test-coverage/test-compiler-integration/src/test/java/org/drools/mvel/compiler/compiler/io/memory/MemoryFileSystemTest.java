@@ -18,6 +18,8 @@
  */
 package org.drools.mvel.compiler.compiler.io.memory;
 
+import java.util.Random;
+
 import org.drools.compiler.compiler.io.File;
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,4 +49,19 @@ public class MemoryFileSystemTest {
 
         assertThat(file.getName()).isEqualTo("%E3%81%82%E3%81%84%E3%81%86%E3%81%88%E3%81%8A.java");
     }
+
+    @Test
+    public void testReadFromJar() {
+        final byte[] small = "small content".getBytes();
+        final byte[] large = new byte[100_000];
+        new Random(42).nextBytes(large);
+
+        memoryFileSystem.write("path/small.txt", small, true);
+        memoryFileSystem.write("path/sub/large.bin", large, true);
+
+        final MemoryFileSystem readFs = MemoryFileSystem.readFromJar(memoryFileSystem.writeAsBytes());
+
+        assertThat(readFs.getBytes("path/small.txt")).isEqualTo(small);
+        assertThat(readFs.getBytes("path/sub/large.bin")).isEqualTo(large);
+    }
 }
@@ -30,8 +30,10 @@ import org.kie.api.conf.PrototypesOption;
 import org.kie.api.conf.RemoveIdentitiesOption;
 import org.kie.api.conf.SequentialOption;
 import org.kie.api.runtime.rule.ConsequenceExceptionHandler;
+import org.kie.internal.conf.AlphaNodeAdaptiveIndexingOption;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
 import org.kie.internal.conf.AlphaThresholdOption;
+import org.kie.internal.conf.CompactRightBetaMemoryOption;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
@@ -177,6 +179,46 @@ public class KnowledgeBaseConfigurationTest {
         assertThat(config.getProperty(IndexRightBetaMemoryOption.PROPERTY_NAME)).isEqualTo("false");
     }
 
+    @Test
+    public void testCompactRightBetaMemoryConfiguration() {
+        // setting the option using the type safe method
+        config.setOption( CompactRightBetaMemoryOption.YES );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(CompactRightBetaMemoryOption.KEY)).isEqualTo(CompactRightBetaMemoryOption.YES);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(CompactRightBetaMemoryOption.PROPERTY_NAME)).isEqualTo("true");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( CompactRightBetaMemoryOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(CompactRightBetaMemoryOption.KEY)).isEqualTo(CompactRightBetaMemoryOption.NO);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(CompactRightBetaMemoryOption.PROPERTY_NAME)).isEqualTo("false");
+    }
+
+    @Test
+    public void testAlphaNodeAdaptiveIndexingConfiguration() {
+        // setting the option using the type safe method
+        config.setOption( AlphaNodeAdaptiveIndexingOption.YES );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(AlphaNodeAdaptiveIndexingOption.KEY)).isEqualTo(AlphaNodeAdaptiveIndexingOption.YES);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(AlphaNodeAdaptiveIndexingOption.PROPERTY_NAME)).isEqualTo("true");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( AlphaNodeAdaptiveIndexingOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(AlphaNodeAdaptiveIndexingOption.KEY)).isEqualTo(AlphaNodeAdaptiveIndexingOption.NO);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(AlphaNodeAdaptiveIndexingOption.PROPERTY_NAME)).isEqualTo("false");
+    }
+
     @Test
     public void testIndexPrecedenceConfiguration() {
         // setting the option using the type safe method
@@ -19,7 +19,9 @@
 package org.drools.mvel.integrationtests;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -42,6 +44,8 @@ import org.kie.api.definition.type.Role;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.conf.TimerJobFactoryOption;
+import org.kie.api.runtime.rule.FactHandle;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.kie.api.definition.type.Expires.Policy.TIME_SOFT;
@@ -1087,4 +1091,63 @@ public class ExpirationTest {
         assertThat(kieSession.fireAllRules()).isEqualTo(1);
         assertThat(kieSession.getFactCount()).isEqualTo(0);
     }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testBatchedExpiration(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        String drl = "import " + A.class.getCanonicalName() + "\n" +
+                     "declare A @role( event ) @expires(10ms) end\n" +
+                     "global java.util.concurrent.atomic.AtomicInteger counter;\n" +
+                     "rule R0 when\n" +
+                     "  $a: A( id > 0 )\n" +
+                     "then\n" +
+                     "  counter.incrementAndGet();\n" +
+                     "end";
+
+        KieSessionConfiguration sessionConfig = RuleBaseFactory.newKnowledgeSessionConfiguration();
+        sessionConfig.setOption( ClockTypeOption.get( ClockType.PSEUDO_CLOCK.getId() ) );
+        sessionConfig.setOption( TimerJobFactoryOption.get( "trackable" ) );
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        KieSession ksession = kbase.newKieSession( sessionConfig, null );
+
+        PseudoClockScheduler sessionClock = ksession.getSessionClock();
+
+        AtomicInteger counter = new AtomicInteger( 0 );
+        ksession.setGlobal( "counter", counter );
+
+        List<FactHandle> handles = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            handles.add( ksession.insert( new A(i) ) );
+        }
+        ksession.fireAllRules();
+        assertThat(counter.get()).isEqualTo(1000);
+
+        // all the events expiring at the same time share a single timer
+        assertThat(sessionClock.getTimerJobInstances( 0 )).hasSize(1);
+
+        for (int i = 0; i < 500; i++) {
+            ksession.delete( handles.get(i) );
+        }
+        assertThat(ksession.getFactCount()).isEqualTo(500);
+
+        sessionClock.advanceTime( 5, TimeUnit.MILLISECONDS );
+        ksession.insert( new A(1001) );
+        assertThat(sessionClock.getTimerJobInstances( 0 )).hasSize(2);
+
+        sessionClock.advanceTime( 6, TimeUnit.MILLISECONDS );
+        ksession.fireAllRules();
+        assertThat(ksession.getFactCount()).isEqualTo(1);
+        assertThat(sessionClock.getTimerJobInstances( 0 )).hasSize(1);
+
+        // when all its events are deleted the timer of the batch is removed as well
+        ksession.delete( ksession.getFactHandles().iterator().next() );
+        ksession.fireAllRules();
+        assertThat(sessionClock.getTimerJobInstances( 0 )).isEmpty();
+
+        sessionClock.advanceTime( 10, TimeUnit.MILLISECONDS );
+        ksession.fireAllRules();
+        assertThat(counter.get()).isEqualTo(1001);
+        assertThat(ksession.getFactCount()).isEqualTo(0);
+    }
 }
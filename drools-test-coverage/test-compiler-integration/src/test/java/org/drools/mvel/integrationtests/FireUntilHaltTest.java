@@ -33,9 +33,12 @@ import org.drools.testcoverage.common.util.TestParametersUtil2;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.api.KieBase;
+import org.kie.api.KieServices;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.runtime.conf.LockFreePropagationOption;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -193,4 +196,52 @@ public class FireUntilHaltTest {
         // the 2 facts inserted should be processed before halt
         assertThat(latch.await(100, TimeUnit.MILLISECONDS)).isTrue();
     }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testAllFactsProcessedWithLockFreePropagation(KieBaseTestConfiguration kieBaseTestConfiguration) throws Exception {
+        String drl = "package org.example.drools;\n" +
+                "\n" +
+                "global java.util.concurrent.CountDownLatch latch;\n" +
+                "\n" +
+                "rule \"R1\" when\n" +
+                "    $i : Integer()\n" +
+                "then\n" +
+                "    latch.countDown();\n" +
+                "end\n";
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(LockFreePropagationOption.YES);
+        KieSession ksession = kbase.newKieSession(conf, null);
+
+        int producers = 4;
+        int factsPerProducer = 1000;
+        CountDownLatch latch = new CountDownLatch(producers * factsPerProducer);
+        ksession.setGlobal("latch", latch);
+
+        Executors.newSingleThreadExecutor().execute(ksession::fireUntilHalt);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            int offset = i * factsPerProducer;
+            Thread t = new Thread(() -> {
+                for (int j = 0; j < factsPerProducer; j++) {
+                    ksession.insert(offset + j);
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            ksession.halt();
+            ksession.dispose();
+        }
+    }
 }
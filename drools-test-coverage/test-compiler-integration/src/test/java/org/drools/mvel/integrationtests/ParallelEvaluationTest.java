@@ -26,10 +26,14 @@ import org.drools.testcoverage.common.util.TestParametersUtil2;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.api.KieBase;
+import org.kie.api.KieServices;
 import org.kie.api.builder.KieModule;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.internal.conf.ParallelExecutionOption;
+import org.kie.internal.runtime.conf.ParallelWarmUpOption;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -131,4 +135,52 @@ public class ParallelEvaluationTest {
                 .flatMap(i -> Arrays.asList(i, i+1).stream()).collect(Collectors.toList());
         assertThat(list).isEqualTo(expected);
     }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testParallelWarmUp(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        int ruleNr = 20;
+        StringBuilder sb = new StringBuilder( 400 );
+        sb.append( "global java.util.List list;\n" );
+        for (int i = 0; i < ruleNr; i++) {
+            sb.append( getRule( i, "", "salience " + i ) );
+            sb.append( getNotRule( i ) );
+        }
+        // a rule sharing the first segment with R0 and with an agenda-group, both evaluated sequentially
+        sb.append( "rule Rshared agenda-group \"other\" auto-focus true when\n" +
+                   "    $i : Integer( intValue == 0 )" +
+                   "    String( toString == $i.toString )\n" +
+                   "then\n" +
+                   "    list.add(100);\n" +
+                   "end\n" );
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, sb.toString());
+
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption( ParallelWarmUpOption.YES );
+        KieSession ksession = kbase.newKieSession( conf, null );
+
+        List<Integer> list = new DebugList<>();
+        ksession.setGlobal( "list", list );
+
+        List<Object> facts = new ArrayList<>();
+        for (int i = 0; i < ruleNr; i++) {
+            facts.add( "" + i );
+            if (i % 2 == 0) {
+                facts.add( i );
+            }
+        }
+        ksession.insertAll( facts );
+
+        ksession.fireAllRules();
+
+        List<Integer> expected = new ArrayList<>();
+        expected.add( 100 );
+        Stream.iterate(ruleNr-2, i -> i-2).limit(ruleNr/2).forEach( expected::add );
+        assertThat(list.subList(0, expected.size())).isEqualTo(expected);
+        assertThat(list.subList(expected.size(), list.size())).containsExactlyInAnyOrderElementsOf(
+                Stream.iterate(1, i -> i+2).limit(ruleNr/2).map(i -> -i).collect(Collectors.toList()));
+
+        ksession.dispose();
+    }
 }
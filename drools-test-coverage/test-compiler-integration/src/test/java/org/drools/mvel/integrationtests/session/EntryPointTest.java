@@ -19,16 +19,24 @@
 package org.drools.mvel.integrationtests.session;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.drools.mvel.compiler.Cheese;
+import org.drools.mvel.compiler.Person;
+import org.drools.mvel.compiler.StockTick;
 import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
 import org.drools.testcoverage.common.util.KieBaseUtil;
 import org.drools.testcoverage.common.util.TestParametersUtil2;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.api.KieBase;
+import org.kie.api.event.rule.DefaultRuleRuntimeEventListener;
+import org.kie.api.event.rule.ObjectInsertedEvent;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.EntryPoint;
+import org.kie.api.runtime.rule.FactHandle;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -71,4 +79,88 @@ public class EntryPointTest {
         ksession.dispose();
         assertThat(res.contains(10)).isTrue();
     }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testInsertAll(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String str = "package org.drools.mvel.compiler.test;\n" +
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule \"Likes\"\n" +
+                "when\n" +
+                "   $p : Person( $likes : likes )\n" +
+                "   Cheese( type == $likes )\n" +
+                "then\n" +
+                "   list.add( $p.getName() );\n" +
+                "end\n" +
+                "rule \"FromEntryPoint\"\n" +
+                "when\n" +
+                "   $c : Cheese() from entry-point \"cheeses\"\n" +
+                "then\n" +
+                "   list.add( $c.getType() );\n" +
+                "end";
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, str);
+        final KieSession ksession = kbase.newKieSession();
+
+        final List<String> res = new ArrayList<>();
+        ksession.setGlobal("list", res);
+
+        final Person mario = new Person("Mario", "stilton");
+        final Person mark = new Person("Mark", "brie");
+        final Cheese stilton = new Cheese("stilton");
+        final List<FactHandle> handles = ksession.insertAll(Arrays.asList(mario, stilton, null, mark, mario));
+
+        assertThat(handles).hasSize(5);
+        assertThat(ksession.getObject(handles.get(0))).isSameAs(mario);
+        assertThat(ksession.getObject(handles.get(1))).isSameAs(stilton);
+        assertThat(handles.get(2)).isNull();
+        assertThat(ksession.getObject(handles.get(3))).isSameAs(mark);
+        assertThat(handles.get(4)).isSameAs(handles.get(0));
+        assertThat(ksession.getFactCount()).isEqualTo(3);
+
+        final EntryPoint cheeses = ksession.getEntryPoint("cheeses");
+        cheeses.insertAll(Arrays.asList(new Cheese("brie"), new Cheese("gorgonzola")));
+        assertThat(cheeses.getFactCount()).isEqualTo(2);
+
+        ksession.fireAllRules();
+        ksession.dispose();
+        assertThat(res).containsExactlyInAnyOrder("Mario", "brie", "gorgonzola");
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testInsertAllKeepsOrderWithEvents(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String str = "package org.drools.mvel.compiler.test;\n" +
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + StockTick.class.getCanonicalName() + ";\n" +
+                "declare StockTick @role( event ) end\n" +
+                "rule R when\n" +
+                "   Person()\n" +
+                "   StockTick()\n" +
+                "then\n" +
+                "end";
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, str);
+        final KieSession ksession = kbase.newKieSession();
+
+        final List<Object> inserted = new ArrayList<>();
+        ksession.addEventListener(new DefaultRuleRuntimeEventListener() {
+            @Override
+            public void objectInserted(ObjectInsertedEvent event) {
+                inserted.add(event.getObject());
+            }
+        });
+
+        // the event takes the single fact insertion path, but it must not overtake the facts preceding it
+        final Person mario = new Person("Mario");
+        final StockTick tick = new StockTick(1, "RHT", 10.0, 0);
+        final Person mark = new Person("Mark");
+        ksession.insertAll(Arrays.asList(mario, tick, mark));
+
+        assertThat(inserted).containsExactly(mario, tick, mark);
+        assertThat(ksession.fireAllRules()).isEqualTo(2);
+        ksession.dispose();
+    }
 }
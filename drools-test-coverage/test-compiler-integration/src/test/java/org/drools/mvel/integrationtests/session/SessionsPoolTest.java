@@ -50,11 +50,13 @@ import org.kie.api.conf.SessionsPoolOption;
 import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieContainerSessionsPool;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.KieSessionsPool;
 import org.kie.api.runtime.StatelessKieSession;
 import org.kie.internal.command.CommandFactory;
 import org.kie.internal.event.rule.RuleEventListener;
 import org.kie.internal.event.rule.RuleEventManager;
+import org.kie.internal.runtime.conf.AsyncSessionResetOption;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
@@ -220,6 +222,27 @@ public class SessionsPoolTest {
         return KieServices.get().newKieContainer(kieModule.getReleaseId());
     }
 
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testAsyncSessionReset(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(AsyncSessionResetOption.YES);
+        KieSessionsPool pool = getKieContainer(kieBaseTestConfiguration).getKieBase().newKieSessionsPool( 2 );
+
+        try {
+            for (int i = 0; i < 20; i++) {
+                // the disposed sessions are reset in background, so they are given back only when ready
+                KieSession ksession = pool.newKieSession( conf );
+                assertThat(ksession.getGlobal("list")).isNull();
+                assertThat(ksession.getFactCount()).isEqualTo(0);
+                checkKieSession( ksession );
+                ksession.dispose();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     private void checkKieSession( KieSession ksession ) {
         List<String> list = new ArrayList<>();
         ksession.setGlobal( "list", list );
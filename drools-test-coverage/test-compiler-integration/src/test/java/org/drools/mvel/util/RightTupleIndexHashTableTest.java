@@ -43,6 +43,7 @@ import org.drools.core.test.model.Cheese;
 import org.drools.core.util.AbstractHashTable;
 import org.drools.base.util.IndexedValueReader;
 import org.drools.core.util.SingleLinkedEntry;
+import org.drools.core.util.index.ShrinkingTupleIndexHashTable;
 import org.drools.core.util.index.TupleIndexHashTable;
 import org.drools.core.util.index.TupleList;
 
@@ -577,4 +578,110 @@ public class RightTupleIndexHashTableTest {
         assertThat(map.getFirst(new LeftTuple(stiltonHandle, new MockLeftTupleSink(0), true ))).isNull();
     }
 
+    @Test
+    public void testPrimitiveEntries() throws Exception {
+        final ReadAccessor extractor = store.getReader( Cheese.class,
+                                                                "price" );
+
+        final Pattern pattern = new Pattern( 0,
+                                             new ClassObjectType( Cheese.class ) );
+
+        final Declaration declaration = new Declaration( "priceOfCheese",
+                                                         extractor,
+                                                         pattern );
+
+        final IndexedValueReader fieldIndex = new IndexedValueReader(declaration, new RightTupleValueExtractor(extractor));
+
+        final AbstractHashTable.Index index = getIndexSupplier(fieldIndex);
+        assertThat(index).isInstanceOf(AbstractHashTable.LongSingleIndex.class);
+
+        final TupleIndexHashTable map = new TupleIndexHashTable( index, false );
+
+        final InternalFactHandle stiltonHandle1 = new DefaultFactHandle( 1,
+                                                                         new Cheese( "stilton", 35 ) );
+        map.add( new RightTuple(stiltonHandle1,
+                                null ) );
+
+        final InternalFactHandle cheddarHandle1 = new DefaultFactHandle( 2,
+                                                                         new Cheese( "cheddar", 35 ) );
+        map.add( new RightTuple(cheddarHandle1,
+                                null ) );
+
+        final InternalFactHandle brieHandle1 = new DefaultFactHandle( 3,
+                                                                      new Cheese( "brie", 10 ) );
+        map.add( new RightTuple(brieHandle1,
+                                null ) );
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(tablePopulationSize(map)).isEqualTo(2);
+
+        final InternalFactHandle stiltonHandle2 = new DefaultFactHandle( 4,
+                                                                         new Cheese( "stilton", 35 ) );
+        Tuple tuple = map.getFirst( new LeftTuple( stiltonHandle2,
+                                                           new MockLeftTupleSink(0),
+                                                       true ) );
+        assertThat(tuple.getFactHandle()).isSameAs(stiltonHandle1);
+        assertThat(((Tuple) tuple.getNext()).getFactHandle()).isSameAs(cheddarHandle1);
+
+        final InternalFactHandle brieHandle2 = new DefaultFactHandle( 5,
+                                                                      new Cheese( "brie", 10 ) );
+        tuple = map.getFirst( new LeftTuple( brieHandle2,
+                                                     new MockLeftTupleSink(0),
+                                                 true ) );
+        assertThat(tuple.getFactHandle()).isSameAs(brieHandle1);
+        assertThat(tuple.getNext()).isNull();
+
+        final InternalFactHandle goudaHandle = new DefaultFactHandle( 6,
+                                                                      new Cheese( "gouda", 99 ) );
+        assertThat(map.getFirst(new LeftTuple(goudaHandle, new MockLeftTupleSink(0), true ))).isNull();
+    }
+
+    @Test
+    public void testShrinksOnAddAfterRemovals() throws Exception {
+        final ReadAccessor extractor = store.getReader( Cheese.class,
+                                                                "price" );
+
+        final Pattern pattern = new Pattern( 0,
+                                             new ClassObjectType( Cheese.class ) );
+
+        final Declaration declaration = new Declaration( "priceOfCheese",
+                                                         extractor,
+                                                         pattern );
+
+        final IndexedValueReader fieldIndex = new IndexedValueReader(declaration, new RightTupleValueExtractor(extractor));
+
+        final TupleIndexHashTable map = new ShrinkingTupleIndexHashTable( getIndexSupplier(fieldIndex), false );
+        assertThat(map.getTable().length).isEqualTo(16);
+
+        final List<TupleImpl> tuples = new ArrayList<>();
+        for ( int i = 0; i < 1000; i++ ) {
+            TupleImpl tuple = new RightTuple( new DefaultFactHandle( i, new Cheese( "cheese" + i, i ) ), null );
+            tuples.add( tuple );
+            map.add( tuple );
+        }
+        assertThat(map.size()).isEqualTo(1000);
+        assertThat(map.getTable().length).isEqualTo(2048);
+
+        for ( int i = 0; i < 995; i++ ) {
+            map.remove( tuples.get( i ) );
+        }
+        // removals can happen while iterating the table, so they never resize it
+        assertThat(map.size()).isEqualTo(5);
+        assertThat(map.getTable().length).isEqualTo(2048);
+
+        TupleImpl added = new RightTuple( new DefaultFactHandle( 1000, new Cheese( "cheese1000", 1000 ) ), null );
+        map.add( added );
+        assertThat(map.size()).isEqualTo(6);
+        assertThat(map.getTable().length).isEqualTo(16);
+
+        for ( int i = 995; i < 1000; i++ ) {
+            Tuple tuple = map.getFirst( new LeftTuple( new DefaultFactHandle( 2000 + i, new Cheese( "brie", i ) ),
+                                                       new MockLeftTupleSink(0),
+                                                       true ) );
+            assertThat(tuple.getFactHandle()).isSameAs(tuples.get( i ).getFactHandle());
+        }
+        assertThat(map.getFirst( new LeftTuple( new DefaultFactHandle( 3000, new Cheese( "brie", 5 ) ),
+                                                new MockLeftTupleSink(0),
+                                                true ) )).isNull();
+    }
 }
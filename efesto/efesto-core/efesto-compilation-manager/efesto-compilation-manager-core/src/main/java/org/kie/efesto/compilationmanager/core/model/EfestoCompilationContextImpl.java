@@ -37,9 +37,9 @@ import org.kie.efesto.compilationmanager.api.model.EfestoStringResource;
 import org.kie.efesto.compilationmanager.api.service.CompilationManager;
 import org.kie.efesto.compilationmanager.api.service.KieCompilerService;
 import org.kie.efesto.compilationmanager.api.utils.SPIUtils;
-import org.kie.memorycompiler.JavaConfiguration;
 import org.kie.memorycompiler.KieMemoryCompiler;
 import org.kie.memorycompiler.KieMemoryCompilerException;
+import org.kie.memorycompiler.KieMemoryCompilerService;
 
 import static org.kie.efesto.common.core.utils.JSONUtils.getGeneratedResourcesObject;
 import static org.kie.efesto.common.core.utils.JSONUtils.writeGeneratedResourcesObject;
@@ -52,16 +52,20 @@ public class EfestoCompilationContextImpl<T extends EfestoListener> implements E
 
     protected final KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader;
 
+    private final KieMemoryCompilerService compilerService;
+
     protected final Map<String, GeneratedResources> generatedResourcesMap = new HashMap<>();
 
     protected EfestoCompilationContextImpl(KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader) {
         this.memoryCompilerClassLoader = memoryCompilerClassLoader;
+        this.compilerService = new KieMemoryCompilerService(memoryCompilerClassLoader);
         prepareClassLoader();
         populateGeneratedResourcesMap();
     }
 
     protected EfestoCompilationContextImpl(KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader, boolean setup) {
         this.memoryCompilerClassLoader = memoryCompilerClassLoader;
+        this.compilerService = new KieMemoryCompilerService(memoryCompilerClassLoader);
         if (setup) {
             prepareClassLoader();
             populateGeneratedResourcesMap();
@@ -101,8 +105,7 @@ public class EfestoCompilationContextImpl<T extends EfestoListener> implements E
 
     @Override
     public Map<String, byte[]> compileClasses(Map<String, String> sourcesMap) {
-        return KieMemoryCompiler.compileNoLoad(sourcesMap, memoryCompilerClassLoader,
-                                               JavaConfiguration.CompilerType.NATIVE);
+        return compilerService.compileNoLoad(sourcesMap);
     }
 
     @Override
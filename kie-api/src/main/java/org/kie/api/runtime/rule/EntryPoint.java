@@ -18,7 +18,9 @@
  */
 package org.kie.api.runtime.rule;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.kie.api.runtime.ClassObjectFilter;
@@ -65,6 +67,24 @@ public interface EntryPoint {
      */
     FactHandle insert(Object object);
 
+    /**
+     * Inserts all the given facts into this entry point. Implementations are free to propagate
+     * the whole collection through the network in a single pass, making this method preferable to
+     * repeated calls to {@link #insert(Object)} when populating a session with a large number of facts.
+     *
+     * @param objects
+     *        the facts to be inserted
+     *
+     * @return the fact handles created for the given facts, in the same order of the collection
+     */
+    default List<FactHandle> insertAll(Collection<?> objects) {
+        List<FactHandle> handles = new ArrayList<>(objects.size());
+        for (Object object : objects) {
+            handles.add(insert(object));
+        }
+        return handles;
+    }
+
     /**
      * Retracts the fact for which the given FactHandle was assigned.
      *
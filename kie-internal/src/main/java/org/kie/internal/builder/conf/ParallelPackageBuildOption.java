@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.builder.conf;
+
+import org.kie.api.conf.OptionKey;
+
+/**
+ * An Enum for ParallelPackageBuildOption option. When enabled the DRL resources are parsed concurrently
+ * and the code generated for the rules of different packages is compiled concurrently.
+ *
+ * drools.parallelPackageBuild = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum ParallelPackageBuildOption implements SingleValueRuleBuilderOption {
+
+    ENABLED(true),
+    DISABLED(false);
+
+    /**
+     * The property name for the parallel package build
+     */
+    public static final String PROPERTY_NAME = "drools.parallelPackageBuild";
+
+    public static OptionKey<ParallelPackageBuildOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private boolean value;
+
+    ParallelPackageBuildOption(final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isPackageBuildParallel() {
+        return this.value;
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.conf.SingleValueRuleBaseOption;
+
+/**
+ * An Enum for alphaNodeAdaptiveIndexing option. When enabled the alpha node sink adapters
+ * sample the facts flowing through them and hash or range index the alpha nodes sharing
+ * the same field once they turn out to be frequently evaluated, even when their number
+ * is below the static alphaNodeHashingThreshold and alphaNodeRangeIndexThreshold.
+ * The alpha nodes are reorganized only when none of the sessions of the kbase is evaluating
+ * them, so the option has no effect on the kbases that don't keep track of their sessions,
+ * like the ones of the rule units.
+ *
+ * drools.alphaNodeAdaptiveIndexing = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum AlphaNodeAdaptiveIndexingOption implements SingleValueRuleBaseOption {
+
+    YES(true),
+    NO(false);
+
+    /**
+     * The property name for the alpha node adaptive indexing option
+     */
+    public static final String PROPERTY_NAME = "drools.alphaNodeAdaptiveIndexing";
+
+    public static OptionKey<AlphaNodeAdaptiveIndexingOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private boolean value;
+
+    AlphaNodeAdaptiveIndexingOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isAlphaNodeAdaptiveIndexing() {
+        return this.value;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.conf.SingleValueRuleBaseOption;
+
+/**
+ * An Enum for compactRightBetaMemory option. When enabled the indexed right memories
+ * of the beta nodes use shrinking bucket tables, sized to the live buckets: they grow from
+ * a small initial capacity and shrink back on the insertions following mass retractions.
+ * Only the bucket tables shrink, the right tuples are still one heap object per fact.
+ *
+ * drools.compactRightBetaMemory = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum CompactRightBetaMemoryOption implements SingleValueRuleBaseOption {
+
+    YES(true),
+    NO(false);
+
+    /**
+     * The property name for the compact right beta memory option
+     */
+    public static final String PROPERTY_NAME = "drools.compactRightBetaMemory";
+
+    public static OptionKey<CompactRightBetaMemoryOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private boolean value;
+
+    CompactRightBetaMemoryOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isCompactRightBetaMemory() {
+        return this.value;
+    }
+
+}
@@ -30,6 +30,9 @@ public interface RuleEventListener extends EventListener {
     default void onDeleteMatch(Match match) {}
     default void onUpdateMatch(Match match) {}
 
+    default void onBeforeFireAllRules() {}
+    default void onAfterFireAllRules(int firedMatches) {}
+
 //    to add later
 //    void onAllFiring(Rule rule);
 //    void onAllFired(Rule rule);
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An option to define if the KieSessions of a KieSessionsPool, when disposed, should be reset on a background
+ * thread instead of the one disposing them. This takes the reset out of the latency of the caller, at the price
+ * of a session not being immediately available again after its disposal, so that a pool under load could need
+ * to create some more sessions.
+ *
+ * drools.asyncSessionReset = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum AsyncSessionResetOption implements SingleValueKieSessionOption {
+
+    YES(true),
+    NO(false);
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the asynchronous session reset configuration
+     */
+    public static final String PROPERTY_NAME = "drools.asyncSessionReset";
+
+    public static OptionKey<AsyncSessionResetOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private final boolean asyncSessionReset;
+
+    AsyncSessionResetOption( final boolean asyncSessionReset ) {
+        this.asyncSessionReset = asyncSessionReset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isAsyncSessionReset() {
+        return asyncSessionReset;
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An option to define if the facts of a KieSession should be kept in an object store partitioned by class
+ * and backed by concurrent maps. This allows other threads, like the ones of a monitoring dashboard, to
+ * iterate the objects and fact handles of the session while the engine keeps inserting and deleting facts,
+ * without having to stop it or to go through its thread.
+ *
+ * drools.concurrentObjectStore = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum ConcurrentObjectStoreOption implements SingleValueKieSessionOption {
+
+    YES(true),
+    NO(false);
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the concurrent object store configuration
+     */
+    public static final String PROPERTY_NAME = "drools.concurrentObjectStore";
+
+    public static OptionKey<ConcurrentObjectStoreOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private final boolean concurrentObjectStore;
+
+    ConcurrentObjectStoreOption( final boolean concurrentObjectStore ) {
+        this.concurrentObjectStore = concurrentObjectStore;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isConcurrentObjectStore() {
+        return concurrentObjectStore;
+    }
+
+}
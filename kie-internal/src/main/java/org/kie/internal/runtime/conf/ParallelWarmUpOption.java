@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.runtime.conf.SingleValueRuleRuntimeOption;
+
+/**
+ * An option to define if the first evaluation of the network of a KieSession, typically happening on the
+ * first fireAllRules after a bulk insertion, should evaluate in parallel the rules not sharing any
+ * segment of the network. Differently from the multithread evaluation of the KieBase it doesn't impose
+ * any restriction on the rules: the ones that cannot be evaluated in parallel are simply evaluated
+ * sequentially as usual. Note that during this parallel evaluation the agenda event listeners can be
+ * invoked by different threads.
+ *
+ * drools.parallelWarmUp = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum ParallelWarmUpOption implements SingleValueRuleRuntimeOption {
+
+    YES(true),
+    NO(false);
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the parallel warm-up configuration
+     */
+    public static final String PROPERTY_NAME = "drools.parallelWarmUp";
+
+    public static OptionKey<ParallelWarmUpOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private final boolean parallelWarmUp;
+
+    ParallelWarmUpOption( final boolean parallelWarmUp ) {
+        this.parallelWarmUp = parallelWarmUp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isParallelWarmUp() {
+        return parallelWarmUp;
+    }
+
+}
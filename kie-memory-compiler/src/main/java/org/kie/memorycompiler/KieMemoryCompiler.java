@@ -57,8 +57,10 @@ public class KieMemoryCompiler {
      * @return
      */
     public static Map<String, Class<?>> compile(Map<String, String> classNameSourceMap, ClassLoader classLoader, JavaCompilerSettings compilerSettings) {
-        Map<String, byte[]> byteCode = compileNoLoad(classNameSourceMap, classLoader, compilerSettings);
+        return loadClasses(compileNoLoad(classNameSourceMap, classLoader, compilerSettings), classLoader);
+    }
 
+    static Map<String, Class<?>> loadClasses(Map<String, byte[]> byteCode, ClassLoader classLoader) {
         MemoryCompilerClassLoader kieMemoryCompilerClassLoader = new MemoryCompilerClassLoader(classLoader);
 
         Map<String, Class<?>> toReturn = new HashMap<>();
@@ -118,6 +120,17 @@ public class KieMemoryCompiler {
      * @return
      */
     public static Map<String, byte[]> compileNoLoad(Map<String, String> classNameSourceMap, ClassLoader classLoader, JavaCompilerSettings compilerSettings, JavaConfiguration.CompilerType compilerType) {
+        return compileNoLoad(createCompiler(compilerType), classNameSourceMap, classLoader, compilerSettings);
+    }
+
+    static JavaCompiler createCompiler(JavaConfiguration.CompilerType compilerType) {
+        JavaConfiguration javaConfiguration = new JavaConfiguration();
+        javaConfiguration.setCompiler(compilerType);
+        javaConfiguration.setJavaLanguageLevel(findJavaVersion());
+        return JavaCompilerFactory.loadCompiler(javaConfiguration);
+    }
+
+    static Map<String, byte[]> compileNoLoad(JavaCompiler compiler, Map<String, String> classNameSourceMap, ClassLoader classLoader, JavaCompilerSettings compilerSettings) {
         MemoryResourceReader reader = new MemoryResourceReader();
         MemoryResourceStore store = new MemoryResourceStore();
         String[] classNames = new String[classNameSourceMap.size()];
@@ -128,10 +141,6 @@ public class KieMemoryCompiler {
             reader.add( classNames[i], entry.getValue().getBytes(StandardCharsets.UTF_8));
             i++;
         }
-        JavaConfiguration javaConfiguration = new JavaConfiguration();
-        javaConfiguration.setCompiler(compilerType);
-        javaConfiguration.setJavaLanguageLevel(findJavaVersion());
-        JavaCompiler compiler = JavaCompilerFactory.loadCompiler(javaConfiguration);
         CompilationResult res = compilerSettings == null ?
                 compiler.compile( classNames, reader, store, classLoader) :
                 compiler.compile( classNames, reader, store, classLoader, compilerSettings);
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.memorycompiler;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.drools.util.StringUtils.bytesToHex;
+
+/**
+ * A reusable in-memory compiler, to be preferred to the static methods of {@link KieMemoryCompiler} when many
+ * compilations are performed against the same <code>ClassLoader</code>.
+ * All the compilations share the same {@link JavaCompiler}, so the system compiler is looked up only once and the
+ * classes found in the jars of the classpath are indexed only once. The compiled classes are also cached by the hash
+ * of their sources, so compiling again the same sources returns the former byte codes without invoking the compiler.
+ * Many small compilation units can be collected in a {@link Batch} and compiled together in a single compiler task.
+ */
+public class KieMemoryCompilerService {
+
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private final ClassLoader classLoader;
+    private final JavaCompiler compiler;
+    private final JavaCompilerSettings compilerSettings;
+    private final Map<String, Map<String, byte[]>> compiledClassesCache;
+
+    public KieMemoryCompilerService(ClassLoader classLoader) {
+        this(classLoader, JavaConfiguration.CompilerType.NATIVE, null);
+    }
+
+    public KieMemoryCompilerService(ClassLoader classLoader, JavaConfiguration.CompilerType compilerType, JavaCompilerSettings compilerSettings) {
+        this(classLoader, compilerType, compilerSettings, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param classLoader the <code>ClassLoader</code> used to resolve the classes referenced by the compiled sources
+     * @param compilerType
+     * @param compilerSettings additional compiler settings, or null to use the default ones
+     * @param cacheSize the maximum number of compilations whose results are cached, 0 to disable the cache
+     */
+    public KieMemoryCompilerService(ClassLoader classLoader, JavaConfiguration.CompilerType compilerType, JavaCompilerSettings compilerSettings, int cacheSize) {
+        this.classLoader = classLoader;
+        this.compiler = KieMemoryCompiler.createCompiler(compilerType);
+        this.compilerSettings = compilerSettings;
+        this.compiledClassesCache = cacheSize > 0 ? Collections.synchronizedMap(new LruCache(cacheSize)) : null;
+    }
+
+    /**
+     * Compile the given sources <b>without</b> adding compiled classes to the <code>ClassLoader</code> of this service
+     * <b>classNameSourceMap</b>' key must be the <b>FQDN</b> of the class to compile
+     *
+     * @param classNameSourceMap
+     * @return
+     */
+    public Map<String, Class<?>> compile(Map<String, String> classNameSourceMap) {
+        return KieMemoryCompiler.loadClasses(compileNoLoad(classNameSourceMap), classLoader);
+    }
+
+    /**
+     * Compile the given sources in a single compiler task and returns the generated byte codes
+     *
+     * @param classNameSourceMap
+     * @return
+     */
+    public Map<String, byte[]> compileNoLoad(Map<String, String> classNameSourceMap) {
+        if (compiledClassesCache == null) {
+            return KieMemoryCompiler.compileNoLoad(compiler, classNameSourceMap, classLoader, compilerSettings);
+        }
+        String sourcesHash = sourcesHash(classNameSourceMap);
+        Map<String, byte[]> compiled = compiledClassesCache.get(sourcesHash);
+        if (compiled == null) {
+            compiled = KieMemoryCompiler.compileNoLoad(compiler, classNameSourceMap, classLoader, compilerSettings);
+            compiledClassesCache.put(sourcesHash, compiled);
+        }
+        return new HashMap<>(compiled);
+    }
+
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    static String sourcesHash(Map<String, String> classNameSourceMap) {
+        MessageDigest digest = newDigest();
+        for (Map.Entry<String, String> entry : new TreeMap<>(classNameSourceMap).entrySet()) {
+            digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return bytesToHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Collects the sources of many, possibly concurrent, producers, so they can be compiled together in a single
+     * compiler task, paying the cost of the compiler initialization only once.
+     */
+    public class Batch {
+
+        private final Map<String, String> classNameSourceMap = new ConcurrentHashMap<>();
+
+        private Batch() { }
+
+        public Batch add(String className, String source) {
+            classNameSourceMap.put(className, source);
+            return this;
+        }
+
+        public Batch addAll(Map<String, String> sources) {
+            classNameSourceMap.putAll(sources);
+            return this;
+        }
+
+        public int size() {
+            return classNameSourceMap.size();
+        }
+
+        public Map<String, byte[]> compileNoLoad() {
+            return KieMemoryCompilerService.this.compileNoLoad(new HashMap<>(classNameSourceMap));
+        }
+
+        public Map<String, Class<?>> compile() {
+            return KieMemoryCompilerService.this.compile(new HashMap<>(classNameSourceMap));
+        }
+    }
+
+    private static class LruCache extends LinkedHashMap<String, Map<String, byte[]>> {
+
+        private final int maxSize;
+
+        private LruCache(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Map<String, byte[]>> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
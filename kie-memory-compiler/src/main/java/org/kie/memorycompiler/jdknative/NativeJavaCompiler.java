@@ -50,6 +50,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 
 import org.kie.memorycompiler.AbstractJavaCompiler;
@@ -66,6 +67,11 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
 
     private JavaCompilerFinder javaCompilerFinder;
 
+    private volatile JavaCompiler javaCompiler;
+
+    // the classes found in a package of a jar of the classpath, shared by all the compilations done with this compiler
+    private final Map<String, List<JavaFileObject>> jarPackagesIndex = new ConcurrentHashMap<>();
+
 	public JavaCompilerSettings createDefaultSettings() {
         return new JavaCompilerSettings();
     }
@@ -95,7 +101,7 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
                 // ignore if cannot set the classpath
             }
 
-            try (MemoryFileManager fileManager = new MemoryFileManager( jFileManager, pClassLoader )) {
+            try (MemoryFileManager fileManager = new MemoryFileManager( jFileManager, pClassLoader, jarPackagesIndex )) {
                 final List<JavaFileObject> units = new ArrayList<>();
                 for (final String sourcePath : pResourcePaths) {
                     units.add( new CompilationUnit( PortablePath.of(sourcePath), pReader ) );
@@ -124,7 +130,10 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
     }
 
     private JavaCompiler getJavaCompiler() {
-        JavaCompiler compiler = null;
+        JavaCompiler compiler = javaCompiler;
+        if (compiler != null) {
+            return compiler;
+        }
         Throwable cause = null;
         try {
             compiler = javaCompilerFinder.getJavaCompiler();
@@ -132,6 +141,7 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
             cause = ex;
         }
         if (compiler != null) {
+            javaCompiler = compiler;
             return compiler;
         }
         String message = "Cannot find the System's Java compiler. " +
@@ -303,10 +313,12 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
     private static class MemoryFileManager extends ForwardingJavaFileManager<JavaFileManager> {
         private final List<CompilationOutput> outputs = new ArrayList<>();
         private final ClassLoader classLoader;
+        private final Map<String, List<JavaFileObject>> jarPackagesIndex;
 
-        MemoryFileManager(JavaFileManager fileManager, ClassLoader classLoader) {
+        MemoryFileManager(JavaFileManager fileManager, ClassLoader classLoader, Map<String, List<JavaFileObject>> jarPackagesIndex) {
             super(fileManager);
             this.classLoader = classLoader;
+            this.jarPackagesIndex = jarPackagesIndex;
         }
 
         @Override
@@ -358,14 +370,7 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
                 while (urlEnumeration.hasMoreElements()) { // one URL for each jar on the classpath that has the given package
                     URL packageFolderURL = urlEnumeration.nextElement();
                     if (!new File(packageFolderURL.getFile()).isDirectory()) {
-                        if (result == null) {
-                            result = processJar(packageFolderURL);
-                        } else {
-                            List<JavaFileObject> classesInJar = processJar(packageFolderURL);
-                            if (classesInJar != null) {
-                                result.addAll(classesInJar);
-                            }
-                        }
+                        result.addAll(processJar(packageFolderURL));
                     }
                 }
                 return result;
@@ -375,6 +380,17 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
         }
 
         private List<JavaFileObject> processJar(URL packageFolderURL) throws IOException {
+            String packageFolder = packageFolderURL.toExternalForm();
+            List<JavaFileObject> classesInJar = jarPackagesIndex.get(packageFolder);
+            if (classesInJar == null) {
+                List<JavaFileObject> scanned = scanJar(packageFolderURL);
+                classesInJar = scanned == null ? Collections.emptyList() : Collections.unmodifiableList(scanned);
+                jarPackagesIndex.put(packageFolder, classesInJar);
+            }
+            return classesInJar;
+        }
+
+        private List<JavaFileObject> scanJar(URL packageFolderURL) throws IOException {
             String jarUri = jarUri(packageFolderURL.toExternalForm());
 
             URLConnection urlConnection = packageFolderURL.openConnection();
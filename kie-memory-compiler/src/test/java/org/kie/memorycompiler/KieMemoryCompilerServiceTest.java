@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.memorycompiler;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class KieMemoryCompilerServiceTest {
+
+    private final static String EXAMPLE_CLASS =
+            "package org.kie.memorycompiler;\n" +
+            "\n" +
+            "public class ExampleClass {\n" +
+            "\n" +
+            "    public int sum(Integer a, Integer b){\n" +
+            "        return a + b;\n" +
+            "    }\n" +
+            "}";
+
+    private final static String CALLER_CLASS =
+            "package org.kie.memorycompiler;\n" +
+            "\n" +
+            "public class CallerClass {\n" +
+            "\n" +
+            "    public int twice(Integer a){\n" +
+            "        return new ExampleClass().sum(a, a);\n" +
+            "    }\n" +
+            "}";
+
+    @Test
+    public void compileAndLoadClass() throws Exception {
+        KieMemoryCompilerService compilerService = new KieMemoryCompilerService(this.getClass().getClassLoader());
+        Map<String, Class<?>> compiled = compilerService.compile(singletonMap("org.kie.memorycompiler.ExampleClass", EXAMPLE_CLASS));
+
+        Class<?> exampleClazz = compiled.get("org.kie.memorycompiler.ExampleClass");
+        assertThat(exampleClazz).isNotNull();
+
+        Object instance = exampleClazz.getDeclaredConstructors()[0].newInstance();
+        Method sumMethod = exampleClazz.getMethod("sum", Integer.class, Integer.class);
+        assertThat(sumMethod.invoke(instance, 2, 3)).isEqualTo(5);
+    }
+
+    @Test
+    public void compiledClassesAreCachedBySources() {
+        KieMemoryCompilerService compilerService = new KieMemoryCompilerService(this.getClass().getClassLoader());
+        Map<String, String> source = singletonMap("org.kie.memorycompiler.ExampleClass", EXAMPLE_CLASS);
+
+        byte[] first = compilerService.compileNoLoad(source).get("org.kie.memorycompiler.ExampleClass");
+        byte[] second = compilerService.compileNoLoad(source).get("org.kie.memorycompiler.ExampleClass");
+        assertThat(second).isSameAs(first);
+
+        Map<String, String> changedSource = singletonMap("org.kie.memorycompiler.ExampleClass", EXAMPLE_CLASS.replace("a + b", "b + a"));
+        assertThat(compilerService.compileNoLoad(changedSource).get("org.kie.memorycompiler.ExampleClass")).isNotSameAs(first);
+    }
+
+    @Test
+    public void disabledCache() {
+        KieMemoryCompilerService compilerService = new KieMemoryCompilerService(this.getClass().getClassLoader(), JavaConfiguration.CompilerType.NATIVE, null, 0);
+        Map<String, String> source = singletonMap("org.kie.memorycompiler.ExampleClass", EXAMPLE_CLASS);
+
+        byte[] first = compilerService.compileNoLoad(source).get("org.kie.memorycompiler.ExampleClass");
+        byte[] second = compilerService.compileNoLoad(source).get("org.kie.memorycompiler.ExampleClass");
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    public void compileBatch() throws Exception {
+        KieMemoryCompilerService compilerService = new KieMemoryCompilerService(this.getClass().getClassLoader());
+        KieMemoryCompilerService.Batch batch = compilerService.newBatch()
+                .add("org.kie.memorycompiler.ExampleClass", EXAMPLE_CLASS)
+                .add("org.kie.memorycompiler.CallerClass", CALLER_CLASS);
+        assertThat(batch.size()).isEqualTo(2);
+
+        Map<String, Class<?>> compiled = batch.compile();
+        assertThat(compiled).containsOnlyKeys("org.kie.memorycompiler.ExampleClass", "org.kie.memorycompiler.CallerClass");
+
+        Class<?> callerClazz = compiled.get("org.kie.memorycompiler.CallerClass");
+        Object instance = callerClazz.getDeclaredConstructors()[0].newInstance();
+        Method twiceMethod = callerClazz.getMethod("twice", Integer.class);
+        assertThat(twiceMethod.invoke(instance, 4)).isEqualTo(8);
+    }
+
+    @Test
+    public void invalidClass() {
+        KieMemoryCompilerService compilerService = new KieMemoryCompilerService(this.getClass().getClassLoader());
+        Map<String, String> source = singletonMap("org.kie.memorycompiler.InvalidJavaClass", "Invalid Java Code");
+        assertThatExceptionOfType(KieMemoryCompilerException.class).isThrownBy(() -> compilerService.compileNoLoad(source));
+        assertThatExceptionOfType(KieMemoryCompilerException.class).isThrownBy(() -> compilerService.compileNoLoad(source));
+    }
+}